@@ -0,0 +1,177 @@
+package com.nexus.repository;
+
+import com.nexus.dto.GameRoomDto;
+import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomParticipant;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.Lane;
+import com.nexus.entity.Role;
+import com.nexus.entity.TeamCompositionMethod;
+import com.nexus.entity.User;
+import com.nexus.mapper.GameRoomMapper;
+import com.nexus.service.RoomChange;
+import com.nexus.service.RoomStatePersister;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 목록/상세 조회와 참가/팀 구성 반영이 각각 몇 개의 SQL 문으로 끝나는지 Hibernate 통계로 확인합니다.
+ * 운영과 같은 PostgreSQL을 컨테이너로 띄워 실행하며 (Docker가 없으면 건너뜀),
+ * 테스트 데이터는 테스트 트랜잭션과 함께 롤백됩니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RoomStatePersister.class)
+@Testcontainers(disabledWithoutDocker = true)
+class GameRoomRepositoryTest {
+
+    private static final int PARTICIPANTS = 10;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private GameRoomRepository gameRoomRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RoomStatePersister persister;
+
+    private final GameRoomMapper gameRoomMapper = new GameRoomMapper();
+    private Statistics statistics;
+    private String roomCode;
+    private Long roomId;
+    private final List<Long> participantIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        roomCode = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+
+        User host = user();
+        GameRoom gameRoom = new GameRoom();
+        gameRoom.setRoomCode(roomCode);
+        gameRoom.setTitle("쿼리 수 확인");
+        gameRoom.setMaxParticipants(PARTICIPANTS);
+        gameRoom.setHost(host);
+        entityManager.persist(gameRoom);
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            GameRoomParticipant participant = new GameRoomParticipant();
+            participant.setGameRoom(gameRoom);
+            participant.setUser(i == 0 ? host : user());
+            gameRoom.getParticipants().add(participant);
+            entityManager.persist(participant);
+            participantIds.add(participant.getUser().getId());
+        }
+        roomId = gameRoom.getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("상세 조회와 DTO 변환은 참가자 수와 관계없이 쿼리 한 번으로 끝난다")
+    void detailLookupIsASingleStatement() {
+        GameRoomDto.Response response = gameRoomRepository.findDetailByRoomCode(roomCode)
+                .map(gameRoomMapper::toResponseDto)
+                .orElseThrow();
+
+        assertThat(response.getParticipants()).hasSize(PARTICIPANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("엔티티 그래프 없이 조회하면 방장/참가자/유저마다 추가 쿼리가 나간다 (비교용)")
+    void plainLookupLoadsLazily() {
+        GameRoomDto.Response response = gameRoomRepository.findByRoomCode(roomCode)
+                .map(gameRoomMapper::toResponseDto)
+                .orElseThrow();
+
+        assertThat(response.getParticipants()).hasSize(PARTICIPANTS);
+        // 방 1 + 방장 1 + 참가자 목록 1 + (방장을 제외한) 참가자 유저 N-1
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("로비 목록은 첫 페이지와 커서 이후 페이지 모두 참가자 수까지 쿼리 한 번으로 가져온다")
+    void listingIsASingleStatementPerPage() {
+        EnumSet<GameRoomStatus> statuses = EnumSet.of(GameRoomStatus.WAITING);
+
+        List<GameRoomRepository.SummaryView> first = gameRoomRepository.findFirstSummaries(statuses, PageRequest.ofSize(20));
+        assertThat(first).anySatisfy(summary -> {
+            assertThat(summary.getRoomCode()).isEqualTo(roomCode);
+            assertThat(summary.getCurrentParticipants()).isEqualTo(PARTICIPANTS);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        GameRoomRepository.SummaryView last = first.get(first.size() - 1);
+        gameRoomRepository.findSummariesAfter(statuses, last.getCreatedAt(), last.getId(), PageRequest.ofSize(20));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참가 반영은 방 버전 확인과 참가자 INSERT 두 문으로 끝난다")
+    void joinIsTwoStatements() {
+        User joiner = user();
+        entityManager.flush();
+        long version = gameRoomRepository.findVersionById(roomId).orElseThrow().getVersion();
+        statistics.clear();
+
+        persister.apply(roomId, version, List.of(new RoomChange.ParticipantJoined(roomId, joiner.getId(), LocalDateTime.now())));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("팀 구성 반영은 방/참가자 엔티티를 읽지 않고 버전 확인, 참가자별 UPDATE, 상태 UPDATE만 실행한다")
+    void teamCompositionSkipsEntityReads() {
+        long version = gameRoomRepository.findVersionById(roomId).orElseThrow().getVersion();
+        statistics.clear();
+
+        List<RoomChange> changes = new ArrayList<>();
+        for (int i = 0; i < participantIds.size(); i++) {
+            changes.add(new RoomChange.TeamAssigned(roomId, participantIds.get(i), 1, i % 2 + 1, Lane.values()[i / 2 % Lane.values().length]));
+        }
+        changes.add(new RoomChange.StatusChanged(roomId, GameRoomStatus.AUTO_TEAM_COMPOSITION, TeamCompositionMethod.AUTO));
+        persister.apply(roomId, version, changes);
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + PARTICIPANTS + 1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private User user() {
+        String id = UUID.randomUUID().toString();
+        User user = new User();
+        user.setEmail(id + "@nexus.gg");
+        user.setNickname(id);
+        user.setRole(Role.USER);
+        entityManager.persist(user);
+        return user;
+    }
+}
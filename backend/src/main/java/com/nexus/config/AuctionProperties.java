@@ -0,0 +1,29 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auction")
+public class AuctionProperties {
+
+    // 팀장 한 명에게 주어지는 시작 포인트
+    private int budget = 1000;
+    // 첫 입찰 최소 금액 / 이후 최소 인상 폭
+    private int minBid = 10;
+    private int minIncrement = 10;
+
+    // 매물(참가자) 하나의 입찰 시간
+    private long lotDurationMs = 15_000;
+    // 마감 직전 입찰 시 남은 시간을 최소 이 값으로 늘립니다.
+    private long bidExtensionMs = 5_000;
+    // 낙찰 후 다음 매물을 열기까지의 간격
+    private long lotIntervalMs = 2_000;
+
+    // 방별 이벤트 루프를 나눠 맡는 스레드 수 (방 하나는 항상 같은 스레드에서 처리)
+    private int eventLoopThreads = Runtime.getRuntime().availableProcessors();
+}
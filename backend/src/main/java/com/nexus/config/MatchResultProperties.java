@@ -0,0 +1,28 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "match-results")
+public class MatchResultProperties {
+
+    // 콜백 처리 스레드 수와 대기 큐 크기 (큐가 가득 차면 저장만 해 두고 주기 점검에서 다시 넣습니다)
+    private int workers = 2;
+    private int queueCapacity = 1_000;
+
+    // 매치 상세가 아직 없거나 처리에 실패했을 때의 재시도 횟수와 첫 대기 시간 (이후 두 배씩 증가)
+    private int maxAttempts = 8;
+    private long retryBackoffMs = 30_000;
+    private long maxRetryBackoffMs = 1_800_000;
+    // 매치 상세 조회 대기 시간
+    private long detailTimeoutMs = 15_000;
+
+    // 대기 중인 콜백을 다시 큐에 넣는 주기와 한 번에 넣는 최대 개수
+    private long sweepIntervalMs = 30_000;
+    private int sweepBatchSize = 100;
+}
@@ -0,0 +1,29 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rank-sync")
+public class RankSyncProperties {
+
+    private boolean enabled = true;
+
+    // 한 번에 조회/갱신하는 사용자 수와, 실행 한 번에 처리할 최대 청크 수 (남은 사용자는 다음 실행에서 이어서 처리)
+    private int chunkSize = 100;
+    private int chunksPerRun = 10;
+    // 청크 안에서 동시에 진행하는 Riot API 조회 수 (실제 호출 속도는 RiotRateLimiter가 조절)
+    private int concurrency = 4;
+
+    // 이 기간 안에 로그인/방 참가한 사용자는 활성 사용자로 보고 더 자주 동기화합니다.
+    private long activeWindowMs = 604_800_000;
+    // 마지막 동기화 후 이 시간이 지나지 않은 사용자는 건너뜁니다.
+    private long minResyncIntervalMs = 600_000;
+
+    // 여러 노드 중 한 곳에서만 실행되도록 잡는 Redis 락의 유지 시간
+    private long lockTtlMs = 600_000;
+}
@@ -0,0 +1,69 @@
+package com.nexus.config;
+
+import com.nexus.security.RateLimitTier;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 요청 한도 정책. 실행 중에는 /actuator/ratelimits로 바꿀 수 있습니다 (RateLimitPolicyEngine).
+ * 한 요청에는 경로 → 사용자 → 역할 → 한도 종류 순으로 처음 정해진 정책 하나가 적용됩니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 한도 종류별 분당 요청 수 (지속 한도)
+    private long generalRequestsPerMinute = 60;
+    private long authRequestsPerMinute = 10;
+    private long sensitiveRequestsPerMinute = 5;
+
+    // 한도 종류별 버스트 한도 등 추가 설정 (requests-per-minute를 지정하면 위 값을 덮어씀)
+    private Map<RateLimitTier, Policy> tiers = new LinkedHashMap<>();
+
+    // 경로 템플릿 패턴별 정책 (위에서부터 처음 맞는 것 사용)
+    private List<RoutePolicy> routes = new ArrayList<>();
+
+    // 로그인한 사용자의 역할(JWT role 클레임)별 정책
+    private Map<String, Policy> roles = new LinkedHashMap<>();
+
+    // 로그인한 사용자(JWT subject = 사용자 ID)별 정책
+    private Map<String, Policy> users = new LinkedHashMap<>();
+
+    public long requestsPerMinute(RateLimitTier tier) {
+        return switch (tier) {
+            case GENERAL -> generalRequestsPerMinute;
+            case AUTH -> authRequestsPerMinute;
+            case SENSITIVE -> sensitiveRequestsPerMinute;
+        };
+    }
+
+    /**
+     * 한도 정책: 지속 한도(분당 requestsPerMinute회)와 버스트 한도(burstPeriodMs 동안 burstCapacity회)를 모두 만족해야 통과합니다.
+     * 0 이하인 한도는 적용하지 않으며, 경로/역할/사용자 정책은 둘 중 하나 이상이 0보다 커야 합니다.
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+        private long requestsPerMinute;
+        private long burstCapacity;
+        private long burstPeriodMs = 1_000;
+    }
+
+    // pattern: 경로 템플릿에 대한 Ant 패턴 (예: /api/games/{roomCode}/join, /api/stats/**)
+    @Getter
+    @Setter
+    public static class RoutePolicy extends Policy {
+        private String pattern;
+    }
+}
@@ -1,15 +1,104 @@
 package com.nexus.config;
 
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Getter
 @Setter
 @Configuration
 @ConfigurationProperties(prefix = "riot.api")
 public class RiotApiProperties {
+    // 로컬 목 서버로 테스트할 때 바꿉니다.
+    private String baseUrl = "https://americas.api.riotgames.com";
+    // 플랫폼 라우팅 API(league-v4 등) 호스트
+    private String platformUrl = "https://kr.api.riotgames.com";
+    // 한국 서버 매치(match-v5) 조회용 리전 호스트
+    private String regionalUrl = "https://asia.api.riotgames.com";
     private String callbackUrl;
+    // 콜백 URL의 secret 쿼리 파라미터가 이 값과 같아야 받습니다 (provider 등록 시 URL에 포함).
+    // 스텁 API가 아니면 필수입니다 (비어 있으면 시작하지 않음).
+    private String callbackSecret;
     private boolean useStub;
-}
\ No newline at end of file
+
+    // 미리 등록해 둔 provider/tournament ID. 비어 있으면 최초 사용 시 한 번 등록한 뒤 재사용합니다.
+    private Long providerId;
+    private Long tournamentId;
+    private String tournamentName = "Nexus";
+
+    // 토너먼트 코드 생성 요청 한 번에 받을 최대 개수 (Riot API 상한 1000)
+    private int codesPerRequest = 100;
+    // 토너먼트 코드 생성 요청 동시 실행 수
+    private int codeRequestConcurrency = 4;
+
+    private RateLimit rateLimit = new RateLimit();
+    private Pool pool = new Pool();
+    private Cache cache = new Cache();
+
+    @PostConstruct
+    void validateCallbackSecret() {
+        if (!useStub && !hasCallbackSecret()) {
+            throw new IllegalStateException(
+                    "riot.api.callback-secret(RIOT_CALLBACK_SECRET)을 설정해야 합니다. 없으면 누구나 경기 결과 콜백을 보낼 수 있습니다.");
+        }
+    }
+
+    public boolean hasCallbackSecret() {
+        return callbackSecret != null && !callbackSecret.isBlank();
+    }
+
+    /**
+     * provider 등록/콜백 발송에 쓰는 URL. 비밀값이 있으면 secret 쿼리 파라미터로 붙입니다.
+     */
+    public String callbackUrlWithSecret() {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(callbackUrl);
+        if (hasCallbackSecret()) {
+            uri.replaceQueryParam("secret", callbackSecret);
+        }
+        return uri.encode().build().toUriString();
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        // 응답 헤더를 받기 전까지 쓰는 앱 한도 ("횟수:초" 목록, 개발 키 기본값)
+        private String defaultAppLimits = "20:1,100:120";
+        // 토큰을 기다릴 수 있는 최대 시간 (넘으면 요청 실패)
+        private long maxWaitMs = 30_000;
+        // 429 응답 재시도 횟수와 Retry-After가 없을 때의 백오프 기준 / 지터 상한
+        private int maxRetries = 3;
+        private long backoffMs = 1_000;
+        private long maxJitterMs = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // 커넥션 풀 크기와 커넥션을 기다릴 수 있는 요청 수/시간
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 500;
+        private long pendingAcquireTimeoutMs = 5_000;
+        // 유휴/최대 수명을 넘긴 커넥션은 백그라운드에서 정리합니다.
+        private long maxIdleTimeMs = 30_000;
+        private long maxLifeTimeMs = 300_000;
+        private long evictInBackgroundMs = 30_000;
+        // 연결 / 응답 대기 제한
+        private int connectTimeoutMs = 3_000;
+        private long responseTimeoutMs = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        // 노드별 메모리 캐시(Caffeine)의 최대 항목 수 (계정/랭크 각각)
+        private long maximumSize = 10_000;
+        // Riot ID → 계정 정보 보관 기간 (메모리/Redis 공통)
+        private long accountTtlMs = 86_400_000;
+        // 랭크 정보 보관 기간과, 조회가 계속되는 항목을 백그라운드에서 새로 받아 오는 주기
+        private long rankTtlMs = 3_600_000;
+        private long rankRefreshAfterMs = 600_000;
+    }
+}
@@ -0,0 +1,63 @@
+package com.nexus.config;
+
+import com.nexus.service.RiotRateLimiter;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Riot API 전용 WebClient 설정입니다.
+ * 전용 커넥션 풀(크기/대기열/유휴 정리)과 연결·응답 타임아웃을 두어 느린 업스트림이 이벤트 루프 자원을 붙잡지 않도록 하고,
+ * 풀 사용량(reactor.netty.connection.provider.*)과 요청 지연 히스토그램(reactor.netty.http.client.*, http.client.requests)을
+ * Micrometer로 내보냅니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RiotWebClientConfig {
+
+    private final RiotApiProperties riotApiProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider riotConnectionProvider() {
+        RiotApiProperties.Pool pool = riotApiProperties.getPool();
+        return ConnectionProvider.builder("riot-api")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMs()))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient riotWebClient(WebClient.Builder webClientBuilder,
+                                   ConnectionProvider riotConnectionProvider,
+                                   RiotRateLimiter riotRateLimiter,
+                                   @Value("${RIOT_API_KEY}") String riotApiKey) {
+        RiotApiProperties.Pool pool = riotApiProperties.getPool();
+        HttpClient httpClient = HttpClient.create(riotConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(pool.getResponseTimeoutMs()))
+                // uri 태그는 경로 변수를 접은 라우트로 기록해 메트릭 태그 수가 늘어나지 않도록 합니다.
+                .metrics(true, uri -> RiotRateLimiter.route(uri.split("\\?", 2)[0]));
+
+        // 모든 요청이 앱/메서드 한도를 공유하는 레이트 리미터를 거칩니다.
+        return webClientBuilder.clone()
+                .baseUrl(riotApiProperties.getBaseUrl())
+                .defaultHeader("X-Riot-Token", riotApiKey)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(riotRateLimiter)
+                .build();
+    }
+}
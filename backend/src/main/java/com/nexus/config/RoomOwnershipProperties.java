@@ -0,0 +1,36 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 방 소유 노드 설정 (RedisRoomOwnership). simple 모드에서는 쓰지 않습니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "room-ownership")
+public class RoomOwnershipProperties {
+
+    // 방 소유 임대 시간 (ms). 소유 노드가 갱신하지 못하면 이 시간 뒤 다른 노드가 방을 가져갑니다.
+    private long leaseTtlMs = 15_000;
+
+    // 임대 갱신 주기 (ms, lease-ttl-ms보다 충분히 짧게)
+    private long renewIntervalMs = 5_000;
+
+    // 소유 노드로 넘긴 방 요청의 응답 대기 시간 (ms)
+    private long requestTimeoutMs = 10_000;
+
+    // 소유 노드로 넘긴 게임 시작 요청의 응답 대기 시간 (ms)
+    // 소유 노드는 Riot 코드 발급을 이 시간에서 request-timeout-ms를 뺀 시간 안에 끝내지 못하면 실패로 처리하므로,
+    // 호출 노드가 먼저 포기한 뒤에 소유 노드가 매치를 만드는 일이 없습니다.
+    private long startMatchesTimeoutMs = 90_000;
+
+    // 다른 노드에서 넘어온 방 요청을 처리할 스레드 수
+    private int commandThreads = 8;
+
+    // 노드별 방 요청 채널 접두사 (뒤에 노드 ID)
+    private String channelPrefix = "nexus:rooms:node:";
+}
@@ -16,16 +16,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
@@ -43,9 +42,6 @@ public class SecurityConfig {
     private final SecurityHeadersFilter securityHeadersFilter;
     private final OAuth2Service oauth2Service;
 
-    @Value("${jwt.secret:dev-secret}")
-    private String jwtSecret;
-
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private String[] allowedOrigins;
 
@@ -60,7 +56,8 @@ public class SecurityConfig {
 
         http
             .addFilterBefore(securityHeadersFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
+            // 로그인한 사용자별 한도를 적용할 수 있도록 JWT 인증 다음에 실행합니다.
+            .addFilterAfter(rateLimitingFilter, BearerTokenAuthenticationFilter.class)
             .cors(withDefaults())
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -93,8 +90,13 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
+                // 요청 한도 정책 변경은 관리자만
+                .requestMatchers("/actuator/ratelimits/**").access(new WebExpressionAuthorizationManager(
+                    "isAuthenticated() and principal.getClaimAsString('role') == 'ADMIN'"))
                 .requestMatchers("/error").permitAll()
                 .requestMatchers("/login").permitAll()
+                // WebSocket 핸드셰이크는 헤더를 붙일 수 없으므로 STOMP CONNECT에서 인증합니다 (WebSocketAuthInterceptor).
+                .requestMatchers("/ws-nexus/**").permitAll()
 
                 // 게임 방 목록 조회는 인증 없이 허용 (선택사항)
                 .requestMatchers("GET", "/api/games").permitAll()
@@ -120,13 +122,6 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public JwtDecoder jwtDecoder() {
-        byte[] secretBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        SecretKeySpec secretKey = new SecretKeySpec(secretBytes, "HmacSHA256");
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
-    }
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,54 @@
+package com.nexus.config;
+
+import com.nexus.security.JwtTokenManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization: Bearer 헤더로 세션 사용자를 인증합니다.
+ * 브라우저 WebSocket은 핸드셰이크에 헤더를 붙일 수 없으므로 HTTP 필터 대신 여기서 JWT를 확인하고,
+ * 인증된 사용자(이름 = JWT subject = userId)를 세션에 설정합니다. 토큰이 없거나 유효하지 않으면 연결을 거절합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketAuthInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenManager jwtTokenManager;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new AuthenticationCredentialsNotFoundException("인증이 필요합니다.");
+        }
+        try {
+            Jwt jwt = jwtTokenManager.decodeAccessToken(authorization.substring(BEARER_PREFIX.length()));
+            accessor.setUser(new JwtAuthenticationToken(jwt));
+        } catch (JwtException e) {
+            log.debug("Rejected WebSocket CONNECT: {}", e.getMessage());
+            throw new BadCredentialsException("유효하지 않은 토큰입니다.", e);
+        }
+        return message;
+    }
+}
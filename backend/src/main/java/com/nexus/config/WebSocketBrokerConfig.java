@@ -0,0 +1,51 @@
+package com.nexus.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.service.LocalRoomEventRelay;
+import com.nexus.service.LocalRoomOwnership;
+import com.nexus.service.RedisRoomEventRelay;
+import com.nexus.service.RedisRoomOwnership;
+import com.nexus.service.RoomEventRelay;
+import com.nexus.service.RoomOwnership;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@Configuration
+public class WebSocketBrokerConfig {
+
+    /**
+     * 브로커 모드에 맞는 방 이벤트 전달 경로를 선택합니다.
+     * redis 모드만 노드 간 중계가 필요하고, simple/relay 모드는 로컬 브로커로 바로 보냅니다.
+     */
+    @Bean
+    public RoomEventRelay roomEventRelay(WebSocketBrokerProperties brokerProperties,
+                                         SimpMessagingTemplate messagingTemplate,
+                                         ObjectProvider<StringRedisTemplate> redisTemplate,
+                                         ObjectProvider<RedisConnectionFactory> connectionFactory,
+                                         ObjectMapper objectMapper) {
+        if (brokerProperties.getMode() == WebSocketBrokerProperties.Mode.REDIS) {
+            return new RedisRoomEventRelay(messagingTemplate, redisTemplate.getObject(),
+                    connectionFactory.getObject(), objectMapper, brokerProperties.getRedisChannel());
+        }
+        return new LocalRoomEventRelay(messagingTemplate);
+    }
+
+    /**
+     * 방 소유 노드를 정하는 방식을 선택합니다.
+     * simple 모드는 단일 노드라 이 노드가 모든 방을 소유하고, relay/redis 모드는 Redis 임대로 방마다 한 노드만 소유합니다.
+     */
+    @Bean
+    public RoomOwnership roomOwnership(WebSocketBrokerProperties brokerProperties,
+                                       RoomOwnershipProperties ownershipProperties,
+                                       ObjectProvider<StringRedisTemplate> redisTemplate,
+                                       ObjectProvider<RedisConnectionFactory> connectionFactory) {
+        if (brokerProperties.getMode() == WebSocketBrokerProperties.Mode.SIMPLE) {
+            return new LocalRoomOwnership();
+        }
+        return new RedisRoomOwnership(redisTemplate.getObject(), connectionFactory.getObject(), ownershipProperties);
+    }
+}
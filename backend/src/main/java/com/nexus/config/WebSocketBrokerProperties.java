@@ -0,0 +1,32 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "websocket.broker")
+public class WebSocketBrokerProperties {
+
+    // simple: 단일 노드 인메모리 브로커, relay: 외부 STOMP 브로커 릴레이, redis: 노드별 인메모리 브로커 + Redis pub/sub 중계
+    private Mode mode = Mode.SIMPLE;
+
+    // relay 모드 설정 (RabbitMQ/ActiveMQ 등 STOMP 브로커)
+    private String relayHost = "localhost";
+    private int relayPort = 61613;
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+    private String virtualHost;
+
+    // redis 모드에서 방 이벤트를 중계할 채널
+    private String redisChannel = "nexus:ws:room-events";
+
+    public enum Mode {
+        SIMPLE, RELAY, REDIS
+    }
+}
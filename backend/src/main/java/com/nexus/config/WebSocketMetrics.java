@@ -0,0 +1,42 @@
+package com.nexus.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 채널 스레드 풀의 대기열 길이/활성 스레드를 Actuator(/actuator/metrics)로 노출합니다.
+ */
+@Component
+public class WebSocketMetrics implements MeterBinder {
+
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+
+    public WebSocketMetrics(@Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindExecutor(registry, "inbound", inboundExecutor);
+        bindExecutor(registry, "outbound", outboundExecutor);
+    }
+
+    private void bindExecutor(MeterRegistry registry, String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("nexus.websocket.channel.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", channel)
+                .description("Messages waiting in the STOMP channel executor queue")
+                .register(registry);
+        Gauge.builder("nexus.websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .description("Threads currently handling STOMP channel messages")
+                .register(registry);
+    }
+}
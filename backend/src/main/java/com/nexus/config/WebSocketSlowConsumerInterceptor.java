@@ -0,0 +1,117 @@
+package com.nexus.config;
+
+import com.nexus.service.RoomEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 → 클라이언트 채널에서 세션별 전송 대기 메시지 수를 추적합니다.
+ * 대기 메시지가 임계치를 넘은 느린 세션에는 방 이벤트(/topic/rooms/**)를 더 쌓지 않고 버립니다.
+ * 방 이벤트는 sequence 번호가 있으므로 클라이언트가 누락을 감지해 스냅샷으로 복구할 수 있습니다.
+ * 세션 항목은 CONNECT 때 만들고 연결이 끊기면 지우므로, 끊긴 뒤 도착한 메시지가 항목을 다시 만들지 않습니다.
+ */
+@Component
+@Slf4j
+public class WebSocketSlowConsumerInterceptor implements ExecutorChannelInterceptor {
+
+    private final int threshold;
+    private final Map<String, AtomicInteger> pendingBySession = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+
+    public WebSocketSlowConsumerInterceptor(WebSocketTransportProperties transportProperties, MeterRegistry meterRegistry) {
+        this.threshold = transportProperties.getSlowConsumerThreshold();
+        this.droppedCounter = Counter.builder("nexus.websocket.slow_consumer.dropped")
+                .description("Room events dropped for slow WebSocket sessions")
+                .register(meterRegistry);
+        Gauge.builder("nexus.websocket.slow_consumer.sessions", this, WebSocketSlowConsumerInterceptor::countSlowSessions)
+                .description("WebSocket sessions currently over the pending message threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+
+        AtomicInteger pending = pendingBySession.get(sessionId);
+        if (pending == null) {
+            return message;
+        }
+        if (pending.get() >= threshold && isDroppable(message)) {
+            droppedCounter.increment();
+            log.debug("Dropping room event for slow WebSocket session {} ({} pending)", sessionId, pending.get());
+            return null;
+        }
+        pending.incrementAndGet();
+        return message;
+    }
+
+    // 실행기가 작업을 거절했거나(대기열 가득 참) 뒤쪽 인터셉터가 막아 전송되지 않은 메시지는 여기서 되돌립니다.
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            pendingBySession.putIfAbsent(sessionId, new AtomicInteger());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        pendingBySession.remove(event.getSessionId());
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return;
+        }
+        AtomicInteger pending = pendingBySession.get(sessionId);
+        if (pending != null) {
+            pending.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    private boolean isDroppable(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && destination.startsWith(RoomEventPublisher.ROOM_TOPIC_PREFIX);
+    }
+
+    private double countSlowSessions() {
+        return pendingBySession.values().stream()
+                .filter(pending -> pending.get() >= threshold)
+                .count();
+    }
+}
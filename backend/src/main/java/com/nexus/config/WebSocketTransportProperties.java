@@ -0,0 +1,39 @@
+package com.nexus.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "websocket.transport")
+public class WebSocketTransportProperties {
+
+    // 세션 하나에 메시지를 보내는 데 허용하는 최대 시간 / 전송 대기 버퍼 크기 (초과 시 세션 종료)
+    private int sendTimeLimitMs = 10_000;
+    private int sendBufferSizeLimit = 512 * 1024;
+    // 수신 메시지 최대 크기
+    private int messageSizeLimit = 64 * 1024;
+
+    // 클라이언트 → 서버 채널 스레드 풀
+    private Pool inbound = new Pool();
+    // 서버 → 클라이언트 채널 스레드 풀
+    private Pool outbound = new Pool();
+
+    // 세션별 전송 대기 메시지가 이 수 이상이면 느린 소비자로 보고 방 이벤트를 버립니다.
+    // (클라이언트는 sequence 누락을 감지해 스냅샷으로 복구)
+    private int slowConsumerThreshold = 32;
+
+    // 방 이벤트를 모아 한 번에 보내는 구간 (0 이하이면 묶지 않고 즉시 전송)
+    private long roomEventCoalesceWindowMs = 50;
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+        private int queueCapacity = 10_000;
+    }
+}
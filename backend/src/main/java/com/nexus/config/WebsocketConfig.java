@@ -1,5 +1,8 @@
 package com.nexus.config;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,11 +11,36 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 
 @Configuration
 @EnableWebSocketMessageBroker // WebSocket 메시지 브로커 활성화
+@RequiredArgsConstructor
+@Slf4j
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketBrokerProperties brokerProperties;
+    private final WebSocketTransportProperties transportProperties;
+    private final WebSocketSlowConsumerInterceptor slowConsumerInterceptor;
+    private final WebSocketAuthInterceptor authInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if (brokerProperties.getMode() == WebSocketBrokerProperties.Mode.RELAY) {
+            // 외부 STOMP 브로커가 구독/전달을 담당하므로 어느 노드에 연결된 클라이언트든 같은 메시지를 받습니다.
+            log.info("Using external STOMP broker relay at {}:{}",
+                    brokerProperties.getRelayHost(), brokerProperties.getRelayPort());
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(brokerProperties.getRelayHost())
+                    .setRelayPort(brokerProperties.getRelayPort())
+                    .setClientLogin(brokerProperties.getClientLogin())
+                    .setClientPasscode(brokerProperties.getClientPasscode())
+                    .setSystemLogin(brokerProperties.getSystemLogin())
+                    .setSystemPasscode(brokerProperties.getSystemPasscode())
+                    .setVirtualHost(brokerProperties.getVirtualHost())
+                    // 이 노드에 연결되지 않은 사용자에게 보낸 /user/.. 메시지(입찰 거절 등)는 다른 노드가 전달하도록 방송합니다.
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            // simple/redis 모드: 노드별 인메모리 브로커 (redis 모드는 RedisRoomEventRelay가 노드 간 중계)
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -22,4 +50,32 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-nexus").setAllowedOrigins("*").withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트가 서버 전송 버퍼를 무한정 점유하지 않도록 세션별 상한을 둡니다.
+        registration.setSendTimeLimit(transportProperties.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(transportProperties.getSendBufferSizeLimit())
+                .setMessageSizeLimit(transportProperties.getMessageSizeLimit());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        WebSocketTransportProperties.Pool pool = transportProperties.getInbound();
+        registration.taskExecutor()
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaxPoolSize())
+                .queueCapacity(pool.getQueueCapacity());
+        registration.interceptors(authInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        WebSocketTransportProperties.Pool pool = transportProperties.getOutbound();
+        registration.taskExecutor()
+                .corePoolSize(pool.getCorePoolSize())
+                .maxPoolSize(pool.getMaxPoolSize())
+                .queueCapacity(pool.getQueueCapacity());
+        registration.interceptors(slowConsumerInterceptor);
+    }
+
 }
@@ -0,0 +1,32 @@
+package com.nexus.controller;
+
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.MatchCallbackDto;
+import com.nexus.service.FakeCallbackSender;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+// 스텁 모드(riot.api.use-stub=true)에서만 등록되는 로컬 테스트용 API
+@RestController
+@RequestMapping("/api/admin/match-callbacks")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "riot.api.use-stub", havingValue = "true")
+@PreAuthorize("principal.getClaimAsString('role') == 'ADMIN'")
+public class FakeMatchCallbackController {
+
+    private final FakeCallbackSender fakeCallbackSender;
+
+    /**
+     * Riot 대신 가짜 콜백을 보내는 API (관리자 전용)
+     */
+    @PostMapping("/fake")
+    public ResponseEntity<ApiResponse<MatchCallbackDto.Payload>> sendFake(
+            @Valid @RequestBody MatchCallbackDto.FakeCallbackRequest request) {
+        MatchCallbackDto.Payload payload = fakeCallbackSender.send(request);
+        return ResponseEntity.ok(ApiResponse.success(payload, "가짜 콜백을 보냈습니다."));
+    }
+}
@@ -2,7 +2,9 @@ package com.nexus.controller;
 
 import com.nexus.dto.ApiResponse;
 import com.nexus.dto.GameRoomDto;
+import com.nexus.entity.GameRoomStatus;
 import com.nexus.service.GameRoomService;
+import com.nexus.service.RoomCommandRouter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,8 @@ import java.util.List;
 public class GameRoomController {
 
     private final GameRoomService gameRoomService;
+    // 방 단위 요청은 방을 소유한 노드에서 처리되도록 라우터를 거칩니다.
+    private final RoomCommandRouter roomCommandRouter;
 
     /**
      * 새로운 게임 로비(내전 방)를 생성하는 API입니다.
@@ -37,13 +41,19 @@ public class GameRoomController {
     }
 
     /**
-     * 현재 생성된 모든 게임 로비 목록을 조회하는 API입니다.
+     * 게임 로비 목록을 커서 기반으로 조회하는 API입니다.
+     * @param status 조회할 방 상태 (여러 개 지정 가능, 생략 시 진행 중인 방 전체)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<GameRoomDto.Response>>> getAllGameRooms() {
-        log.info("Game rooms list requested");
-        List<GameRoomDto.Response> allRooms = gameRoomService.getAllGameRooms();
-        return ResponseEntity.ok(ApiResponse.success(allRooms));
+    public ResponseEntity<ApiResponse<GameRoomDto.SummaryPage>> getGameRooms(
+            @RequestParam(required = false) List<GameRoomStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Game rooms list requested - status: {}, cursor: {}, size: {}", status, cursor, size);
+        GameRoomDto.SummaryPage rooms = gameRoomService.getGameRooms(status, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(rooms));
     }
 
     /**
@@ -60,16 +70,34 @@ public class GameRoomController {
             @AuthenticationPrincipal Jwt jwt) {
         String userEmail = jwt.getClaimAsString("email");
         log.info("Team composition start requested for room: {} by user: {}", roomCode, userEmail);
-        gameRoomService.startTeamComposition(roomCode, request, userEmail);
+        roomCommandRouter.startTeamComposition(roomCode, request, userEmail);
         return ResponseEntity.ok(ApiResponse.success("팀 구성이 시작되었습니다."));
     }
+    /**
+     * 참가 중인 방에서 선호 라인(주/부)을 지정하는 api
+     * 자동 팀 구성 시 팀마다 다섯 라인이 겹치지 않도록 배정할 때 사용합니다.
+     * @param roomCode 로비의 고유 코드
+     * @param request 주 라인(필수)과 부 라인(선택)
+     * @param jwt 현재 로그인한 사용자 정보
+     * @return 변경된 방 정보
+     */
+    @PutMapping("/{roomCode}/lanes")
+    public ResponseEntity<ApiResponse<GameRoomDto.Response>> updateLanePreference(
+            @PathVariable String roomCode,
+            @Valid @RequestBody GameRoomDto.LanePreferenceRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+        String userEmail = jwt.getClaimAsString("email");
+        GameRoomDto.Response room = roomCommandRouter.updateLanePreference(roomCode, request, userEmail);
+        return ResponseEntity.ok(ApiResponse.success(room));
+    }
+
     @PostMapping("/{roomCode}/join")
     public ResponseEntity<ApiResponse<Void>> joinGameRoom(
             @PathVariable String roomCode,
             @AuthenticationPrincipal Jwt jwt) {
         String userEmail = jwt.getClaimAsString("email");
         log.info("User {} attempting to join room: {}", userEmail, roomCode);
-        gameRoomService.joinGameRoom(roomCode, userEmail);
+        roomCommandRouter.joinGameRoom(roomCode, userEmail);
         return ResponseEntity.ok(ApiResponse.success("게임 방에 참여하셨습니다."));
     }
 
@@ -81,7 +109,7 @@ public class GameRoomController {
     @GetMapping("/{roomCode}")
     public ResponseEntity<ApiResponse<GameRoomDto.Response>> getGameRoomDetails(@PathVariable String roomCode) {
         log.info("Game room details requested for: {}", roomCode);
-        GameRoomDto.Response roomDetails = gameRoomService.getGameRoomByCode(roomCode);
+        GameRoomDto.Response roomDetails = roomCommandRouter.getGameRoomByCode(roomCode);
         return ResponseEntity.ok(ApiResponse.success(roomDetails));
     }
 }
\ No newline at end of file
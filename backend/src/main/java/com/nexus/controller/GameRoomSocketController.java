@@ -0,0 +1,85 @@
+package com.nexus.controller;
+
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.AuctionDto;
+import com.nexus.dto.GameRoomDto;
+import com.nexus.exception.BusinessException;
+import com.nexus.exception.RoomNotFoundException;
+import com.nexus.exception.UnauthorizedException;
+import com.nexus.service.AuctionEngine;
+import com.nexus.service.RoomCommandRouter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.handler.annotation.support.MethodArgumentNotValidException;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class GameRoomSocketController {
+
+    private final RoomCommandRouter roomCommandRouter;
+
+    /**
+     * 방 스냅샷 요청 (STOMP SUBSCRIBE /app/rooms/{roomCode}/snapshot)
+     * 구독한 세션에만 한 번 응답하며, 응답의 sequence 이후 이벤트부터 /topic/rooms/{roomCode}에서 이어 받으면 됩니다.
+     * @param roomCode 로비의 고유 코드
+     * @return 현재 방 상태와 마지막 이벤트 sequence
+     */
+    @SubscribeMapping("/rooms/{roomCode}/snapshot")
+    public GameRoomDto.Response snapshot(@DestinationVariable String roomCode) {
+        log.debug("Room snapshot requested over WebSocket: {}", roomCode);
+        return roomCommandRouter.getGameRoomByCode(roomCode);
+    }
+
+    /**
+     * 경매 스냅샷 요청 (STOMP SUBSCRIBE /app/rooms/{roomCode}/auction)
+     * 응답의 sequence 이후 이벤트부터 /topic/rooms/{roomCode}/auction에서 이어 받으면 됩니다.
+     * @param roomCode 로비의 고유 코드
+     * @return 현재 경매 상태
+     */
+    @SubscribeMapping("/rooms/{roomCode}/auction")
+    public AuctionDto.State auctionSnapshot(@DestinationVariable String roomCode) {
+        return roomCommandRouter.getAuctionState(roomCode);
+    }
+
+    /**
+     * 입찰 (STOMP SEND /app/rooms/{roomCode}/auction/bid)
+     * 결과는 경매 토픽으로 방송되며, 거절된 경우 입찰자에게만 /user/queue/errors로 사유를 보냅니다.
+     * @param roomCode 로비의 고유 코드
+     * @param request 매물 번호와 입찰 금액
+     * @param principal WebSocket 연결 시 인증된 사용자 (이름은 JWT subject = userId)
+     */
+    @MessageMapping("/rooms/{roomCode}/auction/bid")
+    public void bid(@DestinationVariable String roomCode,
+                    @Valid @Payload AuctionDto.BidRequest request,
+                    Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("로그인한 사용자만 입찰할 수 있습니다.");
+        }
+        roomCommandRouter.placeBid(roomCode, Long.valueOf(principal.getName()), request);
+    }
+
+    @MessageExceptionHandler({IllegalStateException.class, BusinessException.class, RoomNotFoundException.class,
+            UnauthorizedException.class})
+    @SendToUser(destinations = AuctionEngine.ERROR_QUEUE, broadcast = false)
+    public ApiResponse<Void> handleRejected(RuntimeException e) {
+        log.debug("WebSocket request rejected: {}", e.getMessage());
+        return ApiResponse.error(e.getMessage());
+    }
+
+    @MessageExceptionHandler(MethodArgumentNotValidException.class)
+    @SendToUser(destinations = AuctionEngine.ERROR_QUEUE, broadcast = false)
+    public ApiResponse<Void> handleInvalid(MethodArgumentNotValidException e) {
+        return ApiResponse.error("입력값이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,35 @@
+package com.nexus.controller;
+
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.MatchCallbackDto;
+import com.nexus.entity.MatchCallback;
+import com.nexus.service.MatchResultPipeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/match-callbacks")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("principal.getClaimAsString('role') == 'ADMIN'")
+public class MatchCallbackAdminController {
+
+    private final MatchResultPipeline matchResultPipeline;
+
+    /**
+     * 저장된 콜백을 다시 처리하는 API (관리자 전용)
+     * @param id 특정 콜백 ID (생략 시 status 상태의 콜백을 일괄 처리)
+     * @param status 일괄 재처리할 상태 (기본 FAILED)
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<ApiResponse<MatchCallbackDto.ReplayResponse>> replay(
+            @RequestParam(required = false) Long id,
+            @RequestParam(defaultValue = "FAILED") MatchCallback.Status status) {
+        log.info("Match callback replay requested - id: {}, status: {}", id, status);
+        int requeued = matchResultPipeline.replay(id, status);
+        return ResponseEntity.ok(ApiResponse.success(new MatchCallbackDto.ReplayResponse(requeued)));
+    }
+}
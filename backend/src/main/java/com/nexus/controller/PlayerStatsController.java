@@ -0,0 +1,48 @@
+package com.nexus.controller;
+
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.PlayerStatsDto;
+import com.nexus.service.PlayerStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@Slf4j
+public class PlayerStatsController {
+
+    private final PlayerStatsService playerStatsService;
+
+    /**
+     * 사용자 전적 요약과 많이 플레이한 챔피언을 조회합니다.
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<PlayerStatsDto.Profile>> getProfile(@PathVariable Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(playerStatsService.getProfile(userId)));
+    }
+
+    /**
+     * 두 사용자가 서로 다른 팀으로 만났을 때의 전적 (userId 기준)을 조회합니다.
+     */
+    @GetMapping("/users/{userId}/head-to-head/{opponentId}")
+    public ResponseEntity<ApiResponse<PlayerStatsDto.HeadToHead>> getHeadToHead(@PathVariable Long userId,
+                                                                                 @PathVariable Long opponentId) {
+        return ResponseEntity.ok(ApiResponse.success(playerStatsService.getHeadToHead(userId, opponentId)));
+    }
+
+    /**
+     * 승수 기준 리더보드를 조회합니다.
+     * @param size 상위 몇 명까지 (최대 100)
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<ApiResponse<List<PlayerStatsDto.LeaderboardEntry>>> getLeaderboard(
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Leaderboard requested - size: {}", size);
+        return ResponseEntity.ok(ApiResponse.success(playerStatsService.getLeaderboard(size)));
+    }
+}
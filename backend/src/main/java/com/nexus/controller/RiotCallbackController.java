@@ -0,0 +1,52 @@
+package com.nexus.controller;
+
+import com.nexus.config.RiotApiProperties;
+import com.nexus.exception.BusinessException;
+import com.nexus.service.MatchResultPipeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+@RequestMapping("/api/public/riot")
+@RequiredArgsConstructor
+@Slf4j
+public class RiotCallbackController {
+
+    private final MatchResultPipeline matchResultPipeline;
+    private final RiotApiProperties riotApiProperties;
+
+    /**
+     * Riot 토너먼트 콜백 수신 API (provider 등록 시 riot.api.callback-url로 지정)
+     * 원문을 저장하고 처리 큐에 넣은 뒤 바로 200으로 응답하며, 결과 반영은 MatchResultPipeline이 비동기로 처리합니다.
+     * @param secret riot.api.callback-secret과 같아야 합니다 (비밀값 없이 뜨는 것은 스텁 API 모드뿐이며, 그때만 검사하지 않음).
+     */
+    @PostMapping("/callback")
+    public ResponseEntity<Void> receiveCallback(@RequestParam(required = false) String secret,
+                                                @RequestBody String body) {
+        if (!isAuthorized(secret)) {
+            log.warn("Rejected tournament callback with invalid secret");
+            throw new BusinessException("인증되지 않은 콜백입니다.", HttpStatus.UNAUTHORIZED);
+        }
+        matchResultPipeline.receive(body);
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean isAuthorized(String secret) {
+        if (!riotApiProperties.hasCallbackSecret()) {
+            return riotApiProperties.isUseStub();
+        }
+        return secret != null && MessageDigest.isEqual(
+                riotApiProperties.getCallbackSecret().getBytes(StandardCharsets.UTF_8),
+                secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.nexus.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 경매 팀 구성 관련 DTO (/app/rooms/{roomCode}/auction/bid, /topic/rooms/{roomCode}/auction)
+public class AuctionDto {
+
+    @Getter
+    @Setter
+    // 입찰 요청 DTO. lotNumber가 현재 매물과 다르면(이미 낙찰된 매물) 거절합니다.
+    public static class BidRequest {
+        @Min(value = 1, message = "매물 번호가 올바르지 않습니다.")
+        private int lotNumber;
+
+        @Min(value = 1, message = "입찰 금액은 1 이상이어야 합니다.")
+        private int amount;
+    }
+
+    public enum Type {
+        AUCTION_STARTED,  // 경매 시작 (payload: State)
+        LOT_OPENED,       // 새 매물 입찰 시작
+        BID_ACCEPTED,     // 최고 입찰 갱신
+        LOT_SOLD,         // 낙찰 (입찰이 없으면 인원이 적은 팀에 0포인트로 배정)
+        AUCTION_COMPLETED, // 모든 매물 배정 완료
+        AUCTION_CANCELLED  // 경매 중단 (payload: 사유). 방은 모집 단계로 돌아가며 방장이 팀 구성을 다시 시작해야 합니다.
+    }
+
+    @Getter
+    @Setter
+    // 경매 이벤트 봉투. 방 이벤트와 별도의 sequence를 사용하며, 누락 시 경매 스냅샷으로 복구합니다.
+    public static class Event {
+        private String roomCode;
+        private long sequence;
+        private Type type;
+        private Object payload;
+        private LocalDateTime occurredAt;
+
+        public static Event of(String roomCode, long sequence, Type type, Object payload) {
+            Event event = new Event();
+            event.setRoomCode(roomCode);
+            event.setSequence(sequence);
+            event.setType(type);
+            event.setPayload(payload);
+            event.setOccurredAt(LocalDateTime.now());
+            return event;
+        }
+    }
+
+    @Getter
+    @Setter
+    // 경매 전체 상태 (스냅샷/시작 이벤트)
+    public static class State {
+        private String roomCode;
+        private long sequence;
+        private List<Captain> captains;
+        private Lot currentLot;
+        private int remainingLots;
+        private boolean completed;
+    }
+
+    // 다른 노드에서 받은 경매 스냅샷을 읽을 수 있도록 기본 생성자를 둡니다.
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Captain {
+        private String nickname;
+        private int teamNumber;
+        private int budget;
+        private List<String> members;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lot {
+        private int lotNumber;
+        private String nickname;
+        private String summonerName;
+        private Integer highestBid;
+        private String highestBidder;
+        private long endsAt; // epoch millis
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BidAccepted {
+        private int lotNumber;
+        private String bidder;
+        private int amount;
+        private long endsAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LotSold {
+        private int lotNumber;
+        private String nickname;
+        private String captain;
+        private int teamNumber;
+        private int price;
+    }
+}
@@ -1,8 +1,10 @@
 package com.nexus.dto;
 
 import com.nexus.entity.GameRoomParticipant;
+import com.nexus.entity.Lane;
 import com.nexus.entity.TeamCompositionMethod;
 import com.nexus.entity.User;
+import com.nexus.exception.BusinessException;
 import com.nexus.validation.MultipleOfFive;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -12,7 +14,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,15 +49,63 @@ public class GameRoomDto {
         private String status;
         private LocalDateTime createdAt;
         private List<ParticipantDto> participants;
+        private long sequence; // 이 스냅샷에 반영된 마지막 방 이벤트 번호
         }
 
+    @Getter
+    @Setter
+    // 로비 목록용 요약 DTO (참가자 목록 없이 인원 수만 포함)
+    public static class Summary {
+        private String roomCode;
+        private String title;
+        private int maxParticipants;
+        private int currentParticipants;
+        private String hostName;
+        private String status;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Setter
+    // 로비 목록 페이지 응답 DTO
+    public static class SummaryPage {
+        private List<Summary> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor; // 다음 페이지 조회용 불투명 커서 (마지막 페이지면 null)
+    }
+
+    // 로비 목록 키셋 커서 (createdAt, id). 클라이언트에는 Base64 문자열로만 노출합니다.
+    public record Cursor(LocalDateTime createdAt, long id) {
+
+        public String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 페이지 커서입니다.");
+            }
+        }
+    }
+
     @Getter
     @Setter
     // 참가자 정보 DTO
     public static class ParticipantDto {
         private String nickname;
         private String summonerName;
+        private Integer matchNumber;
         private Integer teamNumber;
+        private Lane primaryLane;
+        private Lane secondaryLane;
+        private Lane assignedLane;
 
         // 참가자 정보를 DTO로 변환
         public static ParticipantDto fromEntity(GameRoomParticipant participant) {
@@ -61,7 +113,11 @@ public class GameRoomDto {
             User user = participant.getUser();
             dto.setNickname(user.getNickname());
             dto.setSummonerName(user.getSummonerName());
+            dto.setMatchNumber(participant.getMatchNumber());
             dto.setTeamNumber(participant.getTeamNumber());
+            dto.setPrimaryLane(participant.getPrimaryLane());
+            dto.setSecondaryLane(participant.getSecondaryLane());
+            dto.setAssignedLane(participant.getAssignedLane());
             return dto;
         }
     }
@@ -71,4 +127,13 @@ public class GameRoomDto {
         @NotNull(message = "팀 구성 방식을 선택해야 합니다.")
         private TeamCompositionMethod method;
     }
+
+    @Getter
+    @Setter
+    // 선호 라인 변경 요청 DTO (부 라인은 선택)
+    public static class LanePreferenceRequest {
+        @NotNull(message = "주 라인을 선택해야 합니다.")
+        private Lane primaryLane;
+        private Lane secondaryLane;
+    }
 }
\ No newline at end of file
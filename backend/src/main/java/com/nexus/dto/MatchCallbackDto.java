@@ -0,0 +1,54 @@
+package com.nexus.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class MatchCallbackDto {
+
+    // Riot 토너먼트 콜백 본문 (게임 종료 시 provider 등록 URL로 POST)
+    @Getter
+    @Setter
+    public static class Payload {
+        @JsonAlias("tournamentCode")
+        private String shortCode;
+        private long gameId;
+        private String region;          // 예: "KR"
+        private String metaData;        // 코드 발급 시 넣은 방 코드
+        private long startTime;
+        private String gameMode;
+        private List<Player> winningTeam = new ArrayList<>();
+        private List<Player> losingTeam = new ArrayList<>();
+
+        // match-v5 매치 ID (예: KR_1234567890)
+        @JsonIgnore
+        public String getMatchId() {
+            return region.toUpperCase(Locale.ROOT) + "_" + gameId;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Player {
+        private String puuid;
+    }
+
+    // 재처리 결과
+    public record ReplayResponse(int requeued) {
+    }
+
+    // 로컬 테스트용 가짜 콜백 요청: 해당 토너먼트 코드의 매치에서 winningTeam 번호(1/2) 팀이 이긴 것으로 보냅니다.
+    public record FakeCallbackRequest(
+            @NotBlank String tournamentCode,
+            @Min(1) @Max(2) int winningTeam
+    ) {
+    }
+}
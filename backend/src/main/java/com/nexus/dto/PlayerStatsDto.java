@@ -0,0 +1,51 @@
+package com.nexus.dto;
+
+import java.util.List;
+
+public class PlayerStatsDto {
+
+    // 프로필 전적: 누적 요약 + 많이 플레이한 챔피언
+    public record Profile(
+            Long userId,
+            int games,
+            int wins,
+            int losses,
+            double winRate,
+            int kills,
+            int deaths,
+            int assists,
+            List<Champion> champions
+    ) {
+    }
+
+    public record Champion(
+            int championId,
+            String championName,
+            int games,
+            int wins,
+            int kills,
+            int deaths,
+            int assists
+    ) {
+    }
+
+    // userId 기준 상대 전적
+    public record HeadToHead(
+            Long userId,
+            Long opponentId,
+            int games,
+            int wins,
+            int losses
+    ) {
+    }
+
+    public record LeaderboardEntry(
+            int rank,
+            Long userId,
+            String nickname,
+            int games,
+            int wins,
+            double winRate
+    ) {
+    }
+}
@@ -4,6 +4,7 @@ package com.nexus.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class RiotApiDto {
@@ -45,4 +46,76 @@ public class RiotApiDto {
         private List<String> allowedParticipants; // PUUID 목록 (선택 사항)
         private String metadata;
     }
-}
\ No newline at end of file
+
+    // account-v1 Riot ID 조회 응답
+    @Getter
+    @Setter
+    public static class Account {
+        private String puuid;
+        private String gameName;
+        private String tagLine;
+    }
+
+    // league-v4 큐별 랭크 정보 (queueType: RANKED_SOLO_5x5, RANKED_FLEX_SR)
+    @Getter
+    @Setter
+    public static class LeagueEntry {
+        private String queueType;
+        private String tier;
+        private String rank;
+        private int leaguePoints;
+        private int wins;
+        private int losses;
+    }
+
+    // 캐시에 저장하는 PUUID별 랭크 정보 (fetchedAt: Riot API에서 받아 온 시각, epoch ms)
+    @Getter
+    @Setter
+    public static class RankProfile {
+        private String puuid;
+        private List<LeagueEntry> entries = new ArrayList<>();
+        private long fetchedAt;
+
+        public LeagueEntry entry(String queueType) {
+            return entries.stream()
+                    .filter(entry -> queueType.equals(entry.getQueueType()))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    // match-v5 매치 상세 (통계에 쓰는 필드만)
+    @Getter
+    @Setter
+    public static class MatchDetail {
+        private Metadata metadata;
+        private Info info;
+
+        @Getter
+        @Setter
+        public static class Metadata {
+            private String matchId;
+        }
+
+        @Getter
+        @Setter
+        public static class Info {
+            private long gameDuration;      // 초
+            private long gameEndTimestamp;  // epoch ms
+            private List<Participant> participants = new ArrayList<>();
+        }
+
+        @Getter
+        @Setter
+        public static class Participant {
+            private String puuid;
+            private int teamId;             // 100(블루) / 200(레드)
+            private int championId;
+            private String championName;
+            private boolean win;
+            private int kills;
+            private int deaths;
+            private int assists;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nexus.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 방 단위 WebSocket 이벤트 DTO (/topic/rooms/{roomCode})
+public class RoomEventDto {
+
+    public enum Type {
+        PARTICIPANT_JOINED, // 참가자 입장
+        TEAM_ASSIGNED,      // 팀 배정
+        LANES_CHANGED,      // 참가자 선호 라인 변경
+        STATUS_CHANGED,     // 방 상태 변경
+        BATCH               // 짧은 구간 동안 모인 이벤트 묶음 (payload.fromSequence ~ sequence)
+    }
+
+    @Getter
+    @Setter
+    // 이벤트 공통 봉투. 클라이언트는 sequence가 1씩 증가하지 않으면(누락/역행) 스냅샷을 다시 요청합니다.
+    public static class Event {
+        private String roomCode;
+        private long sequence;
+        private Type type;
+        private Object payload;
+        private LocalDateTime occurredAt;
+
+        public static Event of(String roomCode, long sequence, Type type, Object payload) {
+            Event event = new Event();
+            event.setRoomCode(roomCode);
+            event.setSequence(sequence);
+            event.setType(type);
+            event.setPayload(payload);
+            event.setOccurredAt(LocalDateTime.now());
+            return event;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+        private long fromSequence;
+        private List<Event> events;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ParticipantJoined {
+        private String nickname;
+        private String summonerName;
+        private Integer teamNumber;
+        private int currentParticipants;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TeamAssigned {
+        private List<Assignment> assignments;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Assignment {
+        private String nickname;
+        private Integer matchNumber;
+        private Integer teamNumber;
+        private String lane;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LanesChanged {
+        private String nickname;
+        private String primaryLane;
+        private String secondaryLane;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StatusChanged {
+        private String status;
+        private String teamCompositionMethod;
+    }
+}
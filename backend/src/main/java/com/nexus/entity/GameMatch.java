@@ -21,6 +21,9 @@ public class GameMatch {
     @JoinColumn(name = "game_room_id", nullable = false)
     private GameRoom gameRoom;
 
+    // 방 안에서의 매치 번호 (참가자의 matchNumber와 대응)
+    private Integer matchNumber;
+
     // 토너먼트 코드
     @Column(nullable = false, unique = true)
     private String tournamentCode;
@@ -28,9 +31,13 @@ public class GameMatch {
     // 리그 오브 레전드 매치 아이디
     private String riotMatchId; 
 
-    // 매치 상태
+    // 매치 상태 (PENDING → COMPLETED)
     private String status = "PENDING";
 
+    // 이긴 팀 번호 (참가자의 teamNumber와 대응) / 결과 반영 시각
+    private Integer winningTeamNumber;
+    private LocalDateTime completedAt;
+
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 }
\ No newline at end of file
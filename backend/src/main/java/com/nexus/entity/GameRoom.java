@@ -3,6 +3,7 @@ package com.nexus.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -10,11 +11,25 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "game_rooms")
+@Table(name = "game_rooms", indexes = {
+        // 로비 목록 키셋 페이지네이션 (createdAt, id 내림차순으로 읽으며 status는 읽은 행에서 거름).
+        // status를 앞에 두면 상태 여러 개(IN)를 조회할 때 정렬 순서로 읽지 못해 해당 상태 전체를 읽고 정렬하게 됩니다.
+        @Index(name = "idx_game_rooms_created_id", columnList = "created_at DESC, id DESC")
+})
+// 방장 + 참가자 + 참가자 유저까지 한 번에 로딩 (상세 조회/참가/팀 구성/게임 시작)
+@NamedEntityGraph(name = GameRoom.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode("host"),
+                @NamedAttributeNode(value = "participants", subgraph = "participantUser")
+        },
+        subgraphs = @NamedSubgraph(name = "participantUser",
+                attributeNodes = @NamedAttributeNode("user")))
 @Getter
 @Setter
 public class GameRoom {
 
+    public static final String GRAPH_DETAIL = "GameRoom.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,9 +60,15 @@ public class GameRoom {
     @Enumerated(EnumType.STRING)
     private TeamCompositionMethod teamCompositionMethod;
 
+    // 낙관적 락 버전 (write-behind 반영과 DB 직접 갱신 경로 간 충돌 감지)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     // 방 생성 시간
     @CreationTimestamp
-    @Column(updatable = false, nullable = false)
+    @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
     
     // 참가자 목록
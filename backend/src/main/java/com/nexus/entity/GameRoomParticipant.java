@@ -6,7 +6,13 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_room_participants")
+@Table(name = "game_room_participants", indexes = {
+        // 방별 참가자 수 집계/조회용
+        @Index(name = "idx_game_room_participants_room", columnList = "game_room_id")
+}, uniqueConstraints = {
+        // 같은 방 중복 참가 방지 (메모리 엔진의 중복 검사에 대한 DB 안전장치)
+        @UniqueConstraint(name = "uk_game_room_participants_room_user", columnNames = {"game_room_id", "user_id"})
+})
 @Getter
 @Setter
 public class GameRoomParticipant {
@@ -25,9 +31,23 @@ public class GameRoomParticipant {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 매치 번호 (10명 단위 매치 배정, 1부터)
+    private Integer matchNumber;
+
     // 팀 번호
     private Integer teamNumber;
 
+    // 선호 라인 (주/부, 미지정이면 상관없음)
+    @Enumerated(EnumType.STRING)
+    private Lane primaryLane;
+
+    @Enumerated(EnumType.STRING)
+    private Lane secondaryLane;
+
+    // 팀 구성 시 배정된 라인
+    @Enumerated(EnumType.STRING)
+    private Lane assignedLane;
+
     // 참가 시간    
     @Column(nullable = false)
     private LocalDateTime joinedAt = LocalDateTime.now();
@@ -0,0 +1,39 @@
+package com.nexus.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 두 사용자가 서로 다른 팀으로 만난 횟수와 userId 쪽의 승수입니다.
+ * 한 쌍을 (A, B)와 (B, A) 두 행으로 저장하므로 어느 쪽에서 조회해도 한 행으로 끝납니다.
+ */
+@Entity
+@Table(name = "head_to_head_stats")
+@IdClass(HeadToHeadStats.Key.class)
+@Getter
+@Setter
+public class HeadToHeadStats {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private Long opponentId;
+
+    private int games;
+    private int wins;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long opponentId;
+    }
+}
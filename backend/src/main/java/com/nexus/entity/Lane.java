@@ -0,0 +1,9 @@
+package com.nexus.entity;
+
+public enum Lane {
+    TOP,     // 탑
+    JUNGLE,  // 정글
+    MID,     // 미드
+    BOTTOM,  // 원거리 딜러
+    SUPPORT  // 서포터
+}
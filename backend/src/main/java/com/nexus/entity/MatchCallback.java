@@ -0,0 +1,64 @@
+package com.nexus.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신한 Riot 토너먼트 콜백 원문과 처리 상태입니다.
+ * 원문을 먼저 저장한 뒤 비동기로 처리하므로, 처리 중 장애가 나도 재시도/재처리(replay)로 다시 반영할 수 있습니다.
+ */
+@Entity
+@Table(name = "match_callbacks", indexes = {
+        // 재시도 대상 조회용
+        @Index(name = "idx_match_callbacks_status_next_attempt", columnList = "status, nextAttemptAt")
+}, uniqueConstraints = {
+        // 같은 게임에 대한 중복 콜백은 한 번만 저장
+        @UniqueConstraint(name = "uk_match_callbacks_code_game", columnNames = {"tournamentCode", "gameId"})
+})
+@Getter
+@Setter
+public class MatchCallback {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String tournamentCode;
+
+    @Column(nullable = false)
+    private long gameId;
+
+    // 받은 JSON 그대로
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.RECEIVED;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    // RECEIVED 상태에서 다음으로 처리할 수 있는 시각
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(nullable = false)
+    private LocalDateTime receivedAt = LocalDateTime.now();
+
+    private LocalDateTime processedAt;
+
+    public enum Status {
+        RECEIVED,   // 처리 대기 (재시도 포함)
+        PROCESSED,  // 매치 결과 반영 완료
+        DUPLICATE,  // 이미 결과가 반영된 매치
+        IGNORED,    // 이 서비스에서 발급하지 않은 토너먼트 코드
+        FAILED      // 재시도 횟수 초과 (replay로 다시 처리)
+    }
+}
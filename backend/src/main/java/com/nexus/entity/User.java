@@ -8,7 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_last_active_at", columnList = "lastActiveAt"))
 @Getter
 @Setter
 public class User {
@@ -58,6 +58,10 @@ public class User {
     private int flexLeaguePoints;
     // --- 여기까지 ---
 
+    // 랭크 동기화 우선순위(최근 활동)와 마지막 동기화 시각
+    private LocalDateTime lastActiveAt;
+    private LocalDateTime rankSyncedAt;
+
     @CreationTimestamp
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdAt;
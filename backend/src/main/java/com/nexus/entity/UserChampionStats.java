@@ -0,0 +1,42 @@
+package com.nexus.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 사용자 × 챔피언 누적 전적입니다 (매치 상세를 받은 게임만).
+ */
+@Entity
+@Table(name = "user_champion_stats")
+@IdClass(UserChampionStats.Key.class)
+@Getter
+@Setter
+public class UserChampionStats {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private int championId;
+
+    private String championName;
+    private int games;
+    private int wins;
+    private int kills;
+    private int deaths;
+    private int assists;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private int championId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.nexus.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 내전 누적 전적입니다. 매치 결과가 반영될 때 같은 트랜잭션에서 UPSERT로 증가시키므로
+ * 프로필/리더보드 조회는 원본 매치를 집계하지 않고 이 행만 읽습니다.
+ */
+@Entity
+@Table(name = "user_stats", indexes = {
+        // 리더보드 (승수 내림차순)
+        @Index(name = "idx_user_stats_wins", columnList = "wins DESC, userId")
+})
+@Getter
+@Setter
+public class UserStats {
+
+    @Id
+    private Long userId;
+
+    private int games;
+    private int wins;
+    private int losses;
+
+    // 매치 상세를 받은 게임만 합산됩니다.
+    private int kills;
+    private int deaths;
+    private int assists;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
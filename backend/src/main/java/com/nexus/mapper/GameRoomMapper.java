@@ -4,6 +4,8 @@ package com.nexus.mapper;
 import com.nexus.dto.GameRoomDto;
 import com.nexus.entity.GameRoom;
 import com.nexus.entity.User;
+import com.nexus.repository.GameRoomRepository;
+import com.nexus.service.LiveRoom;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Collectors;
@@ -32,4 +34,45 @@ public class GameRoomMapper {
                 .collect(Collectors.toList()));
         return dto;
     }
+
+    // 메모리 방 상태를 DTO로 변환합니다. RoomStateEngine.read 안에서 호출해야 합니다.
+    public GameRoomDto.Response toResponseDto(LiveRoom room) {
+        GameRoomDto.Response dto = new GameRoomDto.Response();
+        dto.setRoomCode(room.getRoomCode());
+        dto.setTitle(room.getTitle());
+        dto.setMaxParticipants(room.getMaxParticipants());
+        dto.setCurrentParticipants(room.getParticipantCount());
+        dto.setHostName(room.getHostName() != null ? room.getHostName() : "알 수 없음");
+        dto.setStatus(room.getStatus().name());
+        dto.setCreatedAt(room.getCreatedAt());
+        dto.setParticipants(room.getParticipants().stream()
+                .map(this::toParticipantDto)
+                .collect(Collectors.toList()));
+        dto.setSequence(room.getSequence());
+        return dto;
+    }
+
+    private GameRoomDto.ParticipantDto toParticipantDto(LiveRoom.LiveParticipant participant) {
+        GameRoomDto.ParticipantDto dto = new GameRoomDto.ParticipantDto();
+        dto.setNickname(participant.getNickname());
+        dto.setSummonerName(participant.getSummonerName());
+        dto.setMatchNumber(participant.getMatchNumber());
+        dto.setTeamNumber(participant.getTeamNumber());
+        dto.setPrimaryLane(participant.getPrimaryLane());
+        dto.setSecondaryLane(participant.getSecondaryLane());
+        dto.setAssignedLane(participant.getAssignedLane());
+        return dto;
+    }
+
+    public GameRoomDto.Summary toSummaryDto(GameRoomRepository.SummaryView view) {
+        GameRoomDto.Summary dto = new GameRoomDto.Summary();
+        dto.setRoomCode(view.getRoomCode());
+        dto.setTitle(view.getTitle());
+        dto.setMaxParticipants(view.getMaxParticipants());
+        dto.setCurrentParticipants((int) view.getCurrentParticipants());
+        dto.setHostName(view.getHostName() != null ? view.getHostName() : "알 수 없음");
+        dto.setStatus(view.getStatus().name());
+        dto.setCreatedAt(view.getCreatedAt());
+        return dto;
+    }
 }
\ No newline at end of file
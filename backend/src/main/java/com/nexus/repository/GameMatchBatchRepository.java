@@ -0,0 +1,11 @@
+package com.nexus.repository;
+
+import com.nexus.entity.GameMatch;
+
+import java.util.List;
+
+public interface GameMatchBatchRepository {
+
+    // 여러 매치를 한 번의 JDBC 배치 INSERT로 저장합니다 (생성된 ID는 엔티티에 채우지 않음).
+    void insertAll(List<GameMatch> matches);
+}
@@ -0,0 +1,39 @@
+package com.nexus.repository;
+
+import com.nexus.entity.GameMatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * GameMatch는 IDENTITY 전략이라 Hibernate가 INSERT를 묶지 못하므로 JdbcTemplate 배치로 직접 저장합니다.
+ */
+@RequiredArgsConstructor
+public class GameMatchBatchRepositoryImpl implements GameMatchBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO game_matches (game_room_id, match_number, tournament_code, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<GameMatch> matches) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, matches, matches.size(), (ps, match) -> {
+            ps.setLong(1, match.getGameRoom().getId());
+            if (match.getMatchNumber() != null) {
+                ps.setInt(2, match.getMatchNumber());
+            } else {
+                ps.setNull(2, Types.INTEGER);
+            }
+            ps.setString(3, match.getTournamentCode());
+            ps.setString(4, match.getStatus());
+            ps.setTimestamp(5, Timestamp.valueOf(match.getCreatedAt()));
+        });
+    }
+}
@@ -2,9 +2,29 @@ package com.nexus.repository;
 
 import com.nexus.entity.GameMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
-public interface GameMatchRepository extends JpaRepository<GameMatch, Long> {
+public interface GameMatchRepository extends JpaRepository<GameMatch, Long>, GameMatchBatchRepository {
     // 앞으로 GameMatch 관련하여 필요한 쿼리 메서드를 여기에 추가할 수 있습니다.
-}
\ No newline at end of file
+
+    Optional<GameMatch> findByTournamentCode(String tournamentCode);
+
+    long countByGameRoomIdAndStatusNot(Long gameRoomId, String status);
+
+    // 아직 완료되지 않은 매치만 완료로 바꿉니다. 0이면 이미 다른 콜백이 결과를 반영한 것입니다 (중복 처리 방지).
+    @Modifying
+    @Query("UPDATE GameMatch m SET m.status = 'COMPLETED', m.riotMatchId = :riotMatchId, " +
+           "m.winningTeamNumber = :winningTeamNumber, m.completedAt = :completedAt " +
+           "WHERE m.id = :id AND m.status <> 'COMPLETED'")
+    int complete(@Param("id") Long id,
+                 @Param("riotMatchId") String riotMatchId,
+                 @Param("winningTeamNumber") Integer winningTeamNumber,
+                 @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,44 @@
+package com.nexus.repository;
+
+import com.nexus.entity.GameRoomParticipant;
+import com.nexus.entity.Lane;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GameRoomParticipantRepository extends JpaRepository<GameRoomParticipant, Long> {
+
+    // 참가자 엔티티를 로딩하지 않고 매치/팀 번호와 배정 라인만 갱신 (write-behind 반영용)
+    @Modifying
+    @Query("UPDATE GameRoomParticipant p SET p.matchNumber = :matchNumber, p.teamNumber = :teamNumber, " +
+           "p.assignedLane = :lane WHERE p.gameRoom.id = :roomId AND p.user.id = :userId")
+    int updateAssignment(@Param("roomId") Long roomId,
+                         @Param("userId") Long userId,
+                         @Param("matchNumber") Integer matchNumber,
+                         @Param("teamNumber") Integer teamNumber,
+                         @Param("lane") Lane lane);
+
+    @Modifying
+    @Query("UPDATE GameRoomParticipant p SET p.primaryLane = :primaryLane, p.secondaryLane = :secondaryLane " +
+           "WHERE p.gameRoom.id = :roomId AND p.user.id = :userId")
+    int updateLanes(@Param("roomId") Long roomId,
+                    @Param("userId") Long userId,
+                    @Param("primaryLane") Lane primaryLane,
+                    @Param("secondaryLane") Lane secondaryLane);
+
+    // 한 매치에 배정된 참가자와 팀 번호 (매치 결과를 팀 단위로 반영할 때 사용)
+    @Query("SELECT p.user.id AS userId, p.user.puuid AS puuid, p.teamNumber AS teamNumber " +
+           "FROM GameRoomParticipant p WHERE p.gameRoom.id = :roomId AND p.matchNumber = :matchNumber")
+    List<MatchSlotView> findMatchSlots(@Param("roomId") Long roomId, @Param("matchNumber") Integer matchNumber);
+
+    interface MatchSlotView {
+        Long getUserId();
+        String getPuuid();
+        Integer getTeamNumber();
+    }
+}
@@ -1,13 +1,98 @@
 package com.nexus.repository;
 
 import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.TeamCompositionMethod;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GameRoomRepository extends JpaRepository<GameRoom, Long> {
+
+    // 로비 목록용 요약 조회: 엔티티/참가자 컬렉션을 로딩하지 않고 한 번의 쿼리로 참가자 수까지 가져옵니다.
+    String SUMMARY_SELECT = "SELECT r.id AS id, r.roomCode AS roomCode, r.title AS title, r.maxParticipants AS maxParticipants, " +
+                            "(SELECT COUNT(p) FROM GameRoomParticipant p WHERE p.gameRoom = r) AS currentParticipants, " +
+                            "h.nickname AS hostName, r.status AS status, r.createdAt AS createdAt " +
+                            "FROM GameRoom r LEFT JOIN r.host h ";
+
     // roomCode로 GameRoom을 찾기 위한 메서드
     Optional<GameRoom> findByRoomCode(String roomCode);
-}
\ No newline at end of file
+
+    // 방장, 참가자, 참가자 유저를 한 번의 조인 쿼리로 조회
+    @EntityGraph(GameRoom.GRAPH_DETAIL)
+    Optional<GameRoom> findDetailByRoomCode(String roomCode);
+
+    boolean existsByRoomCode(String roomCode);
+
+    // 방 행에 쓰기 락을 잡고 조회 (같은 방의 매치 결과를 동시에 반영할 때 하나씩 처리하도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM GameRoom r WHERE r.id = :id")
+    Optional<GameRoom> findByIdForUpdate(@Param("id") Long id);
+
+    // 방을 메모리에 올릴지(소유권을 잡을지) 정하기 전에 상태만 확인
+    @Query("SELECT r.status FROM GameRoom r WHERE r.roomCode = :roomCode")
+    Optional<GameRoomStatus> findStatusByRoomCode(@Param("roomCode") String roomCode);
+
+    // 방 엔티티를 로딩하지 않고 상태/팀 구성 방식만 갱신 (write-behind 반영용)
+    @Modifying
+    @Query("UPDATE GameRoom r SET r.status = :status, r.teamCompositionMethod = :method WHERE r.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") GameRoomStatus status,
+                     @Param("method") TeamCompositionMethod method);
+
+    // 키셋 페이지네이션 첫 페이지 (createdAt, id 내림차순)
+    @Query(SUMMARY_SELECT +
+           "WHERE r.status IN :statuses " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<SummaryView> findFirstSummaries(@Param("statuses") Collection<GameRoomStatus> statuses, Pageable limit);
+
+    // 키셋 페이지네이션 다음 페이지: 커서 (createdAt, id) 이후의 방만 조회하므로 페이지 깊이와 무관하게 인덱스 범위 탐색으로 끝납니다.
+    // createdAt <= :createdAt을 따로 두어야 인덱스 탐색 시작 위치로 쓰입니다 (OR 조건만 있으면 인덱스를 처음부터 읽으며 거름).
+    @Query(SUMMARY_SELECT +
+           "WHERE r.status IN :statuses " +
+           "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<SummaryView> findSummariesAfter(@Param("statuses") Collection<GameRoomStatus> statuses,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable limit);
+
+    // write-behind 반영 전에 방 버전을 올립니다. 그 사이 다른 곳에서 방을 바꿨으면 0을 반환합니다 (낙관적 락).
+    // 엔티티로 방을 저장하는 경로도 @Version으로 같은 버전을 확인하므로, 어느 쪽이든 오래된 상태로 덮어쓰지 못합니다.
+    @Modifying
+    @Query("UPDATE GameRoom r SET r.version = r.version + 1 WHERE r.id = :id AND r.version = :version")
+    int incrementVersion(@Param("id") Long id, @Param("version") long version);
+
+    @Query("SELECT r.version AS version, r.status AS status FROM GameRoom r WHERE r.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    // 버전 충돌 후 다시 시도할지 정할 때 읽는 방 행의 현재 버전과 상태
+    interface VersionView {
+        long getVersion();
+        GameRoomStatus getStatus();
+    }
+
+    // 목록 조회 결과를 담는 인터페이스 기반 프로젝션
+    interface SummaryView {
+        Long getId();
+        String getRoomCode();
+        String getTitle();
+        int getMaxParticipants();
+        long getCurrentParticipants();
+        String getHostName();
+        GameRoomStatus getStatus();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,9 @@
+package com.nexus.repository;
+
+import com.nexus.entity.HeadToHeadStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HeadToHeadStatsRepository extends JpaRepository<HeadToHeadStats, HeadToHeadStats.Key> {
+}
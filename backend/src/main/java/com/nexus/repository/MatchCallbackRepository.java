@@ -0,0 +1,50 @@
+package com.nexus.repository;
+
+import com.nexus.entity.MatchCallback;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MatchCallbackRepository extends JpaRepository<MatchCallback, Long> {
+
+    boolean existsByTournamentCodeAndGameId(String tournamentCode, long gameId);
+
+    // 처리 시각이 된 대기 콜백 (큐가 가득 찼거나 재시도 대기 중이던 것)
+    @Query("SELECT c.id FROM MatchCallback c WHERE c.status = com.nexus.entity.MatchCallback.Status.RECEIVED " +
+           "AND c.nextAttemptAt <= :now ORDER BY c.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable limit);
+
+    @Query("SELECT c.id FROM MatchCallback c WHERE c.status = :status ORDER BY c.id")
+    List<Long> findIdsByStatus(@Param("status") MatchCallback.Status status, Pageable limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MatchCallback c SET c.status = :status, c.processedAt = :now, c.lastError = null WHERE c.id = :id")
+    int finish(@Param("id") Long id, @Param("status") MatchCallback.Status status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MatchCallback c SET c.status = :status, c.attempts = :attempts, c.nextAttemptAt = :nextAttemptAt, " +
+           "c.lastError = :error WHERE c.id = :id")
+    int reschedule(@Param("id") Long id,
+                   @Param("status") MatchCallback.Status status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    // 재처리: 상태와 시도 횟수를 초기화해 바로 처리 대상이 되게 합니다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE MatchCallback c SET c.status = com.nexus.entity.MatchCallback.Status.RECEIVED, c.attempts = 0, " +
+           "c.nextAttemptAt = :now, c.lastError = null WHERE c.id IN :ids")
+    int resetForReplay(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
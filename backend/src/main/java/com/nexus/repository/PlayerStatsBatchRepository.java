@@ -0,0 +1,16 @@
+package com.nexus.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PlayerStatsBatchRepository {
+
+    // 한 매치 참가자들의 결과를 사용자/챔피언/상대 전적 요약 테이블에 UPSERT로 더합니다.
+    // 승패가 다른 두 참가자는 서로 상대 팀으로 봅니다.
+    void applyMatchResults(List<PlayerResult> results, LocalDateTime now);
+
+    // championId가 null이면(매치 상세 없음) 승패만 반영하고 챔피언/KDA는 건너뜁니다.
+    record PlayerResult(long userId, boolean win, Integer championId, String championName,
+                        int kills, int deaths, int assists) {
+    }
+}
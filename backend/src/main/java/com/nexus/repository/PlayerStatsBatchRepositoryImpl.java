@@ -0,0 +1,90 @@
+package com.nexus.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 전적 요약 테이블 UPSERT (PostgreSQL INSERT ... ON CONFLICT).
+ * 매치 결과 워커 여러 개가 같은 사용자의 행을 동시에 갱신할 수 있으므로, 행 잠금 순서가 항상 같도록 키 순으로 정렬해 보냅니다.
+ */
+@RequiredArgsConstructor
+public class PlayerStatsBatchRepositoryImpl implements PlayerStatsBatchRepository {
+
+    private static final String USER_STATS_SQL =
+            "INSERT INTO user_stats (user_id, games, wins, losses, kills, deaths, assists, updated_at) " +
+            "VALUES (?, 1, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id) DO UPDATE SET games = user_stats.games + 1, " +
+            "wins = user_stats.wins + EXCLUDED.wins, losses = user_stats.losses + EXCLUDED.losses, " +
+            "kills = user_stats.kills + EXCLUDED.kills, deaths = user_stats.deaths + EXCLUDED.deaths, " +
+            "assists = user_stats.assists + EXCLUDED.assists, updated_at = EXCLUDED.updated_at";
+
+    private static final String CHAMPION_STATS_SQL =
+            "INSERT INTO user_champion_stats (user_id, champion_id, champion_name, games, wins, kills, deaths, assists) " +
+            "VALUES (?, ?, ?, 1, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, champion_id) DO UPDATE SET games = user_champion_stats.games + 1, " +
+            "champion_name = EXCLUDED.champion_name, wins = user_champion_stats.wins + EXCLUDED.wins, " +
+            "kills = user_champion_stats.kills + EXCLUDED.kills, deaths = user_champion_stats.deaths + EXCLUDED.deaths, " +
+            "assists = user_champion_stats.assists + EXCLUDED.assists";
+
+    private static final String HEAD_TO_HEAD_SQL =
+            "INSERT INTO head_to_head_stats (user_id, opponent_id, games, wins) VALUES (?, ?, 1, ?) " +
+            "ON CONFLICT (user_id, opponent_id) DO UPDATE SET games = head_to_head_stats.games + 1, " +
+            "wins = head_to_head_stats.wins + EXCLUDED.wins";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void applyMatchResults(List<PlayerResult> results, LocalDateTime now) {
+        List<PlayerResult> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingLong(PlayerResult::userId));
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(USER_STATS_SQL, sorted, sorted.size(), (ps, result) -> {
+            ps.setLong(1, result.userId());
+            ps.setInt(2, result.win() ? 1 : 0);
+            ps.setInt(3, result.win() ? 0 : 1);
+            ps.setInt(4, result.kills());
+            ps.setInt(5, result.deaths());
+            ps.setInt(6, result.assists());
+            ps.setTimestamp(7, timestamp);
+        });
+
+        List<PlayerResult> withChampion = sorted.stream().filter(result -> result.championId() != null).toList();
+        if (!withChampion.isEmpty()) {
+            jdbcTemplate.batchUpdate(CHAMPION_STATS_SQL, withChampion, withChampion.size(), (ps, result) -> {
+                ps.setLong(1, result.userId());
+                ps.setInt(2, result.championId());
+                ps.setString(3, result.championName());
+                ps.setInt(4, result.win() ? 1 : 0);
+                ps.setInt(5, result.kills());
+                ps.setInt(6, result.deaths());
+                ps.setInt(7, result.assists());
+            });
+        }
+
+        // (userId, opponentId) 순으로 만들어지므로 이미 키 순으로 정렬되어 있습니다.
+        List<long[]> pairs = new ArrayList<>();
+        for (PlayerResult player : sorted) {
+            for (PlayerResult opponent : sorted) {
+                if (player.win() != opponent.win()) {
+                    pairs.add(new long[]{player.userId(), opponent.userId(), player.win() ? 1 : 0});
+                }
+            }
+        }
+        if (!pairs.isEmpty()) {
+            jdbcTemplate.batchUpdate(HEAD_TO_HEAD_SQL, pairs, pairs.size(), (ps, pair) -> {
+                ps.setLong(1, pair[0]);
+                ps.setLong(2, pair[1]);
+                ps.setInt(3, (int) pair[2]);
+            });
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nexus.repository;
+
+import com.nexus.entity.UserChampionStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserChampionStatsRepository extends JpaRepository<UserChampionStats, UserChampionStats.Key> {
+
+    // PK(user_id, champion_id) 앞부분으로 한 사용자의 행만 읽습니다.
+    List<UserChampionStats> findByUserIdOrderByGamesDesc(Long userId, Pageable limit);
+}
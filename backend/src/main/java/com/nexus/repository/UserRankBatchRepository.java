@@ -0,0 +1,24 @@
+package com.nexus.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserRankBatchRepository {
+
+    // 랭크 동기화 대상: id가 afterId보다 크고 PUUID가 있으며 syncedBefore 이전에 동기화된(또는 한 번도 안 된) 사용자를 id순으로 limit명
+    // activeSince가 주어지면 그 이후 활동한 사용자만 조회합니다.
+    List<RankSyncTarget> findRankSyncTargets(long afterId, LocalDateTime activeSince, LocalDateTime syncedBefore, int limit);
+
+    // 위 조건에서 afterId 이후 남은 사용자 수 (동기화 backlog 지표용)
+    long countRankSyncTargets(long afterId, LocalDateTime activeSince, LocalDateTime syncedBefore);
+
+    // 랭크 필드와 동기화 시각을 한 번의 JDBC 배치 UPDATE로 반영합니다.
+    void updateRanks(List<RankUpdate> updates, LocalDateTime syncedAt);
+
+    record RankSyncTarget(long id, String puuid) {
+    }
+
+    record RankUpdate(long id, String soloTier, String soloRank, int soloLeaguePoints,
+                      String flexTier, String flexRank, int flexLeaguePoints) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.nexus.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 랭크 동기화 작업용 조회/갱신입니다. 사용자 엔티티를 로딩하지 않도록 JdbcTemplate으로 필요한 컬럼만 다룹니다.
+ * 조회는 id 키셋(id > 커서) 방식이라 진행 위치와 무관하게 PK 인덱스 범위 탐색으로 끝납니다.
+ */
+@RequiredArgsConstructor
+public class UserRankBatchRepositoryImpl implements UserRankBatchRepository {
+
+    private static final String TARGET_CONDITION =
+            "WHERE id > ? AND puuid IS NOT NULL " +
+            "AND (rank_synced_at IS NULL OR rank_synced_at < ?) ";
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET solo_tier = ?, solo_rank = ?, solo_league_points = ?, " +
+            "flex_tier = ?, flex_rank = ?, flex_league_points = ?, rank_synced_at = ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RankSyncTarget> findRankSyncTargets(long afterId, LocalDateTime activeSince,
+                                                    LocalDateTime syncedBefore, int limit) {
+        List<Object> args = arguments(afterId, activeSince, syncedBefore);
+        args.add(limit);
+        return jdbcTemplate.query(
+                "SELECT id, puuid FROM users " + condition(activeSince) + "ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new RankSyncTarget(rs.getLong("id"), rs.getString("puuid")),
+                args.toArray());
+    }
+
+    @Override
+    public long countRankSyncTargets(long afterId, LocalDateTime activeSince, LocalDateTime syncedBefore) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users " + condition(activeSince),
+                Long.class,
+                arguments(afterId, activeSince, syncedBefore).toArray());
+        return count != null ? count : 0;
+    }
+
+    @Override
+    @Transactional
+    public void updateRanks(List<RankUpdate> updates, LocalDateTime syncedAt) {
+        Timestamp timestamp = Timestamp.valueOf(syncedAt);
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.soloTier());
+            ps.setString(2, update.soloRank());
+            ps.setInt(3, update.soloLeaguePoints());
+            ps.setString(4, update.flexTier());
+            ps.setString(5, update.flexRank());
+            ps.setInt(6, update.flexLeaguePoints());
+            ps.setTimestamp(7, timestamp);
+            ps.setTimestamp(8, timestamp);
+            ps.setLong(9, update.id());
+        });
+    }
+
+    private static String condition(LocalDateTime activeSince) {
+        return activeSince != null ? TARGET_CONDITION + "AND last_active_at >= ? " : TARGET_CONDITION;
+    }
+
+    private static List<Object> arguments(long afterId, LocalDateTime activeSince, LocalDateTime syncedBefore) {
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        args.add(Timestamp.valueOf(syncedBefore));
+        if (activeSince != null) {
+            args.add(Timestamp.valueOf(activeSince));
+        }
+        return args;
+    }
+}
@@ -2,12 +2,17 @@ package com.nexus.repository;
 
 import com.nexus.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRankBatchRepository {
 
     // JpaRepository를 상속받는 것만으로 기본적인 CRUD 메서드가 자동으로 생성됩니다.
     // 예: save(), findById(), findAll(), delete() 등
@@ -18,4 +23,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUserCode(String userCode); 
     Optional<User> findByNickname(String nickname);
+    Optional<User> findByPuuid(String puuid);
+
+    // 랭크 동기화 우선순위에 쓰는 최근 활동 시각만 갱신합니다 (엔티티를 읽지 않음).
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.lastActiveAt = :now WHERE u.id = :userId")
+    int markActive(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,26 @@
+package com.nexus.repository;
+
+import com.nexus.entity.UserStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long>, PlayerStatsBatchRepository {
+
+    // 리더보드: idx_user_stats_wins 순서대로 상위 N명만 읽습니다.
+    @Query("SELECT s.userId AS userId, u.nickname AS nickname, s.games AS games, s.wins AS wins " +
+           "FROM UserStats s JOIN User u ON u.id = s.userId " +
+           "ORDER BY s.wins DESC, s.userId")
+    List<LeaderboardView> findLeaderboard(Pageable limit);
+
+    interface LeaderboardView {
+        Long getUserId();
+        String getNickname();
+        int getGames();
+        int getWins();
+    }
+}
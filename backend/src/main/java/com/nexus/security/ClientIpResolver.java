@@ -0,0 +1,44 @@
+package com.nexus.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청의 클라이언트 IP를 구합니다 (X-Forwarded-For의 첫 번째 주소 → X-Real-IP → 연결 주소 순).
+ * 한 요청 안에서 필터, 인터셉터, 감사 로그가 각각 헤더를 다시 파싱하지 않도록 결과를 요청 속성에 저장해 둡니다.
+ */
+@Component
+public class ClientIpResolver {
+
+    public static final String ATTRIBUTE = ClientIpResolver.class.getName() + ".clientIp";
+
+    public String resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof String clientIp) {
+            return clientIp;
+        }
+        String clientIp = parse(request);
+        request.setAttribute(ATTRIBUTE, clientIp);
+        return clientIp;
+    }
+
+    private String parse(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (isPresent(xForwardedFor)) {
+            // 정규식 split 대신 첫 쉼표까지만 잘라 냅니다 (주소가 하나면 그대로 사용).
+            int comma = xForwardedFor.indexOf(',');
+            return (comma < 0 ? xForwardedFor : xForwardedFor.substring(0, comma)).trim();
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (isPresent(xRealIp)) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    private static boolean isPresent(String header) {
+        return header != null && !header.isEmpty() && !"unknown".equalsIgnoreCase(header);
+    }
+}
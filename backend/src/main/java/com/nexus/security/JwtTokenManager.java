@@ -2,19 +2,17 @@ package com.nexus.security;
 
 import com.nexus.entity.AuditLog;
 import com.nexus.service.AuditService;
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
-import com.nimbusds.jose.proc.SecurityContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -25,8 +23,9 @@ public class JwtTokenManager {
     private final RedisTemplate<String, String> redisTemplate;
     private final AuditService auditService;
 
-    @Value("${jwt.secret:dev-secret}")
-    private String jwtSecret;
+    // JwtConfig에서 한 번 만든 인코더/디코더 (디코더는 리소스 서버와 공유)
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder jwtDecoder;
 
     @Value("${jwt.access-token-expiration:3600}")
     private long accessTokenExpiration; // 1시간
@@ -36,6 +35,7 @@ public class JwtTokenManager {
 
     private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
     private static final String REFRESH_TOKEN_PREFIX = "jwt:refresh:";
+    private static final JwsHeader JWS_HEADER = JwsHeader.with(MacAlgorithm.HS256).build();
 
     public String generateAccessToken(String userId, String email, String nickname, String role) {
         Instant now = Instant.now();
@@ -46,6 +46,7 @@ public class JwtTokenManager {
             .issuedAt(now)
             .expiresAt(expiration)
             .subject(userId)
+            .id(UUID.randomUUID().toString())
             .claim("email", email)
             .claim("preferred_username", nickname)
             .claim("role", role)
@@ -64,6 +65,7 @@ public class JwtTokenManager {
             .issuedAt(now)
             .expiresAt(expiration)
             .subject(userId)
+            .id(UUID.randomUUID().toString())
             .claim("type", "refresh")
             .build();
 
@@ -82,18 +84,40 @@ public class JwtTokenManager {
 
     public boolean isTokenBlacklisted(String token) {
         try {
-            String jti = extractJti(token);
-            return redisTemplate.hasKey(BLACKLIST_PREFIX + jti);
+            return isTokenBlacklisted(decodeToken(token));
         } catch (Exception e) {
             log.warn("Error checking token blacklist status", e);
             return true; // 오류 시 안전하게 차단
         }
     }
 
+    /**
+     * 액세스 토큰을 한 번만 파싱해 서명/만료, 토큰 종류, 블랙리스트를 확인합니다.
+     * HTTP 요청 밖(WebSocket CONNECT 등)에서 인증할 때 사용합니다.
+     * @throws JwtException 유효하지 않거나 차단된 토큰인 경우
+     */
+    public Jwt decodeAccessToken(String token) {
+        Jwt jwt = decodeToken(token);
+        if (!"access".equals(jwt.getClaimAsString("type"))) {
+            throw new JwtException("Invalid token type");
+        }
+        if (isTokenBlacklisted(jwt)) {
+            throw new JwtException("Access token is blacklisted");
+        }
+        return jwt;
+    }
+
+    // 이미 파싱한 토큰의 블랙리스트 여부 (호출하는 쪽에서 예외를 처리)
+    private boolean isTokenBlacklisted(Jwt jwt) {
+        return redisTemplate.hasKey(BLACKLIST_PREFIX + jwt.getId());
+    }
+
     public void blacklistToken(String token, String userId, String reason) {
         try {
-            String jti = extractJti(token);
-            long expiration = extractExpiration(token);
+            // 한 번만 파싱해서 jti와 만료 시각을 같이 읽습니다.
+            Jwt jwt = decodeToken(token);
+            String jti = jwt.getId();
+            long expiration = jwt.getExpiresAt().getEpochSecond();
 
             // 토큰이 만료될 때까지 블랙리스트에 유지
             long ttl = expiration - System.currentTimeMillis() / 1000;
@@ -137,11 +161,11 @@ public class JwtTokenManager {
 
     public String refreshAccessToken(String refreshToken) {
         try {
-            if (isTokenBlacklisted(refreshToken)) {
+            Jwt jwt = decodeToken(refreshToken);
+            if (isTokenBlacklisted(jwt)) {
                 throw new JwtException("Refresh token is blacklisted");
             }
 
-            Jwt jwt = decodeToken(refreshToken);
             String userId = jwt.getSubject();
             String tokenType = jwt.getClaimAsString("type");
 
@@ -164,26 +188,13 @@ public class JwtTokenManager {
         }
     }
 
+    // 헤더를 지정하지 않으면 RS256으로 서명하려다 HMAC 키를 찾지 못하므로 HS256을 명시합니다.
     private String encodeToken(JwtClaimsSet claims) {
-        SecretKeySpec secretKey = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<SecurityContext>(secretKey));
-        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return jwtEncoder.encode(JwtEncoderParameters.from(JWS_HEADER, claims)).getTokenValue();
     }
 
     private Jwt decodeToken(String token) {
-        SecretKeySpec secretKey = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(secretKey).build();
-        return decoder.decode(token);
-    }
-
-    private String extractJti(String token) {
-        Jwt jwt = decodeToken(token);
-        return jwt.getClaimAsString("jti");
-    }
-
-    private long extractExpiration(String token) {
-        Jwt jwt = decodeToken(token);
-        return jwt.getExpiresAt().getEpochSecond();
+        return jwtDecoder.decode(token);
     }
 
     // OAuth2Service에서 사용하는 User 객체로 토큰 생성
@@ -0,0 +1,86 @@
+package com.nexus.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * JVM 메모리의 Bucket4j 버킷. 단일 노드 배포의 기본 저장소이자, Redis 장애 시 RedisRateLimitStore의 대체 저장소입니다.
+ * 정책이 바뀌면 버킷을 새로 만들지 않고 다음 요청 때 설정만 교체하므로 이미 쓴 토큰 수는 그대로 이어집니다.
+ */
+@Component
+public class LocalRateLimitStore implements RateLimitStore {
+
+    // 최대 개수를 넘거나 일정 시간 요청이 없는 버킷은 제거합니다.
+    // 한도 주기보다 오래 쉬면 버킷은 어차피 가득 찬 상태이므로, 제거 후 새로 만들어도 제한이 느슨해지지 않습니다.
+    private final Cache<String, RuleBucket> buckets;
+
+    public LocalRateLimitStore(MeterRegistry meterRegistry,
+                               @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+                               @Value("${rate-limit.bucket-idle-timeout-ms:120000}") long bucketIdleTimeoutMs) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofMillis(bucketIdleTimeoutMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit.buckets");
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitRule rule) {
+        return buckets.get(key, k -> new RuleBucket(rule)).tryConsume(rule);
+    }
+
+    private static BucketConfiguration configuration(RateLimitRule rule) {
+        ConfigurationBuilder builder = BucketConfiguration.builder();
+        rule.limits().forEach(limit -> builder.addLimit(bandwidth(limit)));
+        return builder.build();
+    }
+
+    private static Bandwidth bandwidth(RateLimitRule.Limit limit) {
+        return Bandwidth.classic(limit.capacity(), Refill.intervally(limit.capacity(), limit.period()));
+    }
+
+    /**
+     * 버킷과 그 버킷을 만든(마지막으로 적용한) 정책.
+     */
+    private static final class RuleBucket {
+        private final Bucket bucket;
+        private volatile RateLimitRule rule;
+
+        private RuleBucket(RateLimitRule rule) {
+            LocalBucketBuilder builder = Bucket.builder();
+            rule.limits().forEach(limit -> builder.addLimit(bandwidth(limit)));
+            this.bucket = builder.build();
+            this.rule = rule;
+        }
+
+        boolean tryConsume(RateLimitRule current) {
+            // 정책은 다시 불러올 때만 새 객체가 되므로 보통은 참조 비교 한 번으로 끝납니다.
+            if (current != rule) {
+                reconfigure(current);
+            }
+            return bucket.tryConsume(1);
+        }
+
+        private synchronized void reconfigure(RateLimitRule current) {
+            if (!current.equals(rule)) {
+                // AS_IS: 남은 토큰 수를 유지하고, 새 한도보다 많으면 새 한도로 줄입니다.
+                bucket.replaceConfiguration(configuration(current), TokensInheritanceStrategy.AS_IS);
+            }
+            rule = current;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.nexus.security;
+
+import com.nexus.config.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 한도 정책을 재배포 없이 조회/변경하는 Actuator 엔드포인트입니다 (관리자만 접근, SecurityConfig 참고).
+ * - GET /actuator/ratelimits: 현재 정책
+ * - POST /actuator/ratelimits {"scope":"route","target":"/api/games/**","requestsPerMinute":120,"burstCapacity":20}
+ *   scope는 tier(general/auth/sensitive), route(경로 템플릿 Ant 패턴), role, user(사용자 ID)
+ * - DELETE /actuator/ratelimits?scope=route&target=/api/games/**
+ * 변경은 이 노드의 메모리에만 반영되며 재시작하면 application.properties 값으로 돌아갑니다.
+ */
+@Component
+@Endpoint(id = "ratelimits")
+@RequiredArgsConstructor
+public class RateLimitEndpoint {
+
+    private final RateLimitPolicyEngine policyEngine;
+
+    @ReadOperation
+    public Map<String, Object> policies() {
+        return policyEngine.describe();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(String scope, String target,
+                                      @Nullable Long requestsPerMinute,
+                                      @Nullable Long burstCapacity,
+                                      @Nullable Long burstPeriodMs) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setRequestsPerMinute(requestsPerMinute != null ? requestsPerMinute : 0);
+        policy.setBurstCapacity(burstCapacity != null ? burstCapacity : 0);
+        if (burstPeriodMs != null) {
+            policy.setBurstPeriodMs(burstPeriodMs);
+        }
+        try {
+            policyEngine.putPolicy(scope(scope), target, policy);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return policyEngine.describe();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(String scope, String target) {
+        try {
+            policyEngine.removePolicy(scope(scope), target);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return policyEngine.describe();
+    }
+
+    private static RateLimitPolicyEngine.Scope scope(String scope) {
+        try {
+            return RateLimitPolicyEngine.Scope.valueOf(scope.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("scope는 tier, route, role, user 중 하나여야 합니다: " + scope);
+        }
+    }
+}
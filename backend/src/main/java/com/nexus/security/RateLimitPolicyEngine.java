@@ -0,0 +1,232 @@
+package com.nexus.security;
+
+import com.nexus.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RateLimitProperties의 정책을 요청별 한도(RateLimitRule)로 바꿉니다.
+ * - 적용 순서: 경로 템플릿 정책 → 사용자 정책 → 역할 정책 → 한도 종류(general/auth/sensitive) 기본값.
+ * - 정책은 변경할 때마다 읽기 전용 스냅샷으로 새로 만들어 교체하므로, 요청 처리 중에는 잠금 없이 읽기만 합니다.
+ *   경로별 결과는 스냅샷 안에 템플릿 단위로 캐시합니다.
+ * - 이미 만들어진 버킷은 그대로 두고 다음 요청부터 새 한도가 적용됩니다 (RateLimitStore 구현 참고).
+ */
+@Component
+@Slf4j
+public class RateLimitPolicyEngine {
+
+    public enum Scope {
+        TIER, ROUTE, ROLE, USER
+    }
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private volatile Snapshot snapshot;
+
+    public RateLimitPolicyEngine(RateLimitProperties properties) {
+        this.properties = properties;
+        // 설정 파일의 경로/역할/사용자 정책도 같은 기준으로 검사해 잘못된 설정이면 시작하지 않습니다.
+        properties.getRoutes().forEach(RateLimitPolicyEngine::validate);
+        properties.getRoles().values().forEach(RateLimitPolicyEngine::validate);
+        properties.getUsers().values().forEach(RateLimitPolicyEngine::validate);
+        this.snapshot = new Snapshot(properties);
+    }
+
+    public boolean isEnabled() {
+        return snapshot.enabled;
+    }
+
+    /**
+     * @param userId 로그인한 사용자 ID (없으면 null)
+     * @param role 로그인한 사용자의 역할 (없으면 null)
+     */
+    public RateLimitRule resolve(RequestClassifier.Route route, String userId, String role) {
+        Snapshot current = snapshot;
+        RateLimitRule rule = current.routeRule(route.template());
+        if (rule != null) {
+            return rule;
+        }
+        if (userId != null && (rule = current.users.get(userId)) != null) {
+            return rule;
+        }
+        if (role != null && (rule = current.roles.get(role.toUpperCase(Locale.ROOT))) != null) {
+            return rule;
+        }
+        return current.tiers.get(route.tier());
+    }
+
+    /**
+     * 정책 하나를 추가하거나 바꿉니다. target은 한도 종류(general 등), 경로 패턴, 역할 또는 사용자 ID입니다.
+     */
+    public synchronized void putPolicy(Scope scope, String target, RateLimitProperties.Policy policy) {
+        validate(policy);
+        switch (scope) {
+            case TIER -> properties.getTiers().put(tier(target), policy);
+            case ROUTE -> {
+                RateLimitProperties.RoutePolicy routePolicy = new RateLimitProperties.RoutePolicy();
+                routePolicy.setPattern(target);
+                routePolicy.setRequestsPerMinute(policy.getRequestsPerMinute());
+                routePolicy.setBurstCapacity(policy.getBurstCapacity());
+                routePolicy.setBurstPeriodMs(policy.getBurstPeriodMs());
+                List<RateLimitProperties.RoutePolicy> routes = properties.getRoutes();
+                int index = indexOfRoute(target);
+                if (index >= 0) {
+                    routes.set(index, routePolicy);
+                } else {
+                    routes.add(routePolicy);
+                }
+            }
+            case ROLE -> properties.getRoles().put(target.toUpperCase(Locale.ROOT), policy);
+            case USER -> properties.getUsers().put(target, policy);
+        }
+        reload();
+        log.info("Rate limit policy updated: {} {} ({}/min, burst {}/{}ms)", scope, target,
+                policy.getRequestsPerMinute(), policy.getBurstCapacity(), policy.getBurstPeriodMs());
+    }
+
+    /**
+     * 정책 하나를 지웁니다. 한도 종류는 추가 설정만 지워지고 rate-limit.*-requests-per-minute 값으로 돌아갑니다.
+     * @return 지운 정책이 있었으면 true
+     */
+    public synchronized boolean removePolicy(Scope scope, String target) {
+        boolean removed = switch (scope) {
+            case TIER -> properties.getTiers().remove(tier(target)) != null;
+            case ROUTE -> {
+                int index = indexOfRoute(target);
+                yield index >= 0 && properties.getRoutes().remove(index) != null;
+            }
+            case ROLE -> properties.getRoles().keySet().removeIf(role -> role.equalsIgnoreCase(target));
+            case USER -> properties.getUsers().remove(target) != null;
+        };
+        if (removed) {
+            reload();
+            log.info("Rate limit policy removed: {} {}", scope, target);
+        }
+        return removed;
+    }
+
+    /**
+     * 현재 적용 중인 정책 (한도 종류별 기본값은 최종 한도).
+     */
+    public synchronized Map<String, Object> describe() {
+        Snapshot current = snapshot;
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("enabled", current.enabled);
+        description.put("tiers", current.tiers);
+        description.put("routes", properties.getRoutes());
+        description.put("roles", properties.getRoles());
+        description.put("users", properties.getUsers());
+        return description;
+    }
+
+    private void reload() {
+        this.snapshot = new Snapshot(properties);
+    }
+
+    private int indexOfRoute(String pattern) {
+        List<RateLimitProperties.RoutePolicy> routes = properties.getRoutes();
+        for (int i = 0; i < routes.size(); i++) {
+            if (pattern.equals(routes.get(i).getPattern())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static RateLimitTier tier(String target) {
+        try {
+            return RateLimitTier.valueOf(target.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 한도 종류입니다: " + target);
+        }
+    }
+
+    private static void validate(RateLimitProperties.Policy policy) {
+        // 한도가 하나도 없는 정책은 제한 없음이 되어 기본 한도까지 덮어버리므로 받지 않습니다.
+        if (policy.getRequestsPerMinute() <= 0 && policy.getBurstCapacity() <= 0) {
+            throw new IllegalArgumentException("requestsPerMinute 또는 burstCapacity 중 하나는 0보다 커야 합니다.");
+        }
+        if (policy.getBurstCapacity() > 0 && policy.getBurstPeriodMs() <= 0) {
+            throw new IllegalArgumentException("버스트 한도에는 0보다 큰 burstPeriodMs가 필요합니다.");
+        }
+    }
+
+    private static RateLimitRule toRule(String name, long requestsPerMinute, RateLimitProperties.Policy policy) {
+        List<RateLimitRule.Limit> limits = new ArrayList<>(2);
+        if (requestsPerMinute > 0) {
+            limits.add(new RateLimitRule.Limit(requestsPerMinute, Duration.ofMinutes(1)));
+        }
+        if (policy != null && policy.getBurstCapacity() > 0 && policy.getBurstPeriodMs() > 0) {
+            limits.add(new RateLimitRule.Limit(policy.getBurstCapacity(), Duration.ofMillis(policy.getBurstPeriodMs())));
+        }
+        return new RateLimitRule(name, limits);
+    }
+
+    private static RateLimitRule toRule(String name, RateLimitProperties.Policy policy) {
+        return toRule(name, policy.getRequestsPerMinute(), policy);
+    }
+
+    /**
+     * 특정 시점의 정책을 RateLimitRule로 미리 바꿔 둔 읽기 전용 상태.
+     */
+    private static final class Snapshot {
+        // 경로 정책이 없는 템플릿 표시 (ConcurrentHashMap은 null을 담을 수 없음)
+        private static final RateLimitRule NO_ROUTE_RULE = new RateLimitRule("none", List.of());
+
+        private final boolean enabled;
+        private final Map<RateLimitTier, RateLimitRule> tiers = new EnumMap<>(RateLimitTier.class);
+        private final List<RateLimitProperties.RoutePolicy> routes;
+        private final List<RateLimitRule> routeRules = new ArrayList<>();
+        private final Map<String, RateLimitRule> roles = new HashMap<>();
+        private final Map<String, RateLimitRule> users = new HashMap<>();
+        // 템플릿 → 경로 정책 (템플릿 수만큼만 쌓임)
+        private final Map<String, RateLimitRule> routeRuleCache = new ConcurrentHashMap<>();
+
+        private Snapshot(RateLimitProperties properties) {
+            this.enabled = properties.isEnabled();
+            for (RateLimitTier tier : RateLimitTier.values()) {
+                RateLimitProperties.Policy policy = properties.getTiers().get(tier);
+                long requestsPerMinute = policy != null && policy.getRequestsPerMinute() > 0
+                        ? policy.getRequestsPerMinute()
+                        : properties.requestsPerMinute(tier);
+                tiers.put(tier, toRule(tier.name().toLowerCase(Locale.ROOT), requestsPerMinute, policy));
+            }
+            this.routes = properties.getRoutes().stream()
+                    .filter(route -> route.getPattern() != null)
+                    .toList();
+            routes.forEach(route -> routeRules.add(toRule("route:" + route.getPattern(), route)));
+            properties.getRoles().forEach((role, policy) ->
+                    roles.put(role.toUpperCase(Locale.ROOT), toRule("role:" + role, policy)));
+            properties.getUsers().forEach((userId, policy) -> users.put(userId, toRule("user:" + userId, policy)));
+        }
+
+        private RateLimitRule routeRule(String template) {
+            if (routes.isEmpty()) {
+                return null;
+            }
+            RateLimitRule rule = routeRuleCache.computeIfAbsent(template, this::matchRoute);
+            return rule != NO_ROUTE_RULE ? rule : null;
+        }
+
+        private RateLimitRule matchRoute(String template) {
+            for (int i = 0; i < routes.size(); i++) {
+                if (PATH_MATCHER.match(routes.get(i).getPattern(), template)) {
+                    return routeRules.get(i);
+                }
+            }
+            return NO_ROUTE_RULE;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexus.security;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 버킷 하나에 적용할 한도 묶음. 모든 한도를 동시에 만족해야 요청이 통과합니다 (예: 분당 60회 + 1초 10회 버스트).
+ * @param name 정책 이름 (로그에 사용)
+ * @param limits 비어 있으면 제한 없음
+ */
+public record RateLimitRule(String name, List<Limit> limits) {
+
+    public RateLimitRule {
+        limits = List.copyOf(limits);
+    }
+
+    /**
+     * 한도 하나: period 동안 capacity회.
+     */
+    public record Limit(long capacity, Duration period) {
+    }
+
+    public boolean isUnlimited() {
+        return limits.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package com.nexus.security;
+
+/**
+ * 키별 토큰 버킷 저장소. 구현: 노드별 메모리(LocalRateLimitStore) / Redis 공유(RedisRateLimitStore).
+ */
+public interface RateLimitStore {
+
+    // key의 버킷에서 토큰 하나를 꺼냅니다. 버킷이 없으면 rule로 새로 만듭니다.
+    boolean tryConsume(String key, RateLimitRule rule);
+}
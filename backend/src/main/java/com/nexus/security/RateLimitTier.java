@@ -0,0 +1,27 @@
+package com.nexus.security;
+
+/**
+ * 경로별 요청 한도 종류입니다. 종류별 한도 값은 RateLimitPolicyEngine이 설정(rate-limit.*)에서 정합니다.
+ */
+public enum RateLimitTier {
+
+    // 일반 API
+    GENERAL,
+    // 인증 API (더 엄격)
+    AUTH,
+    // 비밀번호 변경, 삭제, 관리자 기능 등 민감한 작업
+    SENSITIVE;
+
+    /**
+     * 경로(템플릿 또는 원래 URI)로 한도 종류를 정합니다.
+     */
+    public static RateLimitTier of(String path) {
+        if (path.startsWith("/api/auth/")) {
+            return AUTH;
+        } else if (path.contains("/password") || path.contains("/delete") || path.contains("/admin")) {
+            return SENSITIVE;
+        } else {
+            return GENERAL;
+        }
+    }
+}
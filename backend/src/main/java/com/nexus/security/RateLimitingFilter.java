@@ -1,51 +1,66 @@
 package com.nexus.security;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Bucket4j;
-import io.github.bucket4j.Refill;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private static final String USER_KEY_PREFIX = "user:";
 
-    // 일반 API: 분당 60회
-    private final Bandwidth generalLimit = Bandwidth.classic(60, Refill.intervally(60, Duration.ofMinutes(1)));
+    // 경로 → 템플릿/한도 종류 분류 (시작 시 만든 트라이)
+    private final RequestClassifier requestClassifier;
 
-    // 인증 API: 분당 10회 (더 엄격)
-    private final Bandwidth authLimit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1)));
+    // 요청당 한 번만 파싱하는 클라이언트 IP
+    private final ClientIpResolver clientIpResolver;
 
-    // 민감한 작업: 분당 5회
-    private final Bandwidth sensitiveLimit = Bandwidth.classic(5, Refill.intervally(5, Duration.ofMinutes(1)));
+    // 버킷 저장소: 기본은 노드별 메모리, rate-limit.store=redis면 모든 노드가 Redis 버킷을 공유합니다.
+    private final RateLimitStore rateLimitStore;
+
+    // 경로/사용자/역할별 한도 (rate-limit.* 설정, /actuator/ratelimits로 실행 중 변경 가능)
+    private final RateLimitPolicyEngine policyEngine;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                   FilterChain filterChain) throws ServletException, IOException {
 
-        String clientIp = getClientIpAddress(request);
-        String uri = request.getRequestURI();
-        String key = clientIp + ":" + uri;
+        if (!policyEngine.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        Bucket bucket = buckets.computeIfAbsent(key, this::createBucket);
+        String clientIp = clientIpResolver.resolve(request);
+        String uri = request.getRequestURI();
+        RequestClassifier.Route route = requestClassifier.classify(uri);
+
+        // 로그인한 요청은 사용자별로, 그 외에는 IP별로 버킷을 둡니다 (BearerTokenAuthenticationFilter 다음에 실행됨).
+        String userId = null;
+        String role = null;
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthenticationToken authentication) {
+            Jwt jwt = authentication.getToken();
+            userId = jwt.getSubject();
+            role = jwt.getClaimAsString("role");
+        }
+        RateLimitRule rule = policyEngine.resolve(route, userId, role);
+        String subject = userId != null ? USER_KEY_PREFIX + userId : clientIp;
 
-        if (bucket.tryConsume(1)) {
+        if (rule.isUnlimited() || rateLimitStore.tryConsume(subject.concat(route.keySuffix()), rule)) {
             filterChain.doFilter(request, response);
         } else {
-            log.warn("Rate limit exceeded for IP: {} on URI: {}", clientIp, uri);
+            log.warn("Rate limit exceeded ({}) for {} on URI: {}", rule.name(), subject, uri);
             response.setStatus(429); // Too Many Requests
             response.setContentType("application/json");
             response.getWriter().write(
@@ -55,32 +70,6 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
     }
 
-    private Bucket createBucket(String key) {
-        String uri = key.split(":", 2)[1];
-
-        if (uri.startsWith("/api/auth/")) {
-            return Bucket4j.builder().addLimit(authLimit).build();
-        } else if (uri.contains("/password") || uri.contains("/delete") || uri.contains("/admin")) {
-            return Bucket4j.builder().addLimit(sensitiveLimit).build();
-        } else {
-            return Bucket4j.builder().addLimit(generalLimit).build();
-        }
-    }
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
-    }
-
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String uri = request.getRequestURI();
@@ -0,0 +1,226 @@
+package com.nexus.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 노드가 Redis의 같은 버킷을 쓰는 분산 레이트 리미터입니다 (rate-limit.store=redis).
+ * - 버킷 갱신은 Lua 스크립트 한 번으로 원자적으로 처리하고, 시간은 Redis 서버 시계(TIME)를 기준으로 합니다.
+ * - 매 요청마다 Redis를 부르지 않도록 토큰을 한도의 일부만큼 묶어서 받아 노드 메모리에 잠깐(lease) 보관합니다.
+ *   받아 간 토큰은 Redis에서 이미 빠졌으므로 노드가 몇 개든 전체 한도는 지켜집니다 (못 쓴 토큰은 lease 만료와 함께 버려짐).
+ *   한 번에 받는 수는 lease 보관 시간 동안 다시 채워지는 토큰 수를 넘지 않으므로, 버려지는 토큰이 있어도
+ *   한도보다 느리게 요청하는 사용자가 한도에 걸리지는 않습니다.
+ *   기본 설정(보관 5초)에서 분당 60회 규칙은 5개씩 받고, 분당 10회 이하 규칙은 1개씩 받아 요청마다 Redis를 부릅니다.
+ * - 거절되면 다음 토큰이 채워질 때까지 남은 시간을 Redis가 함께 알려 주고, 그동안 같은 키의 요청은 Redis 없이 바로 거절합니다.
+ *   폭주나 무차별 대입 중에 쏟아지는 거절 요청이 Redis로 가지 않습니다. 그 사이 정책이 완화되어도 이 대기 시간(최대 한도 주기)까지는 거절됩니다.
+ * - 정책이 바뀌면 Redis 버킷은 그대로 두고 다음 호출부터 새 한도로 계산합니다 (이미 받아 둔 lease는 만료될 때까지 사용).
+ * - Redis 호출이 실패하면 일정 시간 동안 fallback 모드(local: 노드별 메모리 버킷 / allow: 제한 없음)로 처리합니다.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+@Slf4j
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1]: 버킷, ARGV: 요청 토큰 수, (capacity, period(ms)) 한도 수만큼
+    // → 내준 토큰 수, 하나도 못 내주면 모든 한도에 토큰이 하나 이상 찰 때까지 남은 시간(ms)을 음수로 반환합니다.
+    // 한도 i의 상태는 t<i>/ts<i> 필드에 두므로, 정책이 바뀌어도 남은 토큰을 이어서 쓰고 새 한도보다 많으면 줄입니다.
+    private static final RedisScript<Long> TAKE_TOKENS = new DefaultRedisScript<>("""
+            local requested = tonumber(ARGV[1])
+            local count = (#ARGV - 1) / 2
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tokens = {}
+            local stamps = {}
+            local granted = requested
+            local ttl = 0
+            for i = 1, count do
+                local capacity = tonumber(ARGV[i * 2])
+                local period = tonumber(ARGV[i * 2 + 1])
+                local state = redis.call('HMGET', KEYS[1], 't' .. i, 'ts' .. i)
+                local t = tonumber(state[1])
+                local ts = tonumber(state[2])
+                if t == nil or ts == nil then
+                    t = capacity
+                    ts = now
+                end
+                if now > ts then
+                    t = t + (now - ts) * capacity / period
+                    ts = now
+                end
+                t = math.min(capacity, t)
+                tokens[i] = t
+                stamps[i] = ts
+                granted = math.min(granted, math.floor(t))
+                ttl = math.max(ttl, period)
+            end
+            for i = 1, count do
+                redis.call('HSET', KEYS[1], 't' .. i, tostring(tokens[i] - granted), 'ts' .. i, tostring(stamps[i]))
+            end
+            redis.call('PEXPIRE', KEYS[1], ttl * 2)
+            if granted > 0 then
+                return granted
+            end
+            local wait = 1
+            for i = 1, count do
+                if tokens[i] < 1 then
+                    local capacity = tonumber(ARGV[i * 2])
+                    local period = tonumber(ARGV[i * 2 + 1])
+                    wait = math.max(wait, math.ceil((1 - tokens[i]) * period / capacity))
+                end
+            end
+            return -wait
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalRateLimitStore localStore;
+    private final Cache<String, Lease> leases;
+    // 거절된 키 → 다음 토큰까지 남은 시간(ms). 그 시간이 지나면 만료됩니다.
+    private final Cache<String, Long> denials;
+    private final int maxBatch;
+    private final double batchRatio;
+    private final long leaseTtlMs;
+    private final boolean fallbackToLocal;
+    private final long retryAfterFailureMs;
+    private final Counter redisCalls;
+    private final Counter fallbackCalls;
+    private final Counter localDenials;
+    private volatile long redisRetryAt;
+
+    public RedisRateLimitStore(StringRedisTemplate redisTemplate,
+                               LocalRateLimitStore localStore,
+                               MeterRegistry meterRegistry,
+                               @Value("${rate-limit.redis.max-batch:10}") int maxBatch,
+                               @Value("${rate-limit.redis.batch-ratio:0.1}") double batchRatio,
+                               @Value("${rate-limit.redis.lease-ttl-ms:5000}") long leaseTtlMs,
+                               @Value("${rate-limit.redis.fallback:local}") String fallback,
+                               @Value("${rate-limit.redis.retry-after-failure-ms:5000}") long retryAfterFailureMs,
+                               @Value("${rate-limit.max-buckets:100000}") long maxBuckets) {
+        this.redisTemplate = redisTemplate;
+        this.localStore = localStore;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.batchRatio = batchRatio;
+        this.leaseTtlMs = leaseTtlMs;
+        this.fallbackToLocal = !"allow".equalsIgnoreCase(fallback);
+        this.retryAfterFailureMs = retryAfterFailureMs;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterWrite(Duration.ofMillis(leaseTtlMs))
+                .build();
+        this.denials = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(Expiry.<String, Long>writing((key, waitMs) -> Duration.ofMillis(waitMs)))
+                .build();
+        this.redisCalls = Counter.builder("nexus.rate_limit.redis.calls")
+                .description("Token batches requested from Redis")
+                .register(meterRegistry);
+        this.fallbackCalls = Counter.builder("nexus.rate_limit.redis.fallback")
+                .description("Rate limit checks served by the fallback mode while Redis is unavailable")
+                .register(meterRegistry);
+        this.localDenials = Counter.builder("nexus.rate_limit.redis.local_denials")
+                .description("Requests rejected from the local denial cache without calling Redis")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitRule rule) {
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null && lease.tryTake()) {
+            return true;
+        }
+        if (denials.getIfPresent(key) != null) {
+            localDenials.increment();
+            return false;
+        }
+
+        if (System.currentTimeMillis() < redisRetryAt) {
+            return fallback(key, rule);
+        }
+        try {
+            redisCalls.increment();
+            Long granted = redisTemplate.execute(TAKE_TOKENS, List.of(KEY_PREFIX + key), arguments(rule));
+            if (granted == null || granted == 0) {
+                return false;
+            }
+            if (granted < 0) {
+                denials.put(key, -granted);
+                return false;
+            }
+            if (granted > 1) {
+                leases.put(key, new Lease(granted - 1));
+            }
+            return true;
+        } catch (DataAccessException e) {
+            redisRetryAt = System.currentTimeMillis() + retryAfterFailureMs;
+            log.warn("Redis rate limiting unavailable, using {} fallback for {} ms: {}",
+                    fallbackToLocal ? "local" : "allow", retryAfterFailureMs, e.getMessage());
+            return fallback(key, rule);
+        }
+    }
+
+    private Object[] arguments(RateLimitRule rule) {
+        List<RateLimitRule.Limit> limits = rule.limits();
+        Object[] arguments = new Object[1 + limits.size() * 2];
+        arguments[0] = String.valueOf(batchSize(limits));
+        for (int i = 0; i < limits.size(); i++) {
+            arguments[1 + i * 2] = String.valueOf(limits.get(i).capacity());
+            arguments[2 + i * 2] = String.valueOf(limits.get(i).period().toMillis());
+        }
+        return arguments;
+    }
+
+    // 한도가 작은 규칙(인증 10회, 버스트 한도 등)은 1개씩만 받아 노드 간 배분이 치우치지 않게 합니다.
+    // 또 lease 보관 시간 동안 채워지는 토큰 수보다 많이 받지 않습니다. 그러면 못 쓰고 버려지는 토큰이 채워지는 속도를 넘지 않고,
+    // 한 노드가 받아 둔 토큰 때문에 같은 사용자의 다른 노드 요청이 버킷을 비어 있다고 보는 일도 줄어듭니다.
+    long batchSize(List<RateLimitRule.Limit> limits) {
+        long batch = maxBatch;
+        for (RateLimitRule.Limit limit : limits) {
+            long refilledDuringLease = limit.capacity() * leaseTtlMs / Math.max(1, limit.period().toMillis());
+            batch = Math.min(batch, Math.min((long) (limit.capacity() * batchRatio), refilledDuringLease));
+        }
+        return Math.max(1, batch);
+    }
+
+    private boolean fallback(String key, RateLimitRule rule) {
+        fallbackCalls.increment();
+        return !fallbackToLocal || localStore.tryConsume(key, rule);
+    }
+
+    // Redis에서 미리 받아 둔 토큰 (만료되면 남은 토큰은 버립니다)
+    private static final class Lease {
+        private final AtomicLong remaining;
+
+        private Lease(long tokens) {
+            this.remaining = new AtomicLong(tokens);
+        }
+
+        boolean tryTake() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.nexus.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 경로를 컨트롤러에 등록된 경로 템플릿과 한도 종류로 분류합니다.
+ * 예: /api/games/AB12CD/join → /api/games/{roomCode}/join (GENERAL)
+ * 필터는 DispatcherServlet보다 먼저 실행되어 매핑된 템플릿을 알 수 없으므로, 시작 시 등록된 패턴을 세그먼트 트라이로 만들어 직접 매칭합니다.
+ * - 매칭은 URI를 잘라 내지 않고 위치만 옮겨 가며 비교하므로 요청마다 객체를 만들지 않습니다.
+ * - 같은 위치에서는 고정 세그먼트 → 경로 변수 → 나머지 전체({*path}, **) 순으로 시도합니다 (Spring의 구체성 순서와 같음).
+ * - 한 세그먼트 안에 변수와 문자가 섞인 패턴({name}.json 등)은 변수 세그먼트로 취급합니다.
+ */
+@Component
+@Slf4j
+public class RequestClassifier implements ApplicationListener<ContextRefreshedEvent> {
+
+    // 등록되지 않은 경로(404 대상)는 한도 종류별로 한 버킷을 같이 씁니다.
+    private static final String UNMATCHED_ROUTE = "(unmatched)";
+
+    private final Map<RateLimitTier, Route> unmatched = new EnumMap<>(RateLimitTier.class);
+
+    private volatile Node root = new Node();
+
+    public RequestClassifier() {
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            unmatched.put(tier, new Route(UNMATCHED_ROUTE + tier.name().toLowerCase(Locale.ROOT), tier));
+        }
+    }
+
+    /**
+     * 분류 결과.
+     * @param template 경로 템플릿 (등록되지 않은 경로면 "(unmatched)" + 한도 종류)
+     * @param keySuffix 버킷 키에 붙일 ":" + template (요청마다 새로 만들지 않도록 미리 계산)
+     */
+    public record Route(String template, RateLimitTier tier, String keySuffix) {
+
+        Route(String template, RateLimitTier tier) {
+            this(template, tier, ":" + template);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        Set<String> values = new LinkedHashSet<>();
+        mapping.getHandlerMethods().keySet().forEach(info -> values.addAll(info.getPatternValues()));
+        load(values);
+        log.info("Loaded {} route templates for rate limiting", values.size());
+    }
+
+    // 등록 순서대로 넣으므로 모양이 같은 템플릿은 먼저 온 것이 남습니다.
+    void load(Collection<String> patterns) {
+        Node built = new Node();
+        patterns.forEach(pattern -> insert(built, pattern));
+        this.root = built;
+    }
+
+    /**
+     * @return 매칭된 경로 템플릿과 한도 종류. 등록되지 않은 경로면 원래 URI로 정한 한도 종류의 공용 분류
+     */
+    public Route classify(String uri) {
+        Route route = match(root, uri, 0);
+        return route != null ? route : unmatched.get(RateLimitTier.of(uri));
+    }
+
+    private static void insert(Node root, String pattern) {
+        Route route = new Route(pattern, RateLimitTier.of(pattern));
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**") || segment.startsWith("{*")) {
+                if (node.catchAll == null) {
+                    node.catchAll = route;
+                }
+                return;
+            }
+            node = segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0
+                    ? node.variable()
+                    : node.literal(segment);
+        }
+        // 메서드만 다르고 모양이 같은 템플릿은 먼저 등록된 것 하나로 묶습니다.
+        if (node.route == null) {
+            node.route = route;
+        }
+    }
+
+    // pos는 다음 세그먼트 앞의 '/' 위치 (경로 끝이면 uri.length())
+    private static Route match(Node node, String uri, int pos) {
+        int length = uri.length();
+        if (pos >= length || (pos == 0 && length == 1)) {
+            return node.route != null ? node.route : node.catchAll;
+        }
+        int start = pos + 1;
+        int end = uri.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - start;
+        if (segmentLength > 0) {
+            String[] literals = node.literals;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == segmentLength && uri.regionMatches(start, literal, 0, segmentLength)) {
+                    Route route = match(node.literalChildren[i], uri, end);
+                    if (route != null) {
+                        return route;
+                    }
+                    break;
+                }
+            }
+            if (node.variable != null) {
+                Route route = match(node.variable, uri, end);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return node.catchAll;
+    }
+
+    /**
+     * 트라이 노드. 시작 시 한 번 만들고 이후에는 읽기만 하므로, 자식은 조회가 빠른 배열로 둡니다.
+     */
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node variable;
+        private Route catchAll;
+        private Route route;
+
+        private Node literal(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        private Node variable() {
+            if (variable == null) {
+                variable = new Node();
+            }
+            return variable;
+        }
+    }
+}
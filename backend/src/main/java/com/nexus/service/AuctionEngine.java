@@ -0,0 +1,266 @@
+package com.nexus.service;
+
+import com.nexus.config.AuctionProperties;
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.AuctionDto;
+import com.nexus.entity.GameRoomStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경매 팀 구성 엔진입니다.
+ * - 방마다 고정된 단일 스레드 이벤트 루프에서 입찰/시계/낙찰을 처리하므로 방 상태에 락이 필요 없습니다.
+ * - 입찰 검증은 메모리 상태만 보며 DB에 접근하지 않습니다. 최종 팀 배정만 RoomStateEngine을 통해 반영합니다.
+ * - 경매 이벤트는 묶지 않고 바로 /topic/rooms/{roomCode}/auction 으로 보냅니다.
+ * - 경매는 방을 소유한 노드에만 있습니다. 방이 메모리에서 내려가면 경매를 중단하고, 방을 다시 올리는 쪽이 모집 단계로 되돌립니다.
+ */
+@Component
+@Slf4j
+public class AuctionEngine {
+
+    public static final String ERROR_QUEUE = "/queue/errors";
+
+    private final AuctionProperties properties;
+    private final RoomEventRelay eventRelay;
+    private final RoomStateEngine roomStateEngine;
+    private final ScheduledExecutorService[] loops;
+    private final ConcurrentMap<String, AuctionRoom> auctions = new ConcurrentHashMap<>();
+    private final Counter acceptedBids;
+    private final Counter rejectedBids;
+
+    public AuctionEngine(AuctionProperties properties,
+                         RoomEventRelay eventRelay,
+                         RoomStateEngine roomStateEngine,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.eventRelay = eventRelay;
+        this.roomStateEngine = roomStateEngine;
+        this.loops = new ScheduledExecutorService[Math.max(1, properties.getEventLoopThreads())];
+        AtomicInteger threadIndex = new AtomicInteger();
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> new Thread(runnable, "auction-loop-" + threadIndex.incrementAndGet()));
+        }
+        this.acceptedBids = Counter.builder("nexus.auction.bids")
+                .description("Auction bids by result")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedBids = Counter.builder("nexus.auction.bids")
+                .description("Auction bids by result")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        roomStateEngine.onEvicted(this::cancel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ScheduledExecutorService loop : loops) {
+            loop.shutdownNow();
+        }
+    }
+
+    public static String topicOf(String roomCode) {
+        return RoomEventPublisher.ROOM_TOPIC_PREFIX + roomCode + "/auction";
+    }
+
+    /**
+     * 방의 현재 참가자로 경매를 시작합니다. 참가자 수는 10의 배수여야 합니다.
+     */
+    public void start(String roomCode, List<AuctionRoom.Bidder> participants) {
+        if (participants.isEmpty() || participants.size() % (AuctionRoom.TEAM_SIZE * 2) != 0) {
+            throw new IllegalStateException("경매를 시작하려면 참가자 수가 10의 배수여야 합니다. 현재 참가자: " + participants.size());
+        }
+
+        ScheduledExecutorService loop = loops[Math.floorMod(roomCode.hashCode(), loops.length)];
+        AuctionRoom auction = new AuctionRoom(roomCode, loop, participants, properties.getBudget());
+        if (auctions.putIfAbsent(roomCode, auction) != null) {
+            throw new IllegalStateException("이미 경매가 진행 중입니다.");
+        }
+
+        loop.execute(() -> {
+            publish(auction, AuctionDto.Type.AUCTION_STARTED, auction.toState());
+            openNextLot(auction);
+        });
+        log.info("Auction started for room {} with {} captains", roomCode, auction.getCaptains().size());
+    }
+
+    /**
+     * 입찰을 방의 이벤트 루프에 넘기고 바로 반환합니다.
+     * 거절 사유는 입찰자에게만 /user/queue/errors 로 보냅니다. 다른 노드에서 넘어온 입찰이어도
+     * 이벤트 중계 경로로 보내므로 입찰자가 연결된 노드에서 전달됩니다.
+     */
+    public void bid(String roomCode, Long userId, AuctionDto.BidRequest request) {
+        AuctionRoom auction = auctions.get(roomCode);
+        if (auction == null) {
+            throw new IllegalStateException("진행 중인 경매가 없습니다.");
+        }
+        try {
+            auction.getLoop().execute(() -> handleBid(auction, userId, request));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("경매 서버가 종료 중입니다.");
+        }
+    }
+
+    public Optional<AuctionDto.State> snapshot(String roomCode) {
+        AuctionRoom auction = auctions.get(roomCode);
+        if (auction == null) {
+            return Optional.empty();
+        }
+        return Optional.of(CompletableFuture.supplyAsync(auction::toState, auction.getLoop()).join());
+    }
+
+    private void handleBid(AuctionRoom auction, Long userId, AuctionDto.BidRequest request) {
+        String rejection = validateBid(auction, userId, request);
+        if (rejection != null) {
+            rejectedBids.increment();
+            eventRelay.send("/user/" + userId + ERROR_QUEUE, ApiResponse.error(rejection));
+            return;
+        }
+
+        // 마감 직전 입찰이면 남은 시간을 늘려 막판 입찰(스나이핑)을 막습니다.
+        long now = System.currentTimeMillis();
+        long endsAt = Math.max(auction.getEndsAt(), now + properties.getBidExtensionMs());
+        AuctionRoom.Captain captain = auction.captainOf(userId);
+        auction.acceptBid(captain, request.getAmount(), endsAt);
+        acceptedBids.increment();
+        publish(auction, AuctionDto.Type.BID_ACCEPTED, new AuctionDto.BidAccepted(
+                auction.getLotNumber(), captain.getLeader().nickname(), request.getAmount(), endsAt));
+    }
+
+    private String validateBid(AuctionRoom auction, Long userId, AuctionDto.BidRequest request) {
+        AuctionRoom.Captain captain = auction.captainOf(userId);
+        if (captain == null) {
+            return "팀장만 입찰할 수 있습니다.";
+        }
+        if (auction.getCurrentLot() == null || request.getLotNumber() != auction.getLotNumber()
+                || System.currentTimeMillis() >= auction.getEndsAt()) {
+            return "입찰이 마감된 매물입니다.";
+        }
+        if (!captain.hasOpenSlot()) {
+            return "팀 인원이 모두 찼습니다.";
+        }
+        if (captain == auction.getHighestBidder()) {
+            return "이미 최고 입찰자입니다.";
+        }
+        int minimum = auction.getHighestBidder() == null
+                ? properties.getMinBid()
+                : auction.getHighestBid() + properties.getMinIncrement();
+        if (request.getAmount() < minimum) {
+            return "최소 입찰 금액은 " + minimum + "입니다.";
+        }
+        if (request.getAmount() > captain.getBudget()) {
+            return "보유 포인트가 부족합니다.";
+        }
+        return null;
+    }
+
+    private void openNextLot(AuctionRoom auction) {
+        if (auction.isCancelled()) {
+            return;
+        }
+        AuctionRoom.Bidder next = auction.getLots().poll();
+        if (next == null) {
+            complete(auction);
+            return;
+        }
+
+        long endsAt = System.currentTimeMillis() + properties.getLotDurationMs();
+        auction.openLot(next, endsAt);
+        int lotNumber = auction.getLotNumber();
+        auction.setClock(auction.getLoop().schedule(() -> onClock(auction, lotNumber),
+                properties.getLotDurationMs(), TimeUnit.MILLISECONDS));
+        publish(auction, AuctionDto.Type.LOT_OPENED, new AuctionDto.Lot(
+                lotNumber, next.nickname(), next.summonerName(), null, null, endsAt));
+    }
+
+    // 입찰로 마감 시간이 늘어났으면 남은 시간만큼 다시 예약하고, 지났으면 낙찰 처리합니다.
+    private void onClock(AuctionRoom auction, int lotNumber) {
+        if (auction.getLotNumber() != lotNumber || auction.getCurrentLot() == null) {
+            return;
+        }
+        long remaining = auction.getEndsAt() - System.currentTimeMillis();
+        if (remaining > 0) {
+            auction.setClock(auction.getLoop().schedule(() -> onClock(auction, lotNumber),
+                    remaining, TimeUnit.MILLISECONDS));
+            return;
+        }
+
+        AuctionRoom.Bidder sold = auction.getCurrentLot();
+        int price = auction.getHighestBidder() != null ? auction.getHighestBid() : 0;
+        AuctionRoom.Captain winner = auction.closeLot();
+        publish(auction, AuctionDto.Type.LOT_SOLD, new AuctionDto.LotSold(
+                lotNumber, sold.nickname(), winner.getLeader().nickname(), winner.getTeamNumber(), price));
+
+        auction.setClock(auction.getLoop().schedule(() -> openNextLot(auction),
+                properties.getLotIntervalMs(), TimeUnit.MILLISECONDS));
+    }
+
+    // 경매 결과를 방 상태에 팀 배정으로 반영합니다 (write-behind로 DB 반영, TEAM_ASSIGNED 방 이벤트 발행).
+    // 반영하지 못하면 경매를 중단으로 알리고 방을 모집 단계로 되돌려 방장이 다시 시작할 수 있게 합니다.
+    private void complete(AuctionRoom auction) {
+        String roomCode = auction.getRoomCode();
+        auction.complete();
+        try {
+            LiveRoom room = roomStateEngine.find(roomCode)
+                    .orElseThrow(() -> new IllegalStateException("경매 결과를 반영할 방이 없습니다: " + roomCode));
+            roomStateEngine.update(room, r -> {
+                if (r.getStatus() != GameRoomStatus.AUCTION_IN_PROGRESS) {
+                    throw new IllegalStateException("경매 중인 방이 아닙니다: " + r.getStatus());
+                }
+                r.assignTeams(auction.toAssignments());
+                return null;
+            });
+            publish(auction, AuctionDto.Type.AUCTION_COMPLETED, auction.toState());
+            log.info("Auction completed for room {}", roomCode);
+        } catch (RuntimeException e) {
+            log.error("Failed to apply auction result for room {}, reopening it", roomCode, e);
+            publish(auction, AuctionDto.Type.AUCTION_CANCELLED, "경매 결과를 반영하지 못했습니다. 팀 구성을 다시 시작해 주세요.");
+            try {
+                roomStateEngine.abandonComposition(roomCode);
+            } catch (RuntimeException reopenFailure) {
+                log.error("Failed to reopen room {} after the auction", roomCode, reopenFailure);
+            }
+        } finally {
+            auctions.remove(roomCode, auction);
+        }
+    }
+
+    // 방이 이 노드의 메모리에서 내려가면 경매를 멈춥니다. 낙찰 결과를 반영할 곳이 없기 때문입니다.
+    private void cancel(String roomCode) {
+        AuctionRoom auction = auctions.remove(roomCode);
+        if (auction == null) {
+            return;
+        }
+        log.warn("Cancelling auction for room {}: the room was unloaded from this node", roomCode);
+        try {
+            auction.getLoop().execute(() -> {
+                if (auction.isCompleted()) {
+                    return;
+                }
+                auction.cancel();
+                publish(auction, AuctionDto.Type.AUCTION_CANCELLED, "경매가 중단되었습니다. 팀 구성을 다시 시작해 주세요.");
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Auction loop already stopped for room {}", roomCode);
+        }
+    }
+
+    private void publish(AuctionRoom auction, AuctionDto.Type type, Object payload) {
+        String roomCode = auction.getRoomCode();
+        eventRelay.send(topicOf(roomCode), AuctionDto.Event.of(roomCode, auction.nextSequence(), type, payload));
+    }
+}
@@ -0,0 +1,175 @@
+package com.nexus.service;
+
+import com.nexus.dto.AuctionDto;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 방 하나의 경매 상태입니다.
+ * AuctionEngine이 방마다 정해 둔 이벤트 루프 스레드에서만 읽고 쓰므로 락 없이 사용합니다.
+ */
+@Getter
+class AuctionRoom {
+
+    static final int TEAM_SIZE = 5;
+
+    private final String roomCode;
+    private final ScheduledExecutorService loop;
+    private final List<Captain> captains = new ArrayList<>();
+    private final Map<Long, Captain> captainsByUserId = new HashMap<>();
+    private final Deque<Bidder> lots = new ArrayDeque<>();
+
+    private long sequence;
+    private int lotNumber;
+    private Bidder currentLot;
+    private Captain highestBidder;
+    private int highestBid;
+    private long endsAt;
+    private ScheduledFuture<?> clock;
+    private boolean completed;
+    private boolean cancelled;
+
+    // 점수가 높은 참가자부터 팀 수만큼 팀장으로 두고, 나머지는 점수순으로 매물에 올립니다.
+    AuctionRoom(String roomCode, ScheduledExecutorService loop, List<Bidder> participants, int budget) {
+        this.roomCode = roomCode;
+        this.loop = loop;
+
+        List<Bidder> sorted = new ArrayList<>(participants);
+        sorted.sort(Comparator.comparingInt(Bidder::rating).reversed());
+        int teamCount = sorted.size() / TEAM_SIZE;
+        for (int i = 0; i < sorted.size(); i++) {
+            if (i < teamCount) {
+                Captain captain = new Captain(sorted.get(i), i + 1, budget);
+                captains.add(captain);
+                captainsByUserId.put(captain.leader.userId(), captain);
+            } else {
+                lots.add(sorted.get(i));
+            }
+        }
+    }
+
+    long nextSequence() {
+        return ++sequence;
+    }
+
+    Captain captainOf(Long userId) {
+        return captainsByUserId.get(userId);
+    }
+
+    void openLot(Bidder bidder, long endsAt) {
+        this.lotNumber++;
+        this.currentLot = bidder;
+        this.highestBidder = null;
+        this.highestBid = 0;
+        this.endsAt = endsAt;
+    }
+
+    void acceptBid(Captain captain, int amount, long endsAt) {
+        this.highestBidder = captain;
+        this.highestBid = amount;
+        this.endsAt = endsAt;
+    }
+
+    // 현재 매물을 최고 입찰자에게, 입찰이 없으면 인원이 가장 적은(같으면 포인트가 많은) 팀에 배정합니다.
+    Captain closeLot() {
+        Captain winner = highestBidder;
+        int price = highestBid;
+        if (winner == null) {
+            winner = captains.stream()
+                    .filter(Captain::hasOpenSlot)
+                    .min(Comparator.comparingInt((Captain c) -> c.members.size())
+                            .thenComparing(Comparator.comparingInt((Captain c) -> c.budget).reversed()))
+                    .orElseThrow(() -> new IllegalStateException("남은 자리가 있는 팀이 없습니다."));
+            price = 0;
+        }
+        winner.budget -= price;
+        winner.members.add(currentLot);
+        currentLot = null;
+        highestBidder = null;
+        return winner;
+    }
+
+    void setClock(ScheduledFuture<?> clock) {
+        if (this.clock != null) {
+            this.clock.cancel(false);
+        }
+        this.clock = clock;
+    }
+
+    void complete() {
+        setClock(null);
+        this.completed = true;
+    }
+
+    // 시계를 멈추고 남은 매물을 비웁니다. 이미 예약된 작업은 cancelled를 보고 아무것도 하지 않습니다.
+    void cancel() {
+        setClock(null);
+        this.currentLot = null;
+        this.lots.clear();
+        this.cancelled = true;
+    }
+
+    // 팀 번호 1,2 → 1번 매치, 3,4 → 2번 매치 ... 순으로 매치/팀 번호를 붙입니다.
+    Map<Long, MatchPartitioner.Assignment> toAssignments() {
+        Map<Long, MatchPartitioner.Assignment> assignments = new LinkedHashMap<>();
+        for (Captain captain : captains) {
+            MatchPartitioner.Assignment assignment = new MatchPartitioner.Assignment(
+                    (captain.teamNumber - 1) / 2 + 1, (captain.teamNumber - 1) % 2 + 1, null);
+            assignments.put(captain.leader.userId(), assignment);
+            captain.members.forEach(member -> assignments.put(member.userId(), assignment));
+        }
+        return assignments;
+    }
+
+    AuctionDto.State toState() {
+        AuctionDto.State state = new AuctionDto.State();
+        state.setRoomCode(roomCode);
+        state.setSequence(sequence);
+        state.setCaptains(captains.stream().map(Captain::toDto).toList());
+        if (currentLot != null) {
+            state.setCurrentLot(new AuctionDto.Lot(lotNumber, currentLot.nickname(), currentLot.summonerName(),
+                    highestBidder != null ? highestBid : null,
+                    highestBidder != null ? highestBidder.leader.nickname() : null,
+                    endsAt));
+        }
+        state.setRemainingLots(lots.size());
+        state.setCompleted(completed);
+        return state;
+    }
+
+    record Bidder(Long userId, String nickname, String summonerName, int rating) {
+    }
+
+    @Getter
+    static class Captain {
+        private final Bidder leader;
+        private final int teamNumber;
+        private final List<Bidder> members = new ArrayList<>();
+        private int budget;
+
+        private Captain(Bidder leader, int teamNumber, int budget) {
+            this.leader = leader;
+            this.teamNumber = teamNumber;
+            this.budget = budget;
+        }
+
+        boolean hasOpenSlot() {
+            return members.size() < TEAM_SIZE - 1;
+        }
+
+        private AuctionDto.Captain toDto() {
+            return new AuctionDto.Captain(leader.nickname(), teamNumber, budget,
+                    members.stream().map(Bidder::nickname).toList());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.nexus.service;
 
 import com.nexus.entity.AuditLog;
 import com.nexus.repository.AuditLogRepository;
+import com.nexus.security.ClientIpResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final ClientIpResolver clientIpResolver;
 
     @Async
     public void logUserAction(String userId, String userEmail, String action, String resource,
@@ -86,18 +88,6 @@ public class AuditService {
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
-        if (request == null) return "unknown";
-
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty() && !"unknown".equalsIgnoreCase(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty() && !"unknown".equalsIgnoreCase(xRealIp)) {
-            return xRealIp;
-        }
-
-        return request.getRemoteAddr();
+        return request != null ? clientIpResolver.resolve(request) : "unknown";
     }
 }
\ No newline at end of file
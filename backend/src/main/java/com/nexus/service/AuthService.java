@@ -1,6 +1,7 @@
 package com.nexus.service;
 
 import com.nexus.controller.AuthController;
+import com.nexus.dto.RiotApiDto;
 import com.nexus.entity.AuditLog;
 import com.nexus.entity.User;
 import com.nexus.exception.BusinessException;
@@ -12,22 +13,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
 
+    // 태그 확인 요청이 Riot 계정 조회를 기다리는 최대 시간 (초). 트랜잭션 안에서는 기다리지 않습니다.
+    private static final long RIOT_LOOKUP_TIMEOUT_SECONDS = 5;
+
     private final UserRepository userRepository;
     private final UserService userService;
     private final SecurityValidator securityValidator;
     private final JwtTokenManager jwtTokenManager;
     private final AuditService auditService;
     private final EmailService emailService;
+    private final RiotProfileCache riotProfileCache;
 
     // 임시 저장소 (운영환경에서는 Redis 등 사용)
     private final Map<String, String> emailCodeStorage = new ConcurrentHashMap<>();
@@ -57,14 +66,52 @@ public class AuthService {
     }
 
     public boolean validateLolTag(String lolTag) {
-        // TODO: Riot API를 통한 실제 LoL 태그 검증 구현
-        // 현재는 기본적인 형식 검증만 수행
         if (lolTag == null || lolTag.trim().isEmpty()) {
             return false;
         }
 
         // 기본 형식: 소환사명#태그 (예: PlayerName#KR1)
-        return lolTag.matches("^[\\w가-힣]{3,16}#[A-Z]{2,4}\\d*$");
+        if (!lolTag.matches("^[\\w가-힣]{3,16}#[A-Z]{2,4}\\d*$")) {
+            return false;
+        }
+
+        // Riot API로 실제 계정이 있는지 확인합니다 (캐시 경유). 조회 자체가 실패하면 형식 검증 결과만 사용합니다.
+        try {
+            return lookupAccount(lolTag) != null;
+        } catch (Exception e) {
+            log.warn("Riot account lookup failed for {}, accepting by format only: {}", lolTag, e.getMessage());
+            return true;
+        }
+    }
+
+    private RiotApiDto.Account lookupAccount(String lolTag) throws Exception {
+        int separator = lolTag.lastIndexOf('#');
+        return riotProfileCache.getAccount(lolTag.substring(0, separator), lolTag.substring(separator + 1))
+            .get(RIOT_LOOKUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // 회원가입 트랜잭션이 커밋된 뒤 Riot 계정을 비동기로 조회해 연결합니다.
+    // 조회(최대 수 초)를 기다리는 동안 DB 커넥션을 잡지 않고, 조회가 실패해도 가입은 그대로 완료됩니다.
+    private void linkRiotAccountAfterCommit(Long userId, String lolTag) {
+        if (lolTag == null || lolTag.indexOf('#') < 0) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                int separator = lolTag.lastIndexOf('#');
+                riotProfileCache.getAccount(lolTag.substring(0, separator), lolTag.substring(separator + 1))
+                    .thenAcceptAsync(account -> {
+                        if (account != null) {
+                            userService.linkRiotAccount(userId, account);
+                        }
+                    })
+                    .exceptionally(e -> {
+                        log.warn("Could not link Riot account {} to user {}: {}", lolTag, userId, e.getMessage());
+                        return null;
+                    });
+            }
+        });
     }
 
     @Transactional
@@ -110,6 +157,7 @@ public class AuthService {
             request.password(),
             request.lolTag()
         );
+        linkRiotAccountAfterCommit(user.getId(), request.lolTag());
 
         auditService.logUserAction(
             String.valueOf(user.getId()), user.getEmail(), "REGISTER_SUCCESS", "USER",
@@ -129,6 +177,8 @@ public class AuthService {
         }
 
         String token = jwtTokenManager.generateToken(user);
+        userRepository.markActive(user.getId(), LocalDateTime.now());
+        refreshRank(user);
 
         return new AuthController.LoginResponse(
             token,
@@ -138,6 +188,25 @@ public class AuthService {
     }
 
 
+    // 로그인 응답을 막지 않도록 캐시된 랭크 정보를 비동기로 사용자에 반영합니다.
+    // 캐시가 Riot API 호출을 줄여 주므로 로그인마다 호출해도 됩니다.
+    private void refreshRank(User user) {
+        if (user.getPuuid() == null) {
+            return;
+        }
+        Long userId = user.getId();
+        riotProfileCache.getRank(user.getPuuid())
+            .thenAcceptAsync(profile -> {
+                if (profile != null) {
+                    userService.applyRank(userId, profile);
+                }
+            })
+            .exceptionally(e -> {
+                log.warn("Rank refresh failed for user {}: {}", userId, e.getMessage());
+                return null;
+            });
+    }
+
     public void completeOnboarding(String nickname, String lolTag) {
         // TODO: 온보딩 완료 로직 구현
         log.info("Onboarding completed for nickname: {}, lolTag: {}", nickname, lolTag);
@@ -0,0 +1,84 @@
+package com.nexus.service;
+
+import com.nexus.config.RiotApiProperties;
+import com.nexus.dto.MatchCallbackDto;
+import com.nexus.entity.GameMatch;
+import com.nexus.exception.BusinessException;
+import com.nexus.repository.GameMatchRepository;
+import com.nexus.repository.GameRoomParticipantRepository;
+import com.nexus.repository.GameRoomParticipantRepository.MatchSlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬/스텁 환경에서 Riot 대신 토너먼트 콜백을 보내는 테스트용 발신기입니다.
+ * 실제 콜백과 같은 형식의 본문을 설정된 콜백 URL로 POST하므로 수신부터 결과 반영까지 전체 흐름을 확인할 수 있습니다.
+ * 스텁 모드(riot.api.use-stub=true)에서만 빈으로 등록되므로 운영 환경에는 발신기도, 이를 호출하는 API도 없습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "riot.api.use-stub", havingValue = "true")
+@Slf4j
+public class FakeCallbackSender {
+
+    private final GameMatchRepository gameMatchRepository;
+    private final GameRoomParticipantRepository participantRepository;
+    private final RiotApiProperties riotApiProperties;
+    private final WebClient webClient;
+
+    public FakeCallbackSender(GameMatchRepository gameMatchRepository,
+                              GameRoomParticipantRepository participantRepository,
+                              RiotApiProperties riotApiProperties,
+                              WebClient.Builder webClientBuilder) {
+        this.gameMatchRepository = gameMatchRepository;
+        this.participantRepository = participantRepository;
+        this.riotApiProperties = riotApiProperties;
+        this.webClient = webClientBuilder.build();
+    }
+
+    /**
+     * @return 보낸 콜백 본문
+     */
+    @Transactional(readOnly = true)
+    public MatchCallbackDto.Payload send(MatchCallbackDto.FakeCallbackRequest request) {
+        if (riotApiProperties.getCallbackUrl() == null) {
+            throw new BusinessException("riot.api.callback-url이 설정되지 않았습니다.");
+        }
+        GameMatch match = gameMatchRepository.findByTournamentCode(request.tournamentCode())
+                .orElseThrow(() -> new BusinessException("해당 토너먼트 코드의 매치가 없습니다: " + request.tournamentCode()));
+        List<MatchSlotView> slots = participantRepository.findMatchSlots(match.getGameRoom().getId(), match.getMatchNumber());
+
+        MatchCallbackDto.Payload payload = new MatchCallbackDto.Payload();
+        payload.setShortCode(match.getTournamentCode());
+        payload.setGameId(ThreadLocalRandom.current().nextLong(1_000_000_000L, 10_000_000_000L));
+        payload.setRegion("KR");
+        payload.setMetaData(match.getGameRoom().getRoomCode());
+        payload.setStartTime(System.currentTimeMillis());
+        payload.setGameMode("CLASSIC");
+        for (MatchSlotView slot : slots) {
+            MatchCallbackDto.Player player = new MatchCallbackDto.Player();
+            player.setPuuid(slot.getPuuid());
+            if (slot.getTeamNumber() != null && slot.getTeamNumber() == request.winningTeam()) {
+                payload.getWinningTeam().add(player);
+            } else {
+                payload.getLosingTeam().add(player);
+            }
+        }
+
+        webClient.post()
+                .uri(URI.create(riotApiProperties.callbackUrlWithSecret()))
+                .bodyValue(payload)
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofSeconds(10));
+        log.info("Sent fake tournament callback for {} (game {})", payload.getShortCode(), payload.getGameId());
+        return payload;
+    }
+}
@@ -1,5 +1,7 @@
 package com.nexus.service;
 
+import com.nexus.config.RoomOwnershipProperties;
+import com.nexus.dto.AuctionDto;
 import com.nexus.dto.GameRoomDto;
 import com.nexus.dto.RiotApiDto;
 import com.nexus.entity.*;
@@ -12,30 +14,43 @@ import com.nexus.repository.GameRoomRepository;
 import com.nexus.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class GameRoomService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    // 목록에 기본으로 노출할 방 상태 (종료/취소된 방 제외)
+    private static final Set<GameRoomStatus> LISTED_STATUSES = EnumSet.of(
+            GameRoomStatus.WAITING,
+            GameRoomStatus.AUCTION_IN_PROGRESS,
+            GameRoomStatus.AUTO_TEAM_COMPOSITION,
+            GameRoomStatus.IN_PROGRESS);
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final GameRoomRepository gameRoomRepository;
     private final GameMatchRepository gameMatchRepository;
     private final UserRepository userRepository;
     private final RiotApiService riotApiService;
     private final GameRoomMapper gameRoomMapper;
+    private final RoomStateEngine roomStateEngine;
+    private final MatchPartitioner matchPartitioner;
+    private final AuctionEngine auctionEngine;
+    private final RoomOwnershipProperties roomOwnershipProperties;
 
     @Transactional
     public GameRoomDto.Response createGameRoom(GameRoomDto.CreateRequest request, String userEmail) {
@@ -59,160 +74,281 @@ public class GameRoomService {
         return gameRoomMapper.toResponseDto(savedGameRoom);
     }
 
-    public List<GameRoomDto.Response> getAllGameRooms() {
-        return gameRoomRepository.findAll().stream()
-                .map(gameRoomMapper::toResponseDto)
-                .collect(Collectors.toList());
+    /**
+     * 로비 목록을 키셋(커서) 방식으로 조회합니다.
+     * 엔티티를 로딩하지 않는 요약 프로젝션 한 번으로 참가자 수까지 가져오며,
+     * (createdAt, id) 커서 이후만 읽으므로 몇 번째 페이지든 비용이 같고 새 방이 생성되어도 페이지가 밀리지 않습니다.
+     * @param statuses 조회할 방 상태 (비어 있으면 종료/취소되지 않은 방)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public GameRoomDto.SummaryPage getGameRooms(Collection<GameRoomStatus> statuses, String cursor, int size) {
+        Collection<GameRoomStatus> filter = (statuses == null || statuses.isEmpty()) ? LISTED_STATUSES : statuses;
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<GameRoomRepository.SummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = gameRoomRepository.findFirstSummaries(filter, limit);
+        } else {
+            GameRoomDto.Cursor after = GameRoomDto.Cursor.decode(cursor);
+            rows = gameRoomRepository.findSummariesAfter(filter, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<GameRoomRepository.SummaryView> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        GameRoomDto.SummaryPage dto = new GameRoomDto.SummaryPage();
+        dto.setContent(pageRows.stream()
+                .map(gameRoomMapper::toSummaryDto)
+                .collect(Collectors.toList()));
+        dto.setSize(pageSize);
+        dto.setHasNext(hasNext);
+        if (hasNext) {
+            GameRoomRepository.SummaryView last = pageRows.get(pageRows.size() - 1);
+            dto.setNextCursor(new GameRoomDto.Cursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return dto;
     }
+
     public GameRoomDto.Response getGameRoomByCode(String roomCode) {
-        // roomCode를 기반으로 데이터베이스에서 게임 방을 찾습니다.
-        GameRoom gameRoom = gameRoomRepository.findByRoomCode(roomCode)
+        // 모집/팀 구성 중인 방은 메모리 상태를, 진행 중이거나 끝난 방은 DB에서 한 번 읽은 엔티티를 DTO로 변환합니다.
+        return roomStateEngine.view(roomCode,
+                        (LiveRoom room) -> gameRoomMapper.toResponseDto(room),
+                        (GameRoom gameRoom) -> gameRoomMapper.toResponseDto(gameRoom))
                 // 방을 찾지 못하면 RoomNotFoundException 예외를 발생시킵니다.
                 .orElseThrow(() -> new RoomNotFoundException("해당 코드를 가진 방을 찾을 수 없습니다: " + roomCode));
-
-        // 찾은 GameRoom 엔티티를 DTO로 변환하여 반환합니다.
-        return gameRoomMapper.toResponseDto(gameRoom);
     }
 
-    @Transactional
     public GameRoomDto.Response joinGameRoom(String roomCode, String userEmail) {
-        GameRoom gameRoom = gameRoomRepository.findByRoomCode(roomCode)
-                .orElseThrow(() -> new RoomNotFoundException("해당 코드를 가진 방을 찾을 수 없습니다: " + roomCode));
-
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userEmail));
 
-        if (gameRoom.getParticipants().size() >= gameRoom.getMaxParticipants()) {
-            throw new IllegalStateException("방이 가득 찼습니다.");
-        }
-
-        boolean isAlreadyParticipant = gameRoom.getParticipants().stream()
-                .anyMatch(p -> p.getUser().equals(user));
-        if (isAlreadyParticipant) {
-            throw new IllegalStateException("이미 이 방에 참가하고 있습니다.");
-        }
-
-        GameRoomParticipant newParticipant = new GameRoomParticipant();
-        newParticipant.setUser(user);
-        newParticipant.setGameRoom(gameRoom);
-        gameRoom.getParticipants().add(newParticipant);
-
-        GameRoom savedGameRoom = gameRoomRepository.save(gameRoom);
-        GameRoomDto.Response responseDto = gameRoomMapper.toResponseDto(savedGameRoom);
-
-        messagingTemplate.convertAndSend("/topic/gameRoom", responseDto);
-
-        return responseDto;
+        LiveRoom room = getLiveRoom(roomCode);
+        // 참가 이벤트는 RoomStateEngine이 /topic/rooms/{roomCode}로 발행합니다.
+        return roomStateEngine.admit(room, user, gameRoomMapper::toResponseDto);
     }
 
-    @Transactional
     public void startTeamComposition(String roomCode, GameRoomDto.StartTeamCompositionRequest request, String userEmail) {
-        GameRoom gameRoom = gameRoomRepository.findByRoomCode(roomCode)
-                .orElseThrow(() -> new RoomNotFoundException("해당 코드를 가진 방을 찾을 수 없습니다: " + roomCode));
-
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
 
-        if (!gameRoom.getHost().equals(user)) {
-            throw new UnauthorizedException("방장만이 팀 구성을 시작할 수 있습니다.");
-        }
+        LiveRoom room = getLiveRoom(roomCode);
+        // 방 락 안에서는 검증/상태 변경과 참가자 스냅샷만 하고, 실제 팀 구성은 락 밖에서 시작합니다.
+        Runnable composition = roomStateEngine.update(room, r -> {
+            if (!r.isHost(user)) {
+                throw new UnauthorizedException("방장만이 팀 구성을 시작할 수 있습니다.");
+            }
 
-        if (gameRoom.getStatus() != GameRoomStatus.WAITING) {
-            throw new IllegalStateException("참가자 모집 중에만 팀 구성을 시작할 수 있습니다.");
-        }
+            if (r.getStatus() != GameRoomStatus.WAITING) {
+                throw new IllegalStateException("참가자 모집 중에만 팀 구성을 시작할 수 있습니다.");
+            }
 
-        gameRoom.setTeamCompositionMethod(request.getMethod());
+            if (request.getMethod() == TeamCompositionMethod.AUTO) {
+                if (r.getParticipantCount() % 2 != 0) {
+                    throw new IllegalStateException("팀을  나누기 위한 참가자 수가 홀수입니다.");
+                }
 
-        if (request.getMethod() == TeamCompositionMethod.AUTO) {
-            List<GameRoomParticipant> participants = gameRoom.getParticipants();
+                r.changeStatus(GameRoomStatus.AUTO_TEAM_COMPOSITION, request.getMethod());
+                List<TeamBalancer.Player> players = r.getParticipants().stream()
+                        .map(p -> new TeamBalancer.Player(p.getUserId(), p.getRating(), p.getPrimaryLane(), p.getSecondaryLane()))
+                        .collect(Collectors.toList());
+                return () -> composeTeams(roomCode, players);
+            } else if (request.getMethod() == TeamCompositionMethod.AUCTION) {
+                if (r.getParticipantCount() == 0 || r.getParticipantCount() % 10 != 0) {
+                    throw new IllegalStateException("경매를 시작하려면 참가자 수가 10의 배수여야 합니다. 현재 참가자: " + r.getParticipantCount());
+                }
 
-            if (participants.size() % 2 != 0) {
-                throw new IllegalStateException("팀을  나누기 위한 참가자 수가 홀수입니다.");
+                r.changeStatus(GameRoomStatus.AUCTION_IN_PROGRESS, request.getMethod());
+                List<AuctionRoom.Bidder> bidders = r.getParticipants().stream()
+                        .map(p -> new AuctionRoom.Bidder(p.getUserId(), p.getNickname(), p.getSummonerName(), p.getRating()))
+                        .collect(Collectors.toList());
+                // 입찰/낙찰은 경매 엔진의 방별 이벤트 루프에서 진행되고, 끝나면 팀 배정이 방 상태에 반영됩니다.
+                return () -> auctionEngine.start(roomCode, bidders);
+            }
+            return null;
+        });
+
+        if (composition != null) {
+            try {
+                composition.run();
+            } catch (RuntimeException e) {
+                // 경매/팀 구성을 시작하지 못했으면 방이 팀 구성 단계에 멈춰 있지 않도록 되돌립니다.
+                revertComposition(roomCode);
+                throw e;
             }
+        }
+    }
 
-            Collections.shuffle(participants);
+    // 10명 단위 매치 분할과 팀/라인 배정을 요청 스레드 밖(MatchPartitioner 풀)에서 시간 예산 안에 계산하고,
+    // 끝나면 방 상태에 반영합니다. 클라이언트는 TEAM_ASSIGNED 이벤트로 결과를 받습니다.
+    private void composeTeams(String roomCode, List<TeamBalancer.Player> players) {
+        matchPartitioner.partitionAsync(players)
+                .thenAccept(assignments -> roomStateEngine.find(roomCode).ifPresent(room ->
+                        roomStateEngine.update(room, r -> {
+                            if (r.getStatus() == GameRoomStatus.AUTO_TEAM_COMPOSITION) {
+                                r.assignTeams(assignments);
+                            }
+                            return null;
+                        })))
+                .exceptionally(e -> {
+                    log.error("Team composition failed for room {}", roomCode, e);
+                    revertComposition(roomCode);
+                    return null;
+                });
+    }
 
-            int halfSize = participants.size() / 2;
-            for (int i = 0; i < participants.size(); i++) {
-                GameRoomParticipant participant = participants.get(i);
-                if (i < halfSize) {
-                    participant.setTeamNumber(1);
-                } else {
-                    participant.setTeamNumber(2);
-                }
-            }
-            gameRoom.setStatus(GameRoomStatus.AUTO_TEAM_COMPOSITION);
-        }else if (request.getMethod() == TeamCompositionMethod.AUCTION) {
-            gameRoom.setStatus(GameRoomStatus.AUTO_TEAM_COMPOSITION);
+    // 팀 구성에 실패한 방을 모집 단계로 되돌립니다 (STATUS_CHANGED 이벤트로 클라이언트에 알림).
+    // 되돌리지 못하면 방장이 다시 시도할 수 없으므로 로그로 남깁니다.
+    private void revertComposition(String roomCode) {
+        try {
+            roomStateEngine.abandonComposition(roomCode);
+        } catch (RuntimeException e) {
+            log.error("Failed to reopen room {} after a team composition failure", roomCode, e);
         }
+    }
 
-        gameRoomRepository.save(gameRoom);
+    public GameRoomDto.Response updateLanePreference(String roomCode, GameRoomDto.LanePreferenceRequest request, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userEmail));
+
+        LiveRoom room = getLiveRoom(roomCode);
+        return roomStateEngine.update(room, r -> {
+            r.changeLanes(user.getId(), request.getPrimaryLane(), request.getSecondaryLane());
+            return gameRoomMapper.toResponseDto(r);
+        });
     }
 
-    @Transactional
-    public Mono<Void> startMatches(String roomCode, String userEmail) {
-        // 블로킹 DB 조회를 별도 스레드에서 실행하여 리액티브 스레드를 방해하지 않도록 함
-        Mono<GameRoom> gameRoomMono = Mono.fromCallable(() ->
-                gameRoomRepository.findByRoomCode(roomCode)
-                        .orElseThrow(() -> new RoomNotFoundException("해당 코드를 가진 방을 찾을 수 없습니다: " + roomCode))
-        ).subscribeOn(Schedulers.boundedElastic());
-
-        Mono<User> userMono = Mono.fromCallable(() ->
-                userRepository.findByEmail(userEmail)
-                        .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."))
-        ).subscribeOn(Schedulers.boundedElastic());
-
-        return gameRoomMono.zipWith(userMono)
-                .flatMap(tuple -> {
-                    GameRoom gameRoom = tuple.getT1();
-                    User user = tuple.getT2();
-
-                    if (!gameRoom.getHost().equals(user)) {
-                        return Mono.error(new UnauthorizedException("방장만이 게임을 시작할 수 있습니다."));
-                    }
-
-                    // 실제 참가자 기준으로 10의 배수인지 확인
-                    int currentParticipants = gameRoom.getParticipants().size();
-                    if (currentParticipants == 0 || currentParticipants % 10 != 0) {
-                        return Mono.error(new IllegalStateException("참가자 수는 10의 배수여야 게임을 시작할 수 있습니다. 현재 참가자: " + currentParticipants));
-                    }
-
-                    int numberOfMatches = currentParticipants / 10;
+    // 경매는 방을 소유한 노드에서만 진행되므로 방을 먼저 찾아 다른 노드 소유면 RoomOwnedElsewhereException을 던집니다.
+    public void placeBid(String roomCode, Long userId, AuctionDto.BidRequest request) {
+        getLiveRoom(roomCode);
+        auctionEngine.bid(roomCode, userId, request);
+    }
+
+    public AuctionDto.State getAuctionState(String roomCode) {
+        getLiveRoom(roomCode);
+        return auctionEngine.snapshot(roomCode)
+                .orElseThrow(() -> new IllegalStateException("진행 중인 경매가 없습니다."));
+    }
 
+    public Mono<Void> startMatches(String roomCode, String userEmail) {
+        // 블로킹 조회/검증은 별도 스레드에서 실행하여 리액티브 스레드를 방해하지 않도록 함
+        return Mono.fromCallable(() -> {
+                    User user = userRepository.findByEmail(userEmail)
+                            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다."));
+                    LiveRoom room = getLiveRoom(roomCode);
+                    int numberOfMatches = roomStateEngine.read(room, r -> checkStartable(r, user));
+                    return new MatchStart(room, user, numberOfMatches);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(start -> {
                     RiotApiDto.TournamentCodeRequest tournamentRequest = new RiotApiDto.TournamentCodeRequest();
                     tournamentRequest.setMapType("SUMMONERS_RIFT");
                     tournamentRequest.setPickType("TOURNAMENT_DRAFT");
                     tournamentRequest.setSpectatorType("ALL");
                     tournamentRequest.setTeamSize(5);
 
-                    return riotApiService.createProvider()
-                            .flatMap(providerId -> riotApiService.createTournament(providerId, gameRoom.getTitle()))
-                            .flatMap(tournamentId ->
-                                    Flux.range(0, numberOfMatches)
-                                            .flatMap(i -> riotApiService.createTournamentCodes(tournamentRequest, tournamentId))
-                                            .flatMap(codes -> Mono.fromRunnable(() -> {
-                                                String tournamentCode = codes.get(0);
-                                                GameMatch match = new GameMatch();
-                                                match.setGameRoom(gameRoom);
-                                                match.setTournamentCode(tournamentCode);
-                                                match.setStatus("PENDING");
-                                                gameMatchRepository.save(match);
-                                            }).subscribeOn(Schedulers.boundedElastic()))
-                                            .then()
-                            )
-                            .then(Mono.fromRunnable(() -> {
-                                gameRoom.setStatus(GameRoomStatus.IN_PROGRESS);
-                                gameRoomRepository.save(gameRoom);
-                            }).subscribeOn(Schedulers.boundedElastic()));
+                    // 이 방의 코드임을 콜백에서 알 수 있도록 metadata에 방 코드를 넣습니다.
+                    tournamentRequest.setMetadata(roomCode);
+
+                    // provider/tournament는 캐시된 ID를 재사용하고, 코드는 count 파라미터로 묶어서 받습니다.
+                    return riotApiService.createTournamentCodes(tournamentRequest, start.numberOfMatches())
+                            .collectList()
+                            // 다른 노드가 넘긴 요청이면 그 노드가 응답을 기다리는 동안 발급을 끝내거나 실패해야 합니다.
+                            // 그래야 호출한 쪽이 오류를 받은 뒤에 이 노드가 매치를 만드는 일이 없습니다.
+                            .timeout(riotCodeTimeout(), Mono.error(() -> new IllegalStateException(
+                                    "Riot 토너먼트 코드 발급이 지연되어 게임을 시작하지 못했습니다. 잠시 후 다시 시도해 주세요.")))
+                            .flatMap(codes -> Mono.fromRunnable(() -> openMatches(start, codes))
+                                    .subscribeOn(Schedulers.boundedElastic()));
                 })
                 .then();
     }
 
+    // 방을 진행 중으로 바꾸고 DB 반영을 기다린 뒤 매치를 저장합니다.
+    // 상태 변경은 방 락 안에서 다시 검증하므로 동시에 들어온 시작 요청은 하나만 통과하고, 그 순간부터 방은 참가/변경을 받지 않습니다.
+    // 소유 노드로 넘어온 게임 시작 요청의 응답 대기 시간에서 DB 반영 몫(request-timeout-ms)을 뺀 시간
+    private Duration riotCodeTimeout() {
+        return Duration.ofMillis(Math.max(1_000, roomOwnershipProperties.getStartMatchesTimeoutMs()
+                - roomOwnershipProperties.getRequestTimeoutMs()));
+    }
+
+    private void openMatches(MatchStart start, List<String> codes) {
+        if (codes.size() != start.numberOfMatches()) {
+            throw new IllegalStateException("토너먼트 코드를 충분히 발급받지 못했습니다: " + codes.size() + "/" + start.numberOfMatches());
+        }
+
+        LiveRoom room = start.room();
+        GameRoomStatus previousStatus = roomStateEngine.update(room, r -> {
+            checkStartable(r, start.user());
+            GameRoomStatus status = r.getStatus();
+            r.changeStatus(GameRoomStatus.IN_PROGRESS, r.getTeamCompositionMethod());
+            return status;
+        });
+        roomStateEngine.flush(room);
+
+        // 팀 구성 단계에서 배정된 참가자의 matchNumber와 같은 번호를 붙여 한 번에 저장합니다.
+        GameRoom gameRoom = new GameRoom();
+        gameRoom.setId(room.getRoomId());
+        List<GameMatch> matches = new ArrayList<>(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            GameMatch match = new GameMatch();
+            match.setGameRoom(gameRoom);
+            match.setMatchNumber(i + 1);
+            match.setTournamentCode(codes.get(i));
+            match.setStatus("PENDING");
+            matches.add(match);
+        }
+        try {
+            gameMatchRepository.insertAll(matches);
+        } catch (RuntimeException e) {
+            // 매치 없이 진행 중으로 남지 않도록 팀 구성 단계로 되돌립니다.
+            log.error("Failed to save matches for room {}, reopening it", room.getRoomCode(), e);
+            try {
+                roomStateEngine.reopen(room, previousStatus);
+            } catch (RuntimeException reopenFailure) {
+                e.addSuppressed(reopenFailure);
+            }
+            throw e;
+        }
+    }
+
+    // 게임을 시작할 수 있는 방인지 확인하고 만들 매치 수를 반환합니다. 방 락 안에서 호출합니다.
+    private int checkStartable(LiveRoom room, User user) {
+        if (!room.isHost(user)) {
+            throw new UnauthorizedException("방장만이 게임을 시작할 수 있습니다.");
+        }
+        if (room.getStatus() != GameRoomStatus.AUTO_TEAM_COMPOSITION
+                && room.getStatus() != GameRoomStatus.AUCTION_IN_PROGRESS) {
+            throw new IllegalStateException("팀 구성이 끝난 방만 게임을 시작할 수 있습니다.");
+        }
+        if (!room.isTeamsAssigned()) {
+            throw new IllegalStateException("아직 팀이 배정되지 않은 참가자가 있습니다.");
+        }
+
+        // 실제 참가자 기준으로 10의 배수인지 확인
+        int currentParticipants = room.getParticipantCount();
+        if (currentParticipants == 0 || currentParticipants % 10 != 0) {
+            throw new IllegalStateException("참가자 수는 10의 배수여야 게임을 시작할 수 있습니다. 현재 참가자: " + currentParticipants);
+        }
+        return currentParticipants / 10;
+    }
+
+    private record MatchStart(LiveRoom room, User user, int numberOfMatches) {
+    }
+
+    // 모집/팀 구성 중인 방의 메모리 상태를 가져옵니다.
+    private LiveRoom getLiveRoom(String roomCode) {
+        return roomStateEngine.find(roomCode)
+                .orElseThrow(() -> gameRoomRepository.existsByRoomCode(roomCode)
+                        ? new IllegalStateException("참가자 모집 또는 팀 구성 중인 방이 아닙니다.")
+                        : new RoomNotFoundException("해당 코드를 가진 방을 찾을 수 없습니다: " + roomCode));
+    }
+
     private String generateUniqueRoomCode() {
         String roomCode;
         do {
             roomCode = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        } while (gameRoomRepository.findByRoomCode(roomCode).isPresent());
+        } while (gameRoomRepository.existsByRoomCode(roomCode));
         return roomCode;
     }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.nexus.service;
+
+import com.nexus.entity.Lane;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 10명을 5:5로 나누면서 팀마다 다섯 라인을 한 명씩 맡도록 배정합니다.
+ * 비용 = 두 팀 점수 합 차이 + 라인 패널티(주 라인 0, 부 라인/그 외 라인은 설정값, 선호 미지정은 0).
+ * 점수 기준 분할(TeamBalancer)에서 시작해 팀 간 1:1 교환 중 비용을 가장 많이 줄이는 것을 반복하며,
+ * 더 줄일 수 없거나 마감 시각에 도달하면 그때까지의 최선 해를 반환합니다.
+ * 팀 안의 라인 배정은 비트마스크 DP로 매번 최적 해를 구합니다 (5명 × 32 상태).
+ */
+@Component
+public class LaneAssignmentSolver {
+
+    public static final int TEAM_SIZE = 5;
+    private static final Lane[] LANES = Lane.values();
+
+    private final TeamBalancer teamBalancer;
+    private final int secondaryLanePenalty;
+    private final int offRolePenalty;
+
+    public LaneAssignmentSolver(TeamBalancer teamBalancer,
+                                @Value("${team-balance.lane.secondary-penalty:60}") int secondaryLanePenalty,
+                                @Value("${team-balance.lane.off-role-penalty:250}") int offRolePenalty) {
+        this.teamBalancer = teamBalancer;
+        this.secondaryLanePenalty = secondaryLanePenalty;
+        this.offRolePenalty = offRolePenalty;
+    }
+
+    public record Solution(Map<Long, Integer> teams, Map<Long, Lane> lanes, long cost) {
+    }
+
+    /**
+     * @param players 정확히 10명
+     * @param deadline System.nanoTime() 기준 마감 시각
+     */
+    public Solution solve(List<TeamBalancer.Player> players, long deadline) {
+        if (players.size() != TEAM_SIZE * 2) {
+            throw new IllegalStateException("라인 배정은 10명 단위로만 가능합니다.");
+        }
+
+        Map<Long, Integer> initial = teamBalancer.balance(players, deadline);
+        List<TeamBalancer.Player> teamA = new ArrayList<>(TEAM_SIZE);
+        List<TeamBalancer.Player> teamB = new ArrayList<>(TEAM_SIZE);
+        for (TeamBalancer.Player player : players) {
+            (initial.get(player.userId()) == 1 ? teamA : teamB).add(player);
+        }
+
+        long sumA = sum(teamA);
+        long sumB = sum(teamB);
+        long laneA = laneCost(teamA, null);
+        long laneB = laneCost(teamB, null);
+        long cost = Math.abs(sumA - sumB) + laneA + laneB;
+
+        while (cost > 0 && System.nanoTime() < deadline) {
+            long bestCost = cost;
+            int bestI = -1;
+            int bestJ = -1;
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                for (int j = 0; j < TEAM_SIZE; j++) {
+                    TeamBalancer.Player a = teamA.get(i);
+                    TeamBalancer.Player b = teamB.get(j);
+                    long delta = (long) b.rating() - a.rating();
+                    long ratingDiff = Math.abs((sumA + delta) - (sumB - delta));
+                    if (ratingDiff >= bestCost) {
+                        continue;
+                    }
+                    teamA.set(i, b);
+                    teamB.set(j, a);
+                    long candidate = ratingDiff + laneCost(teamA, null) + laneCost(teamB, null);
+                    teamA.set(i, a);
+                    teamB.set(j, b);
+                    if (candidate < bestCost) {
+                        bestCost = candidate;
+                        bestI = i;
+                        bestJ = j;
+                    }
+                }
+            }
+            if (bestI < 0) {
+                break;
+            }
+            TeamBalancer.Player a = teamA.get(bestI);
+            TeamBalancer.Player b = teamB.get(bestJ);
+            teamA.set(bestI, b);
+            teamB.set(bestJ, a);
+            sumA += b.rating() - a.rating();
+            sumB += a.rating() - b.rating();
+            cost = bestCost;
+        }
+
+        Map<Long, Integer> teams = new HashMap<>();
+        Map<Long, Lane> lanes = new HashMap<>();
+        teamA.forEach(player -> teams.put(player.userId(), 1));
+        teamB.forEach(player -> teams.put(player.userId(), 2));
+        laneCost(teamA, lanes);
+        laneCost(teamB, lanes);
+        return new Solution(teams, lanes, cost);
+    }
+
+    // dp[mask] = mask에 해당하는 라인들을 앞에서부터 bitCount(mask)명에게 배정했을 때의 최소 패널티
+    // assigned가 주어지면 최적 배정을 채워 넣습니다.
+    private long laneCost(List<TeamBalancer.Player> team, Map<Long, Lane> assigned) {
+        int states = 1 << LANES.length;
+        long[] dp = new long[states];
+        int[] choice = new int[states];
+        Arrays.fill(dp, Long.MAX_VALUE);
+        dp[0] = 0;
+        for (int mask = 0; mask < states; mask++) {
+            int index = Integer.bitCount(mask);
+            if (dp[mask] == Long.MAX_VALUE || index >= team.size()) {
+                continue;
+            }
+            TeamBalancer.Player player = team.get(index);
+            for (int lane = 0; lane < LANES.length; lane++) {
+                if ((mask & (1 << lane)) != 0) {
+                    continue;
+                }
+                int next = mask | (1 << lane);
+                long value = dp[mask] + penalty(player, LANES[lane]);
+                if (value < dp[next]) {
+                    dp[next] = value;
+                    choice[next] = lane;
+                }
+            }
+        }
+
+        int full = states - 1;
+        if (assigned != null) {
+            for (int mask = full, index = team.size() - 1; index >= 0; index--) {
+                int lane = choice[mask];
+                assigned.put(team.get(index).userId(), LANES[lane]);
+                mask &= ~(1 << lane);
+            }
+        }
+        return dp[full];
+    }
+
+    private int penalty(TeamBalancer.Player player, Lane lane) {
+        if (player.primaryLane() == null) {
+            return 0;
+        }
+        if (lane == player.primaryLane()) {
+            return 0;
+        }
+        return lane == player.secondaryLane() ? secondaryLanePenalty : offRolePenalty;
+    }
+
+    private static long sum(List<TeamBalancer.Player> team) {
+        long sum = 0;
+        for (TeamBalancer.Player player : team) {
+            sum += player.rating();
+        }
+        return sum;
+    }
+}
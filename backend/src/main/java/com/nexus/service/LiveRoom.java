@@ -0,0 +1,257 @@
+package com.nexus.service;
+
+import com.nexus.dto.RoomEventDto;
+import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomParticipant;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.Lane;
+import com.nexus.entity.TeamCompositionMethod;
+import com.nexus.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리에서 관리되는 진행 중인 방(모집/팀 구성 단계)의 권위 있는 상태입니다.
+ * 읽기/쓰기는 모두 RoomStateEngine을 통해 방 단위 락을 잡은 상태에서만 수행해야 합니다.
+ */
+@Getter
+public class LiveRoom {
+
+    private final Long roomId;
+    private final String roomCode;
+    private final String title;
+    private final int maxParticipants;
+    private final Long hostUserId;
+    private final String hostName;
+    private final LocalDateTime createdAt;
+    private GameRoomStatus status;
+    private TeamCompositionMethod teamCompositionMethod;
+    // 마지막으로 발행한 방 이벤트 번호. 메모리에 다시 올릴 때마다 이전보다 큰 값에서 시작합니다 (RoomStateEngine 참고).
+    private long sequence;
+    // DB 반영에 실패해 메모리에서 내려간 방 (더 이상 변경하지 않으며, 다시 조회하면 새 LiveRoom으로 올라옴)
+    private volatile boolean evicted;
+    // DB에 반영된 방 행의 버전. write-behind 반영은 이 버전일 때만 방 행을 갱신합니다 (RoomStatePersister 참고).
+    @Setter(AccessLevel.PACKAGE)
+    private volatile long persistedVersion;
+
+    // 참가 순서를 유지하면서 userId로 중복 여부를 바로 확인
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, LiveParticipant> participants = new LinkedHashMap<>();
+
+    // 아직 write-behind 큐로 넘어가지 않은 변경 사항
+    @Getter(AccessLevel.NONE)
+    private final List<RoomChange> pendingChanges = new ArrayList<>();
+
+    // 아직 발행되지 않은 방 이벤트
+    @Getter(AccessLevel.NONE)
+    private final List<RoomEventDto.Event> pendingEvents = new ArrayList<>();
+
+    // 정원 카운터: 락 없이 CAS로 좌석을 먼저 확보하므로 가득 찬 방으로 몰리는 요청은 방 락을 기다리지 않고 바로 거절됩니다.
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger occupiedSeats = new AtomicInteger();
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private LiveRoom(GameRoom gameRoom) {
+        this.roomId = gameRoom.getId();
+        this.roomCode = gameRoom.getRoomCode();
+        this.title = gameRoom.getTitle();
+        this.maxParticipants = gameRoom.getMaxParticipants();
+        User host = gameRoom.getHost();
+        this.hostUserId = host != null ? host.getId() : null;
+        this.hostName = host != null ? host.getNickname() : null;
+        this.createdAt = gameRoom.getCreatedAt();
+        this.status = gameRoom.getStatus();
+        this.teamCompositionMethod = gameRoom.getTeamCompositionMethod();
+    }
+
+    // 참가자/유저가 함께 로딩된 GameRoom 엔티티로부터 생성합니다. 첫 이벤트는 sequenceBase + 1번입니다.
+    static LiveRoom from(GameRoom gameRoom, long sequenceBase) {
+        LiveRoom room = new LiveRoom(gameRoom);
+        room.sequence = sequenceBase;
+        room.persistedVersion = gameRoom.getVersion();
+        for (GameRoomParticipant participant : gameRoom.getParticipants()) {
+            room.participants.put(participant.getUser().getId(),
+                    new LiveParticipant(participant.getUser(), participant, participant.getJoinedAt()));
+        }
+        room.occupiedSeats.set(room.participants.size());
+        return room;
+    }
+
+    public Collection<LiveParticipant> getParticipants() {
+        return Collections.unmodifiableCollection(participants.values());
+    }
+
+    public int getParticipantCount() {
+        return participants.size();
+    }
+
+    public boolean isHost(User user) {
+        return hostUserId != null && hostUserId.equals(user.getId());
+    }
+
+    public boolean hasParticipant(Long userId) {
+        return participants.containsKey(userId);
+    }
+
+    // 모든 참가자에게 매치/팀이 배정됐는지 (팀 구성이 끝났는지)
+    public boolean isTeamsAssigned() {
+        return !participants.isEmpty() && participants.values().stream()
+                .allMatch(p -> p.matchNumber != null && p.teamNumber != null);
+    }
+
+    boolean tryReserveSeat() {
+        while (true) {
+            int occupied = occupiedSeats.get();
+            if (occupied >= maxParticipants) {
+                return false;
+            }
+            if (occupiedSeats.compareAndSet(occupied, occupied + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseSeat() {
+        occupiedSeats.decrementAndGet();
+    }
+
+    // tryReserveSeat으로 좌석을 확보한 뒤 방 락 안에서 호출합니다.
+    void addParticipant(User user) {
+        if (status != GameRoomStatus.WAITING) {
+            throw new IllegalStateException("참가자 모집 중인 방이 아닙니다.");
+        }
+        if (participants.size() >= maxParticipants) {
+            throw new IllegalStateException("방이 가득 찼습니다.");
+        }
+        if (participants.containsKey(user.getId())) {
+            throw new IllegalStateException("이미 이 방에 참가하고 있습니다.");
+        }
+
+        LiveParticipant participant = new LiveParticipant(user, null, LocalDateTime.now());
+        participants.put(user.getId(), participant);
+        pendingChanges.add(new RoomChange.ParticipantJoined(roomId, user.getId(), participant.getJoinedAt()));
+        emit(RoomEventDto.Type.PARTICIPANT_JOINED, new RoomEventDto.ParticipantJoined(
+                participant.getNickname(), participant.getSummonerName(), null, participants.size()));
+    }
+
+    // 여러 참가자의 매치/팀을 한 번에 배정하고 이벤트는 하나로 묶어 발행합니다.
+    void assignTeams(Map<Long, MatchPartitioner.Assignment> slots) {
+        for (Long userId : slots.keySet()) {
+            if (!participants.containsKey(userId)) {
+                throw new IllegalStateException("방에 참가하지 않은 사용자입니다: " + userId);
+            }
+        }
+
+        List<RoomEventDto.Assignment> assignments = new ArrayList<>(slots.size());
+        slots.forEach((userId, assignment) -> {
+            LiveParticipant participant = participants.get(userId);
+            participant.matchNumber = assignment.matchNumber();
+            participant.teamNumber = assignment.teamNumber();
+            participant.assignedLane = assignment.lane();
+            pendingChanges.add(new RoomChange.TeamAssigned(roomId, userId,
+                    assignment.matchNumber(), assignment.teamNumber(), assignment.lane()));
+            assignments.add(new RoomEventDto.Assignment(participant.getNickname(),
+                    assignment.matchNumber(), assignment.teamNumber(),
+                    assignment.lane() != null ? assignment.lane().name() : null));
+        });
+        emit(RoomEventDto.Type.TEAM_ASSIGNED, new RoomEventDto.TeamAssigned(assignments));
+    }
+
+    // 팀 구성 전(모집 중)에만 선호 라인을 바꿀 수 있습니다.
+    void changeLanes(Long userId, Lane primaryLane, Lane secondaryLane) {
+        if (status != GameRoomStatus.WAITING) {
+            throw new IllegalStateException("참가자 모집 중에만 선호 라인을 변경할 수 있습니다.");
+        }
+        LiveParticipant participant = participants.get(userId);
+        if (participant == null) {
+            throw new IllegalStateException("방에 참가하지 않은 사용자입니다: " + userId);
+        }
+        if (primaryLane == secondaryLane) {
+            throw new IllegalStateException("주 라인과 부 라인은 달라야 합니다.");
+        }
+
+        participant.primaryLane = primaryLane;
+        participant.secondaryLane = secondaryLane;
+        pendingChanges.add(new RoomChange.LanesChanged(roomId, userId, primaryLane, secondaryLane));
+        emit(RoomEventDto.Type.LANES_CHANGED, new RoomEventDto.LanesChanged(participant.getNickname(),
+                primaryLane.name(), secondaryLane != null ? secondaryLane.name() : null));
+    }
+
+    void changeStatus(GameRoomStatus status, TeamCompositionMethod method) {
+        this.status = status;
+        this.teamCompositionMethod = method;
+        pendingChanges.add(new RoomChange.StatusChanged(roomId, status, method));
+        emit(RoomEventDto.Type.STATUS_CHANGED, new RoomEventDto.StatusChanged(
+                status.name(), method != null ? method.name() : null));
+    }
+
+    // DB에서 다시 올린 방의 현재 상태를 알립니다 (건너뛴 sequence 때문에 클라이언트는 스냅샷을 다시 받음).
+    void announceReload() {
+        emit(RoomEventDto.Type.STATUS_CHANGED, new RoomEventDto.StatusChanged(
+                status.name(), teamCompositionMethod != null ? teamCompositionMethod.name() : null));
+    }
+
+    // 방 락을 잡은 상태에서 호출합니다.
+    void evict() {
+        this.evicted = true;
+    }
+
+    List<RoomChange> drainChanges() {
+        List<RoomChange> drained = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return drained;
+    }
+
+    List<RoomEventDto.Event> drainEvents() {
+        List<RoomEventDto.Event> drained = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        return drained;
+    }
+
+    private void emit(RoomEventDto.Type type, Object payload) {
+        pendingEvents.add(RoomEventDto.Event.of(roomCode, ++sequence, type, payload));
+    }
+
+    @Getter
+    public static class LiveParticipant {
+        private final Long userId;
+        private final String nickname;
+        private final String summonerName;
+        private final LocalDateTime joinedAt;
+        private final int rating;
+        private Integer matchNumber;
+        private Integer teamNumber;
+        private Lane primaryLane;
+        private Lane secondaryLane;
+        private Lane assignedLane;
+
+        // persisted가 있으면 DB에 저장된 배정/선호 라인을 이어받습니다.
+        private LiveParticipant(User user, GameRoomParticipant persisted, LocalDateTime joinedAt) {
+            this.userId = user.getId();
+            this.nickname = user.getNickname();
+            this.summonerName = user.getSummonerName();
+            this.rating = RankRating.of(user);
+            if (persisted != null) {
+                this.matchNumber = persisted.getMatchNumber();
+                this.teamNumber = persisted.getTeamNumber();
+                this.primaryLane = persisted.getPrimaryLane();
+                this.secondaryLane = persisted.getSecondaryLane();
+                this.assignedLane = persisted.getAssignedLane();
+            }
+            this.joinedAt = joinedAt;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.nexus.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 현재 노드의 브로커로 바로 전달합니다.
+ * simple 모드(단일 노드, 테스트용 인메모리 브로커)와 relay 모드(외부 브로커가 노드 간 전달)에서 사용합니다.
+ */
+@RequiredArgsConstructor
+public class LocalRoomEventRelay implements RoomEventRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
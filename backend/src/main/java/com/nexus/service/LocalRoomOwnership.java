@@ -0,0 +1,45 @@
+package com.nexus.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 단일 노드(simple 모드)에서는 이 노드가 모든 방을 소유합니다.
+ * epoch는 현재 시각(초)에서 시작해 계속 커지므로 재시작 후에도 이전보다 작아지지 않습니다.
+ */
+public class LocalRoomOwnership implements RoomOwnership {
+
+    private static final String NODE_ID = "local";
+
+    private final AtomicLong lastEpoch = new AtomicLong();
+
+    @Override
+    public Claim claim(String roomCode) {
+        long epoch = lastEpoch.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis() / 1000));
+        return new Claim(true, NODE_ID, epoch);
+    }
+
+    @Override
+    public boolean confirm(String roomCode) {
+        return true;
+    }
+
+    @Override
+    public void release(String roomCode) {
+    }
+
+    @Override
+    public void onLost(Consumer<String> listener) {
+    }
+
+    @Override
+    public CompletableFuture<String> send(String nodeId, String request, long timeoutMs) {
+        return CompletableFuture.failedFuture(new IllegalStateException("단일 노드에서는 다른 노드로 요청을 보낼 수 없습니다."));
+    }
+
+    @Override
+    public void onRequest(Function<String, String> handler) {
+    }
+}
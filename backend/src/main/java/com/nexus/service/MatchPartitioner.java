@@ -0,0 +1,196 @@
+package com.nexus.service;
+
+import com.nexus.entity.Lane;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 로비 참가자를 10명 단위 매치로 나눈 뒤, 각 매치 안에서 두 팀과 라인을 정합니다.
+ * 후보 분할(점수순 스네이크 배치와 그 변형)을 전용 ForkJoinPool에서 병렬로 평가하고
+ * "매치 간 점수 합 편차 + 매치별 비용(팀 점수 차이 + 라인 패널티) 합"이 가장 작은 분할을 고릅니다.
+ * 시간 예산을 넘기면 그때까지 평가한 후보 중 최선을 반환합니다.
+ */
+@Component
+@Slf4j
+public class MatchPartitioner {
+
+    public static final int MATCH_SIZE = 10;
+
+    private final TeamBalancer teamBalancer;
+    private final LaneAssignmentSolver laneAssignmentSolver;
+    private final ForkJoinPool pool;
+    private final int candidates;
+    private final long timeBudgetNanos;
+
+    public MatchPartitioner(TeamBalancer teamBalancer,
+                            LaneAssignmentSolver laneAssignmentSolver,
+                            @Value("${team-balance.partition.candidates:32}") int candidates,
+                            @Value("${team-balance.partition.time-budget-ms:200}") long timeBudgetMs,
+                            @Value("${team-balance.partition.parallelism:0}") int parallelism) {
+        this.teamBalancer = teamBalancer;
+        this.laneAssignmentSolver = laneAssignmentSolver;
+        this.candidates = Math.max(1, candidates);
+        this.timeBudgetNanos = timeBudgetMs * 1_000_000L;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // lane은 10명 매치에서 라인까지 정한 경우에만 채워집니다.
+    public record Assignment(int matchNumber, int teamNumber, Lane lane) {
+    }
+
+    /**
+     * partition을 호출 스레드가 아닌 전용 풀에서 실행합니다.
+     */
+    public CompletableFuture<Map<Long, Assignment>> partitionAsync(List<TeamBalancer.Player> players) {
+        return CompletableFuture.supplyAsync(() -> partition(players), pool);
+    }
+
+    /**
+     * @param players 참가자 (10의 배수가 아니면 전체를 한 매치로 보고 두 팀만 나눕니다)
+     * @return userId → 매치 번호(1부터)와 팀 번호(1 또는 2), 매치/팀 순으로 정렬
+     */
+    public Map<Long, Assignment> partition(List<TeamBalancer.Player> players) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int groupCount = players.size() % MATCH_SIZE == 0 ? players.size() / MATCH_SIZE : 1;
+        if (groupCount <= 1) {
+            return toAssignments(List.of(evaluateGroup(players, deadline)));
+        }
+
+        List<TeamBalancer.Player> sorted = new ArrayList<>(players);
+        sorted.sort(Comparator.comparingInt(TeamBalancer.Player::rating).reversed());
+
+        long startedAt = System.nanoTime();
+        Candidate best = pool.submit(() -> IntStream.range(0, candidates)
+                        .parallel()
+                        .mapToObj(seed -> evaluate(sorted, groupCount, seed, deadline))
+                        .filter(Objects::nonNull)
+                        .min(Comparator.comparingLong(Candidate::cost)))
+                .join()
+                .orElseThrow();
+        log.debug("Partitioned {} players into {} matches (cost {}) in {} µs",
+                players.size(), groupCount, best.cost(), (System.nanoTime() - startedAt) / 1_000);
+        return toAssignments(best.groups());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    // seed 0은 점수순 스네이크 배치, 나머지는 같은 라운드(그룹 수만큼의 연속 순위) 안에서만 그룹을 섞은 변형입니다.
+    // 라운드 단위로 섞으므로 매치 간 점수 합은 크게 벌어지지 않으면서 구성이 달라집니다.
+    private Candidate evaluate(List<TeamBalancer.Player> sorted, int groupCount, int seed, long deadline) {
+        if (seed > 0 && System.nanoTime() >= deadline) {
+            return null;
+        }
+
+        List<List<TeamBalancer.Player>> members = new ArrayList<>(groupCount);
+        for (int g = 0; g < groupCount; g++) {
+            members.add(new ArrayList<>(MATCH_SIZE));
+        }
+
+        Random random = new Random(seed);
+        int[] order = IntStream.range(0, groupCount).toArray();
+        for (int round = 0; round * groupCount < sorted.size(); round++) {
+            if (seed == 0) {
+                if (round % 2 == 1) {
+                    reverse(order);
+                }
+            } else {
+                shuffle(order, random);
+            }
+            for (int k = 0; k < groupCount; k++) {
+                members.get(order[k]).add(sorted.get(round * groupCount + k));
+            }
+            if (seed == 0 && round % 2 == 1) {
+                reverse(order);
+            }
+        }
+
+        List<Group> groups = new ArrayList<>(groupCount);
+        long groupCosts = 0;
+        long maxSum = Long.MIN_VALUE;
+        long minSum = Long.MAX_VALUE;
+        for (List<TeamBalancer.Player> group : members) {
+            Group evaluated = evaluateGroup(group, deadline);
+            groups.add(evaluated);
+            groupCosts += evaluated.cost();
+            long sum = evaluated.sum();
+            maxSum = Math.max(maxSum, sum);
+            minSum = Math.min(minSum, sum);
+        }
+        return new Candidate(groups, groupCosts + (maxSum - minSum));
+    }
+
+    // 10명 그룹은 라인까지 배정하고, 그 외(10의 배수가 아닌 로비)는 점수로만 두 팀을 나눕니다.
+    private Group evaluateGroup(List<TeamBalancer.Player> group, long deadline) {
+        long sum = 0;
+        for (TeamBalancer.Player player : group) {
+            sum += player.rating();
+        }
+        if (group.size() == MATCH_SIZE) {
+            LaneAssignmentSolver.Solution solution = laneAssignmentSolver.solve(group, deadline);
+            return new Group(solution.teams(), solution.lanes(), sum, solution.cost());
+        }
+
+        Map<Long, Integer> teams = teamBalancer.balance(group, deadline);
+        long diff = 0;
+        for (TeamBalancer.Player player : group) {
+            diff += teams.get(player.userId()) == 1 ? player.rating() : -player.rating();
+        }
+        return new Group(teams, Map.of(), sum, Math.abs(diff));
+    }
+
+    private static Map<Long, Assignment> toAssignments(List<Group> groups) {
+        Map<Long, Assignment> assignments = new LinkedHashMap<>();
+        for (int g = 0; g < groups.size(); g++) {
+            int matchNumber = g + 1;
+            Group group = groups.get(g);
+            for (int teamNumber = 1; teamNumber <= 2; teamNumber++) {
+                for (Map.Entry<Long, Integer> entry : group.teams().entrySet()) {
+                    if (entry.getValue() == teamNumber) {
+                        assignments.put(entry.getKey(),
+                                new Assignment(matchNumber, teamNumber, group.lanes().get(entry.getKey())));
+                    }
+                }
+            }
+        }
+        return assignments;
+    }
+
+    private static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private record Group(Map<Long, Integer> teams, Map<Long, Lane> lanes, long sum, long cost) {
+    }
+
+    private record Candidate(List<Group> groups, long cost) {
+    }
+}
@@ -0,0 +1,224 @@
+package com.nexus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.config.MatchResultProperties;
+import com.nexus.config.RiotApiProperties;
+import com.nexus.dto.MatchCallbackDto;
+import com.nexus.dto.RiotApiDto;
+import com.nexus.entity.MatchCallback;
+import com.nexus.exception.BusinessException;
+import com.nexus.repository.MatchCallbackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Riot 토너먼트 콜백을 받아 매치 결과로 반영하는 비동기 파이프라인입니다.
+ * - 수신: 원문을 match_callbacks에 저장(같은 코드+게임 ID는 한 번만)하고 큐에 넣은 뒤 바로 응답합니다.
+ * - 처리: 고정 크기 워커가 매치 상세(match-v5)를 조회하고 MatchResultRecorder로 결과를 반영합니다.
+ *   상세가 아직 없거나 실패하면 지수 백오프로 다시 시도하고, 횟수를 넘기면 FAILED로 남깁니다.
+ * - 큐는 크기가 제한되어 있어 가득 차면 넣지 않고, 저장된 대기 콜백은 주기 점검(sweep)이 다시 큐에 넣습니다.
+ */
+@Service
+@Slf4j
+public class MatchResultPipeline {
+
+    private final MatchCallbackRepository callbackRepository;
+    private final MatchResultRecorder recorder;
+    private final RiotApiService riotApiService;
+    private final ObjectMapper objectMapper;
+    private final MatchResultProperties properties;
+    private final RiotApiProperties riotApiProperties;
+    private final ThreadPoolExecutor workers;
+    // 큐에 들어 있거나 처리 중인 콜백 ID (같은 콜백을 동시에 두 번 처리하지 않도록)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter received;
+    private final Counter duplicates;
+    private final Counter rejected;
+
+    public MatchResultPipeline(MatchCallbackRepository callbackRepository,
+                               MatchResultRecorder recorder,
+                               RiotApiService riotApiService,
+                               ObjectMapper objectMapper,
+                               MatchResultProperties properties,
+                               RiotApiProperties riotApiProperties,
+                               MeterRegistry meterRegistry) {
+        this.callbackRepository = callbackRepository;
+        this.recorder = recorder;
+        this.riotApiService = riotApiService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.riotApiProperties = riotApiProperties;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        int threads = Math.max(1, properties.getWorkers());
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> new Thread(runnable, "match-result-" + threadIndex.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.received = Counter.builder("nexus.match_callbacks")
+                .description("Tournament callbacks by intake result")
+                .tag("result", "received")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("nexus.match_callbacks")
+                .description("Tournament callbacks by intake result")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("nexus.match_callbacks")
+                .description("Tournament callbacks by intake result")
+                .tag("result", "queue_full")
+                .register(meterRegistry);
+        Gauge.builder("nexus.match_callbacks.queue.depth", workers, executor -> executor.getQueue().size())
+                .description("Callbacks waiting for a match result worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리하지 못한 콜백은 RECEIVED로 남아 있으므로 재시작 후 sweep이 이어서 처리합니다.
+        workers.shutdownNow();
+    }
+
+    /**
+     * 콜백 원문을 저장하고 처리 큐에 넣습니다. 이미 받은 콜백이면 저장하지 않고 무시합니다.
+     */
+    public void receive(String body) {
+        MatchCallbackDto.Payload payload = parse(body);
+        if (payload.getShortCode() == null || payload.getRegion() == null) {
+            throw new BusinessException("토너먼트 콜백 형식이 올바르지 않습니다.");
+        }
+        if (callbackRepository.existsByTournamentCodeAndGameId(payload.getShortCode(), payload.getGameId())) {
+            duplicates.increment();
+            return;
+        }
+
+        MatchCallback callback = new MatchCallback();
+        callback.setTournamentCode(payload.getShortCode());
+        callback.setGameId(payload.getGameId());
+        callback.setPayload(body);
+        try {
+            callback = callbackRepository.save(callback);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 콜백이 동시에 두 번 들어온 경우
+            duplicates.increment();
+            return;
+        }
+        received.increment();
+        enqueue(callback.getId());
+    }
+
+    /**
+     * 저장된 콜백을 다시 처리합니다. id가 없으면 해당 상태의 콜백을 최대 sweepBatchSize개까지 다시 처리합니다.
+     * 매치 결과 반영은 멱등이므로 이미 반영된 콜백을 다시 처리해도 DUPLICATE로 끝납니다.
+     */
+    public int replay(Long id, MatchCallback.Status status) {
+        List<Long> ids = id != null
+                ? List.of(id)
+                : callbackRepository.findIdsByStatus(status, PageRequest.of(0, properties.getSweepBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int reset = callbackRepository.resetForReplay(ids, LocalDateTime.now());
+        ids.forEach(this::enqueue);
+        log.info("Replaying {} match callbacks", reset);
+        return reset;
+    }
+
+    // 큐가 가득 찼거나 재시도 시각이 된 대기 콜백을 다시 큐에 넣습니다.
+    @Scheduled(initialDelayString = "${match-results.sweep-interval-ms:30000}",
+               fixedDelayString = "${match-results.sweep-interval-ms:30000}")
+    public void sweep() {
+        List<Long> due = callbackRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, properties.getSweepBatchSize()));
+        due.forEach(this::enqueue);
+    }
+
+    private void enqueue(Long callbackId) {
+        if (!inFlight.add(callbackId)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    process(callbackId);
+                } finally {
+                    inFlight.remove(callbackId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(callbackId);
+            rejected.increment();
+            log.warn("Match result queue is full, callback {} will be picked up by the next sweep", callbackId);
+        }
+    }
+
+    private void process(Long callbackId) {
+        MatchCallback callback = callbackRepository.findById(callbackId).orElse(null);
+        if (callback == null || callback.getStatus() != MatchCallback.Status.RECEIVED) {
+            return;
+        }
+
+        try {
+            MatchCallbackDto.Payload payload = parse(callback.getPayload());
+            RiotApiDto.MatchDetail detail = riotApiService.getMatch(payload.getMatchId())
+                    .block(Duration.ofMillis(properties.getDetailTimeoutMs()));
+            // 스텁 모드의 코드는 실제 매치가 없으므로 콜백의 승/패 정보만으로 반영합니다.
+            if (detail == null && !riotApiProperties.isUseStub()) {
+                retryLater(callback, "매치 상세가 아직 조회되지 않습니다: " + payload.getMatchId());
+                return;
+            }
+            MatchCallback.Status status = recorder.record(payload, detail);
+            callbackRepository.finish(callbackId, status, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Failed to process match callback {}: {}", callbackId, e.getMessage());
+            retryLater(callback, e.getMessage());
+        }
+    }
+
+    private void retryLater(MatchCallback callback, String reason) {
+        int attempts = callback.getAttempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            callbackRepository.reschedule(callback.getId(), MatchCallback.Status.FAILED, attempts,
+                    callback.getNextAttemptAt(), truncate(reason));
+            log.error("Match callback {} failed after {} attempts: {}", callback.getId(), attempts, reason);
+            return;
+        }
+        long backoffMs = Math.min(properties.getRetryBackoffMs() << Math.min(attempts - 1, 20),
+                properties.getMaxRetryBackoffMs());
+        callbackRepository.reschedule(callback.getId(), MatchCallback.Status.RECEIVED, attempts,
+                LocalDateTime.now().plus(Duration.ofMillis(backoffMs)), truncate(reason));
+    }
+
+    private MatchCallbackDto.Payload parse(String body) {
+        try {
+            return objectMapper.readValue(body, MatchCallbackDto.Payload.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("토너먼트 콜백 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,130 @@
+package com.nexus.service;
+
+import com.nexus.dto.MatchCallbackDto;
+import com.nexus.dto.RiotApiDto;
+import com.nexus.entity.GameMatch;
+import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.MatchCallback;
+import com.nexus.repository.GameMatchRepository;
+import com.nexus.repository.GameRoomParticipantRepository;
+import com.nexus.repository.GameRoomRepository;
+import com.nexus.repository.GameRoomParticipantRepository.MatchSlotView;
+import com.nexus.repository.PlayerStatsBatchRepository.PlayerResult;
+import com.nexus.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 콜백 한 건의 매치 결과를 한 트랜잭션으로 DB에 반영합니다.
+ * 매치 완료 UPDATE가 "아직 완료되지 않은 경우에만" 적용되므로 같은 매치의 콜백이 여러 번 와도 한 번만 반영됩니다.
+ * 전적 요약 테이블(user_stats 등)도 같은 트랜잭션에서 더하므로 매치 완료와 전적 반영은 함께 성공하거나 함께 취소됩니다.
+ * 방 행에 쓰기 락을 먼저 잡아 같은 방의 매치 결과를 하나씩 반영하므로, 마지막 두 매치의 콜백이 동시에 와도
+ * 나중에 반영하는 쪽이 먼저 반영된 매치를 보고 방을 완료로 바꿉니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchResultRecorder {
+
+    private static final String COMPLETED = "COMPLETED";
+
+    private final GameMatchRepository gameMatchRepository;
+    private final GameRoomRepository gameRoomRepository;
+    private final GameRoomParticipantRepository participantRepository;
+    private final UserStatsRepository userStatsRepository;
+
+    /**
+     * @param detail match-v5 상세 (없으면 콜백의 승/패 팀 정보만 사용)
+     * @return 콜백 처리 결과 상태
+     */
+    @Transactional
+    public MatchCallback.Status record(MatchCallbackDto.Payload payload, RiotApiDto.MatchDetail detail) {
+        GameMatch match = gameMatchRepository.findByTournamentCode(payload.getShortCode()).orElse(null);
+        if (match == null) {
+            log.info("Ignoring callback for unknown tournament code {}", payload.getShortCode());
+            return MatchCallback.Status.IGNORED;
+        }
+
+        GameRoom room = gameRoomRepository.findByIdForUpdate(match.getGameRoom().getId()).orElseThrow();
+        List<MatchSlotView> slots = participantRepository.findMatchSlots(room.getId(), match.getMatchNumber());
+        Integer winningTeam = winningTeam(slots, winnerPuuids(payload, detail));
+
+        int updated = gameMatchRepository.complete(match.getId(), payload.getMatchId(), winningTeam, LocalDateTime.now());
+        if (updated == 0) {
+            log.info("Match {} ({}) already completed, skipping duplicate callback", match.getId(), payload.getMatchId());
+            return MatchCallback.Status.DUPLICATE;
+        }
+
+        if (winningTeam != null) {
+            userStatsRepository.applyMatchResults(playerResults(slots, winningTeam, detail), LocalDateTime.now());
+        }
+
+        // 방의 모든 매치가 끝나면 방도 완료로 바꿉니다.
+        if (gameMatchRepository.countByGameRoomIdAndStatusNot(room.getId(), COMPLETED) == 0) {
+            room.setStatus(GameRoomStatus.COMPLETED);
+        }
+        log.info("Recorded result of match {} in room {}: {} (team {} won)",
+                match.getMatchNumber(), room.getRoomCode(), payload.getMatchId(), winningTeam);
+        return MatchCallback.Status.PROCESSED;
+    }
+
+    // 팀이 배정된 참가자마다 승패와 (상세가 있으면) 챔피언/KDA를 모읍니다.
+    private static List<PlayerResult> playerResults(List<MatchSlotView> slots, int winningTeam,
+                                                    RiotApiDto.MatchDetail detail) {
+        Map<String, RiotApiDto.MatchDetail.Participant> byPuuid = new HashMap<>();
+        if (detail != null && detail.getInfo() != null) {
+            detail.getInfo().getParticipants().forEach(participant -> byPuuid.put(participant.getPuuid(), participant));
+        }
+
+        List<PlayerResult> results = new ArrayList<>(slots.size());
+        for (MatchSlotView slot : slots) {
+            if (slot.getTeamNumber() == null) {
+                continue;
+            }
+            boolean win = slot.getTeamNumber() == winningTeam;
+            RiotApiDto.MatchDetail.Participant participant = slot.getPuuid() != null ? byPuuid.get(slot.getPuuid()) : null;
+            results.add(participant != null
+                    ? new PlayerResult(slot.getUserId(), win, participant.getChampionId(), participant.getChampionName(),
+                                       participant.getKills(), participant.getDeaths(), participant.getAssists())
+                    : new PlayerResult(slot.getUserId(), win, null, null, 0, 0, 0));
+        }
+        return results;
+    }
+
+    private static Set<String> winnerPuuids(MatchCallbackDto.Payload payload, RiotApiDto.MatchDetail detail) {
+        if (detail != null && detail.getInfo() != null) {
+            return detail.getInfo().getParticipants().stream()
+                    .filter(RiotApiDto.MatchDetail.Participant::isWin)
+                    .map(RiotApiDto.MatchDetail.Participant::getPuuid)
+                    .collect(Collectors.toSet());
+        }
+        return payload.getWinningTeam().stream()
+                .map(MatchCallbackDto.Player::getPuuid)
+                .collect(Collectors.toSet());
+    }
+
+    // 이긴 플레이어가 가장 많이 속한 팀 번호 (PUUID가 연결되지 않아 알 수 없으면 null)
+    private static Integer winningTeam(List<MatchSlotView> slots, Set<String> winners) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (MatchSlotView slot : slots) {
+            if (slot.getTeamNumber() != null && winners.contains(slot.getPuuid())) {
+                counts.merge(slot.getTeamNumber(), 1, Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.nexus.service;
+
+import com.nexus.dto.PlayerStatsDto;
+import com.nexus.entity.HeadToHeadStats;
+import com.nexus.entity.UserStats;
+import com.nexus.repository.HeadToHeadStatsRepository;
+import com.nexus.repository.UserChampionStatsRepository;
+import com.nexus.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전적 조회. 매치 결과 반영 시 미리 더해 둔 요약 테이블만 읽습니다 (MatchResultRecorder 참고).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlayerStatsService {
+
+    private static final int PROFILE_CHAMPIONS = 5;
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserChampionStatsRepository championStatsRepository;
+    private final HeadToHeadStatsRepository headToHeadStatsRepository;
+
+    public PlayerStatsDto.Profile getProfile(Long userId) {
+        UserStats stats = userStatsRepository.findById(userId).orElse(null);
+        List<PlayerStatsDto.Champion> champions = championStatsRepository
+                .findByUserIdOrderByGamesDesc(userId, PageRequest.of(0, PROFILE_CHAMPIONS)).stream()
+                .map(champion -> new PlayerStatsDto.Champion(champion.getChampionId(), champion.getChampionName(),
+                        champion.getGames(), champion.getWins(),
+                        champion.getKills(), champion.getDeaths(), champion.getAssists()))
+                .toList();
+        if (stats == null) {
+            return new PlayerStatsDto.Profile(userId, 0, 0, 0, 0, 0, 0, 0, champions);
+        }
+        return new PlayerStatsDto.Profile(userId, stats.getGames(), stats.getWins(), stats.getLosses(),
+                winRate(stats.getWins(), stats.getGames()),
+                stats.getKills(), stats.getDeaths(), stats.getAssists(), champions);
+    }
+
+    public PlayerStatsDto.HeadToHead getHeadToHead(Long userId, Long opponentId) {
+        HeadToHeadStats.Key key = new HeadToHeadStats.Key();
+        key.setUserId(userId);
+        key.setOpponentId(opponentId);
+        return headToHeadStatsRepository.findById(key)
+                .map(stats -> new PlayerStatsDto.HeadToHead(userId, opponentId,
+                        stats.getGames(), stats.getWins(), stats.getGames() - stats.getWins()))
+                .orElseGet(() -> new PlayerStatsDto.HeadToHead(userId, opponentId, 0, 0, 0));
+    }
+
+    public List<PlayerStatsDto.LeaderboardEntry> getLeaderboard(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_LEADERBOARD_SIZE));
+        List<UserStatsRepository.LeaderboardView> rows = userStatsRepository.findLeaderboard(PageRequest.of(0, limit));
+        List<PlayerStatsDto.LeaderboardEntry> entries = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            UserStatsRepository.LeaderboardView row = rows.get(i);
+            entries.add(new PlayerStatsDto.LeaderboardEntry(i + 1, row.getUserId(), row.getNickname(),
+                    row.getGames(), row.getWins(), winRate(row.getWins(), row.getGames())));
+        }
+        return entries;
+    }
+
+    private static double winRate(int wins, int games) {
+        return games > 0 ? Math.round(wins * 1000.0 / games) / 10.0 : 0;
+    }
+}
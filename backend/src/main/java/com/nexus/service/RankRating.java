@@ -0,0 +1,51 @@
+package com.nexus.service;
+
+import com.nexus.entity.User;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 솔로 랭크(티어/디비전/LP)를 팀 밸런싱용 단일 점수로 변환합니다.
+ * 티어당 400점, 디비전당 100점에 LP를 더하며 마스터 이상은 LP가 그대로 이어집니다.
+ * 예: IRON IV 0LP = 0, GOLD II 50LP = 1450, MASTER 120LP = 2920
+ */
+public final class RankRating {
+
+    // 랭크 정보가 없는 사용자의 기본 점수 (SILVER I 수준)
+    public static final int UNRANKED = 1100;
+
+    private static final int POINTS_PER_TIER = 400;
+    private static final int POINTS_PER_DIVISION = 100;
+
+    private static final Map<String, Integer> TIER_INDEX = Map.of(
+            "IRON", 0, "BRONZE", 1, "SILVER", 2, "GOLD", 3, "PLATINUM", 4,
+            "EMERALD", 5, "DIAMOND", 6, "MASTER", 7, "GRANDMASTER", 7, "CHALLENGER", 7);
+
+    private static final Map<String, Integer> DIVISION_INDEX = Map.of(
+            "IV", 0, "III", 1, "II", 2, "I", 3);
+
+    private RankRating() {
+    }
+
+    public static int of(User user) {
+        return of(user.getSoloTier(), user.getSoloRank(), user.getSoloLeaguePoints());
+    }
+
+    public static int of(String tier, String rank, int leaguePoints) {
+        if (tier == null) {
+            return UNRANKED;
+        }
+        Integer tierIndex = TIER_INDEX.get(tier.toUpperCase(Locale.ROOT));
+        if (tierIndex == null) {
+            return UNRANKED;
+        }
+
+        int rating = tierIndex * POINTS_PER_TIER + Math.max(leaguePoints, 0);
+        // 마스터 이상은 디비전이 없고 LP가 상한 없이 누적됩니다.
+        if (tierIndex < TIER_INDEX.get("MASTER") && rank != null) {
+            rating += DIVISION_INDEX.getOrDefault(rank.toUpperCase(Locale.ROOT), 0) * POINTS_PER_DIVISION;
+        }
+        return rating;
+    }
+}
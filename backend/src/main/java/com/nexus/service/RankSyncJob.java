@@ -0,0 +1,289 @@
+package com.nexus.service;
+
+import com.nexus.config.RankSyncProperties;
+import com.nexus.dto.RiotApiDto;
+import com.nexus.repository.UserRankBatchRepository.RankSyncTarget;
+import com.nexus.repository.UserRankBatchRepository.RankUpdate;
+import com.nexus.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 랭크(솔로/자유 티어, LP)를 Riot API와 주기적으로 맞춥니다.
+ * - ACTIVE: 최근 활동한 사용자만 짧은 주기로, ALL: PUUID가 연결된 전체 사용자를 긴 주기로 훑습니다.
+ * - users를 id 키셋으로 청크 단위로 읽고, 청크마다 Riot 조회(RiotProfileCache → 레이트 리미터) 후 JDBC 배치로 반영합니다.
+ * - 청크를 끝낼 때마다 마지막 id를 Redis에 기록하므로 재시작하거나 다른 노드가 이어받아도 그 위치부터 계속합니다.
+ * - 실행 한 번에 chunksPerRun개 청크만 처리하고 나머지는 다음 실행으로 넘깁니다.
+ * - 실행 잠금은 노드마다 다른 토큰으로 잡고, 풀 때는 토큰이 같을 때만 지웁니다 (TTL이 지나 다른 노드가 잡은 잠금을 지우지 않도록).
+ * - 청크를 끝낼 때마다 잠금 TTL을 연장하므로 실행이 TTL보다 길어져도 다른 노드가 같은 단계를 함께 돌리지 않습니다.
+ *   연장에 실패하면(이미 잠금을 잃었으면) 커서를 기록하지 않고 실행을 멈춥니다.
+ */
+@Component
+@Slf4j
+public class RankSyncJob {
+
+    private static final String KEY_PREFIX = "rank-sync:";
+    private static final String SOLO_QUEUE = "RANKED_SOLO_5x5";
+    private static final String FLEX_QUEUE = "RANKED_FLEX_SR";
+
+    // KEYS[1] = 잠금 키, ARGV[1] = 잠금 토큰. 자기 토큰일 때만 지웁니다.
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1] = 잠금 키, ARGV[1] = 잠금 토큰, ARGV[2] = TTL(ms). 자기 토큰일 때만 TTL을 다시 늘립니다.
+    private static final RedisScript<Long> RENEW_LOCK = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    enum Pass {
+        ACTIVE, ALL
+    }
+
+    private final UserRepository userRepository;
+    private final RiotProfileCache riotProfileCache;
+    private final StringRedisTemplate redisTemplate;
+    private final RankSyncProperties properties;
+    private final MeterRegistry meterRegistry;
+    // Redis 캐시 조회(blocking)를 실행하는 스레드
+    private final ExecutorService executor;
+    // 이 노드의 잠금 토큰 접두사 (실행마다 뒤에 번호를 붙여 이전 실행의 잠금과도 구분)
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final AtomicLong lockSequence = new AtomicLong();
+    private final Map<Pass, PassMetrics> metrics = new EnumMap<>(Pass.class);
+
+    public RankSyncJob(UserRepository userRepository,
+                       RiotProfileCache riotProfileCache,
+                       StringRedisTemplate redisTemplate,
+                       RankSyncProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.riotProfileCache = riotProfileCache;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()),
+                runnable -> new Thread(runnable, "rank-sync-" + threadIndex.incrementAndGet()));
+        for (Pass pass : Pass.values()) {
+            metrics.put(pass, new PassMetrics(pass));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(initialDelayString = "${rank-sync.initial-delay-ms:60000}",
+               fixedDelayString = "${rank-sync.active-interval-ms:300000}")
+    public void syncActiveUsers() {
+        run(Pass.ACTIVE);
+    }
+
+    @Scheduled(initialDelayString = "${rank-sync.initial-delay-ms:60000}",
+               fixedDelayString = "${rank-sync.full-interval-ms:3600000}")
+    public void syncAllUsers() {
+        run(Pass.ALL);
+    }
+
+    void run(Pass pass) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String lockKey = key(pass, "lock");
+        String lockToken = lockOwner + ":" + lockSequence.incrementAndGet();
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, lockToken, Duration.ofMillis(properties.getLockTtlMs()));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("Rank sync ({}) is running on another node", pass);
+            return;
+        }
+
+        PassMetrics passMetrics = metrics.get(pass);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime activeSince = pass == Pass.ACTIVE ? now.minus(Duration.ofMillis(properties.getActiveWindowMs())) : null;
+            LocalDateTime syncedBefore = now.minus(Duration.ofMillis(properties.getMinResyncIntervalMs()));
+
+            long cursor = readLong(key(pass, "cursor"));
+            if (cursor == 0) {
+                redisTemplate.opsForValue().setIfAbsent(key(pass, "cycle-started"), String.valueOf(System.currentTimeMillis()));
+            }
+            passMetrics.lastCompletedCycleStartedAt.set(readLong(key(pass, "completed-cycle-started")));
+
+            for (int chunk = 0; chunk < properties.getChunksPerRun(); chunk++) {
+                List<RankSyncTarget> targets = userRepository.findRankSyncTargets(
+                        cursor, activeSince, syncedBefore, properties.getChunkSize());
+                if (targets.isEmpty()) {
+                    completeCycle(pass);
+                    cursor = 0;
+                    break;
+                }
+                boolean synced = syncChunk(pass, targets);
+                if (!renewLock(lockKey, lockToken)) {
+                    // TTL이 지나 다른 노드가 잠금을 잡았을 수 있으므로 그 노드의 커서를 덮어쓰지 않고 멈춥니다.
+                    log.warn("Rank sync ({}) lost its lock, stopping with the cursor still at id {}", pass, cursor);
+                    return;
+                }
+                // 실패한 사용자는 syncedBefore 조건에 계속 걸리므로 다음 주기에 다시 조회됩니다.
+                // 청크 전체가 실패해도 커서는 넘겨서, 항상 실패하는 사용자들이 같은 청크에 모여 동기화를 영원히 막지 않게 합니다.
+                cursor = targets.get(targets.size() - 1).id();
+                redisTemplate.opsForValue().set(key(pass, "cursor"), String.valueOf(cursor));
+                if (!synced) {
+                    // Riot API 장애일 수 있으므로 이번 실행은 여기서 멈추고 다음 실행에서 이어갑니다.
+                    passMetrics.failedChunks.increment();
+                    log.warn("Rank sync ({}) chunk of {} users up to id {} failed entirely, skipped to the next chunk",
+                            pass, targets.size(), cursor);
+                    break;
+                }
+            }
+
+            passMetrics.backlog.set(userRepository.countRankSyncTargets(cursor, activeSince, syncedBefore));
+        } catch (RuntimeException e) {
+            log.error("Rank sync ({}) failed", pass, e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(lockKey), lockToken);
+        }
+    }
+
+    private boolean renewLock(String lockKey, String lockToken) {
+        Long renewed = redisTemplate.execute(RENEW_LOCK, List.of(lockKey), lockToken,
+                String.valueOf(properties.getLockTtlMs()));
+        return renewed != null && renewed == 1;
+    }
+
+    // 청크 안의 사용자를 동시에 조회하고 성공한 사용자만 한 번의 배치 UPDATE로 반영합니다. 하나라도 성공하면 true.
+    private boolean syncChunk(Pass pass, List<RankSyncTarget> targets) {
+        PassMetrics passMetrics = metrics.get(pass);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<RankUpdate> updates = Flux.fromIterable(targets)
+                .flatMap(target -> Mono.fromFuture(() -> riotProfileCache.loadRank(target.puuid(), executor))
+                                .map(profile -> toUpdate(target.id(), profile))
+                                .onErrorResume(e -> {
+                                    log.debug("Rank sync failed for user {}: {}", target.id(), e.getMessage());
+                                    passMetrics.failed.increment();
+                                    return Mono.empty();
+                                }),
+                        Math.max(1, properties.getConcurrency()))
+                .collectList()
+                .block();
+
+        if (updates != null && !updates.isEmpty()) {
+            userRepository.updateRanks(updates, LocalDateTime.now());
+            passMetrics.synced.increment(updates.size());
+        }
+        sample.stop(passMetrics.chunkTimer);
+        return updates != null && !updates.isEmpty();
+    }
+
+    // 커서를 처음으로 되돌리고, 방금 끝난 주기의 시작 시각을 지연(lag) 기준으로 남깁니다.
+    private void completeCycle(Pass pass) {
+        String startedAt = redisTemplate.opsForValue().get(key(pass, "cycle-started"));
+        if (startedAt != null) {
+            redisTemplate.opsForValue().set(key(pass, "completed-cycle-started"), startedAt);
+            metrics.get(pass).lastCompletedCycleStartedAt.set(Long.parseLong(startedAt));
+        }
+        redisTemplate.delete(List.of(key(pass, "cursor"), key(pass, "cycle-started")));
+        log.info("Rank sync ({}) cycle completed", pass);
+    }
+
+    private static RankUpdate toUpdate(long userId, RiotApiDto.RankProfile profile) {
+        RiotApiDto.LeagueEntry solo = profile.entry(SOLO_QUEUE);
+        RiotApiDto.LeagueEntry flex = profile.entry(FLEX_QUEUE);
+        return new RankUpdate(userId,
+                solo != null ? solo.getTier() : null,
+                solo != null ? solo.getRank() : null,
+                solo != null ? solo.getLeaguePoints() : 0,
+                flex != null ? flex.getTier() : null,
+                flex != null ? flex.getRank() : null,
+                flex != null ? flex.getLeaguePoints() : 0);
+    }
+
+    private long readLong(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private static String key(Pass pass, String name) {
+        return KEY_PREFIX + pass.name().toLowerCase(Locale.ROOT) + ":" + name;
+    }
+
+    private double lagSeconds(Pass pass) {
+        long startedAt = metrics.get(pass).lastCompletedCycleStartedAt.get();
+        return startedAt > 0 ? (System.currentTimeMillis() - startedAt) / 1_000.0 : Double.NaN;
+    }
+
+    /**
+     * 동기화 단계별 지표: 처리량(synced/failed), 남은 대상 수(backlog), 지연(lag = 마지막으로 끝난 주기의 시작 이후 경과 시간,
+     * 즉 해당 단계 대상 사용자의 랭크가 최대 얼마나 오래됐는지).
+     */
+    private final class PassMetrics {
+        private final Counter synced;
+        private final Counter failed;
+        private final Counter failedChunks;
+        private final Timer chunkTimer;
+        private final AtomicLong backlog = new AtomicLong();
+        private final AtomicLong lastCompletedCycleStartedAt = new AtomicLong();
+
+        private PassMetrics(Pass pass) {
+            String tag = pass.name().toLowerCase(Locale.ROOT);
+            this.synced = Counter.builder("nexus.rank_sync.users")
+                    .description("Users processed by the rank sync job by result")
+                    .tags("pass", tag, "result", "synced")
+                    .register(meterRegistry);
+            this.failed = Counter.builder("nexus.rank_sync.users")
+                    .description("Users processed by the rank sync job by result")
+                    .tags("pass", tag, "result", "failed")
+                    .register(meterRegistry);
+            this.failedChunks = Counter.builder("nexus.rank_sync.failed_chunks")
+                    .description("Rank sync chunks in which every lookup failed (skipped until the next cycle)")
+                    .tag("pass", tag)
+                    .register(meterRegistry);
+            this.chunkTimer = Timer.builder("nexus.rank_sync.chunk")
+                    .description("Time to fetch and write one rank sync chunk")
+                    .tag("pass", tag)
+                    .register(meterRegistry);
+            Gauge.builder("nexus.rank_sync.backlog", backlog, AtomicLong::get)
+                    .description("Users still waiting for rank sync in the current cycle")
+                    .tag("pass", tag)
+                    .register(meterRegistry);
+            Gauge.builder("nexus.rank_sync.lag", pass, RankSyncJob.this::lagSeconds)
+                    .description("Seconds since the last completed rank sync cycle started")
+                    .tag("pass", tag)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+}
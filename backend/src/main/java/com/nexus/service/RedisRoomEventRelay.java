@@ -0,0 +1,83 @@
+package com.nexus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Redis pub/sub으로 모든 노드에 방 이벤트를 중계합니다.
+ * 발행 노드도 자신의 구독으로 메시지를 받아 로컬 브로커에 전달하므로, 각 노드는 자기에게 연결된 클라이언트에게만 보내면 됩니다.
+ * 메시지 형식: "{destination}\n{JSON payload}"
+ */
+@Slf4j
+public class RedisRoomEventRelay implements RoomEventRelay, InitializingBean, DisposableBean {
+
+    private static final Map<String, Object> JSON_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisRoomEventRelay(SimpMessagingTemplate messagingTemplate,
+                               StringRedisTemplate redisTemplate,
+                               RedisConnectionFactory connectionFactory,
+                               ObjectMapper objectMapper,
+                               String channel) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Relaying room events through Redis channel {}", channel);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        try {
+            redisTemplate.convertAndSend(channel, destination + "\n" + objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize room event for {}", destination, e);
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            log.warn("Ignoring malformed room event relay message");
+            return;
+        }
+        String destination = body.substring(0, separator);
+        byte[] payload = body.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+        messagingTemplate.convertAndSend(destination, payload, JSON_HEADERS);
+    }
+}
@@ -0,0 +1,273 @@
+package com.nexus.service;
+
+import com.nexus.config.RoomOwnershipProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis 임대로 방마다 한 노드만 소유하게 합니다 (relay/redis 모드).
+ * - room:{roomCode}:owner 키에 "소유 노드 ID|epoch"를 TTL과 함께 두고, 소유 중인 방은 주기적으로 TTL을 갱신합니다.
+ *   노드가 죽으면 lease-ttl-ms 뒤 키가 만료되어 다른 노드가 DB에서 다시 올립니다.
+ * - epoch는 소유권을 새로 잡을 때마다 room:{roomCode}:epoch를 INCR해 정하므로 어느 노드가 올리든 이전 소유 때보다 큽니다.
+ * - 노드마다 자기 채널(channel-prefix + 노드 ID)을 구독해 다른 노드가 넘긴 방 요청을 받고, 같은 방식으로 응답합니다.
+ *   메시지 형식: "REQ {요청 ID} {응답할 노드 ID}\n{본문}", "REP {요청 ID}\n{본문}"
+ */
+@Slf4j
+public class RedisRoomOwnership implements RoomOwnership, InitializingBean, DisposableBean {
+
+    // 비어 있으면 epoch를 올려 이 노드로 잡고, 이미 이 노드 것이면 TTL만 늘립니다. 현재 임대 값을 반환합니다.
+    private static final RedisScript<String> CLAIM = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+              local epoch = redis.call('INCR', KEYS[2])
+              redis.call('PEXPIRE', KEYS[2], ARGV[3])
+              current = ARGV[1] .. '|' .. epoch
+              redis.call('SET', KEYS[1], current, 'PX', ARGV[2])
+              return current
+            end
+            if string.sub(current, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. '|' then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return current
+            """, String.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 이 기간 동안 아무도 방을 올리지 않으면 epoch가 1부터 다시 시작합니다 (그 사이 구독을 유지한 클라이언트는 없다고 봄).
+    private static final long EPOCH_TTL_MS = 7L * 24 * 60 * 60 * 1000;
+    private static final String REQUEST = "REQ";
+    private static final String REPLY = "REP";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RoomOwnershipProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer listenerContainer;
+    // 소유 중인 방 코드 → 임대 키에 넣은 값
+    private final ConcurrentMap<String, String> leases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<String>> pendingReplies = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> lostListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService renewal =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "room-ownership-renewal"));
+    private final ExecutorService commandExecutor;
+    private volatile Function<String, String> requestHandler;
+    // 마지막으로 모든 임대를 갱신한 시각 (Redis 장애가 임대 시간보다 길어지면 소유권을 모두 내려놓음)
+    private volatile long lastRenewedAt = System.currentTimeMillis();
+
+    public RedisRoomOwnership(StringRedisTemplate redisTemplate,
+                              RedisConnectionFactory connectionFactory,
+                              RoomOwnershipProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.commandExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getCommandThreads()),
+                runnable -> new Thread(runnable, "room-command-" + threadIndex.incrementAndGet()));
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(channelOf(nodeId)));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        renewal.scheduleWithFixedDelay(this::renewAll, properties.getRenewIntervalMs(),
+                properties.getRenewIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("Room ownership node {} (lease {}ms)", nodeId, properties.getLeaseTtlMs());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        renewal.shutdownNow();
+        listenerContainer.destroy();
+        commandExecutor.shutdownNow();
+        leases.keySet().forEach(this::release);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Claim claim(String roomCode) {
+        String lease = leases.get(roomCode);
+        if (lease == null) {
+            lease = redisTemplate.execute(CLAIM, List.of(ownerKey(roomCode), epochKey(roomCode)),
+                    nodeId, String.valueOf(properties.getLeaseTtlMs()), String.valueOf(EPOCH_TTL_MS));
+        }
+        int separator = lease.lastIndexOf('|');
+        String owner = lease.substring(0, separator);
+        long epoch = Long.parseLong(lease.substring(separator + 1));
+        if (nodeId.equals(owner)) {
+            leases.put(roomCode, lease);
+            return new Claim(true, nodeId, epoch);
+        }
+        return new Claim(false, owner, epoch);
+    }
+
+    @Override
+    public boolean confirm(String roomCode) {
+        String lease = leases.get(roomCode);
+        return lease != null && lease.equals(redisTemplate.opsForValue().get(ownerKey(roomCode)));
+    }
+
+    @Override
+    public void release(String roomCode) {
+        String lease = leases.remove(roomCode);
+        if (lease == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE, List.of(ownerKey(roomCode)), lease);
+        } catch (RuntimeException e) {
+            // 풀지 못한 임대는 TTL이 지나면 만료됩니다.
+            log.warn("Failed to release room lease {}", roomCode, e);
+        }
+    }
+
+    @Override
+    public void onLost(Consumer<String> listener) {
+        lostListeners.add(listener);
+    }
+
+    @Override
+    public CompletableFuture<String> send(String targetNodeId, String request, long timeoutMs) {
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<String> reply = new CompletableFuture<>();
+        pendingReplies.put(requestId, reply);
+        reply.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> pendingReplies.remove(requestId));
+
+        Long receivers = redisTemplate.convertAndSend(channelOf(targetNodeId),
+                REQUEST + " " + requestId + " " + nodeId + "\n" + request);
+        if (receivers == null || receivers == 0) {
+            reply.completeExceptionally(new IllegalStateException("방을 관리하는 서버에 연결할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+        }
+        return reply;
+    }
+
+    @Override
+    public void onRequest(Function<String, String> handler) {
+        this.requestHandler = handler;
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        if (separator < 0) {
+            log.warn("Ignoring malformed room command message");
+            return;
+        }
+        String[] header = body.substring(0, separator).split(" ");
+        String payload = body.substring(separator + 1);
+
+        if (REPLY.equals(header[0]) && header.length == 2) {
+            CompletableFuture<String> reply = pendingReplies.remove(header[1]);
+            if (reply != null) {
+                reply.complete(payload);
+            }
+        } else if (REQUEST.equals(header[0]) && header.length == 3) {
+            // 요청 처리는 DB/방 락을 기다릴 수 있으므로 구독 스레드가 아닌 별도 풀에서 합니다.
+            try {
+                commandExecutor.execute(() -> handleRequest(header[1], header[2], payload));
+            } catch (RejectedExecutionException e) {
+                log.warn("Dropping room command {} during shutdown", header[1]);
+            }
+        } else {
+            log.warn("Ignoring unknown room command message {}", header[0]);
+        }
+    }
+
+    private void handleRequest(String requestId, String replyNodeId, String payload) {
+        Function<String, String> handler = requestHandler;
+        if (handler == null) {
+            log.warn("No room command handler registered, dropping request {}", requestId);
+            return;
+        }
+        String response = handler.apply(payload);
+        redisTemplate.convertAndSend(channelOf(replyNodeId), REPLY + " " + requestId + "\n" + response);
+    }
+
+    private void renewAll() {
+        try {
+            for (Map.Entry<String, String> lease : leases.entrySet()) {
+                Long renewed = redisTemplate.execute(RENEW, List.of(ownerKey(lease.getKey())),
+                        lease.getValue(), String.valueOf(properties.getLeaseTtlMs()));
+                if ((renewed == null || renewed == 0) && leases.remove(lease.getKey(), lease.getValue())) {
+                    log.warn("Lost the lease of room {}", lease.getKey());
+                    notifyLost(lease.getKey());
+                }
+            }
+            lastRenewedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew room leases", e);
+            // 임대가 이미 만료됐을 수 있으므로 다른 노드가 가져가기 전에 모두 내려놓습니다.
+            if (System.currentTimeMillis() - lastRenewedAt >= properties.getLeaseTtlMs()) {
+                for (String roomCode : leases.keySet()) {
+                    if (leases.remove(roomCode) != null) {
+                        notifyLost(roomCode);
+                    }
+                }
+            }
+        }
+    }
+
+    private void notifyLost(String roomCode) {
+        for (Consumer<String> listener : lostListeners) {
+            try {
+                listener.accept(roomCode);
+            } catch (RuntimeException e) {
+                log.error("Room lease loss listener failed for {}", roomCode, e);
+            }
+        }
+    }
+
+    private String channelOf(String targetNodeId) {
+        return properties.getChannelPrefix() + targetNodeId;
+    }
+
+    // 해시 태그로 같은 방의 키를 Redis Cluster의 한 슬롯에 둡니다.
+    private static String ownerKey(String roomCode) {
+        return "room:{" + roomCode + "}:owner";
+    }
+
+    private static String epochKey(String roomCode) {
+        return "room:{" + roomCode + "}:epoch";
+    }
+}
@@ -1,33 +1,53 @@
 package com.nexus.service;
 
 import com.nexus.config.RiotApiProperties;
+import com.nexus.dto.RiotApiDto.Account;
+import com.nexus.dto.RiotApiDto.LeagueEntry;
+import com.nexus.dto.RiotApiDto.MatchDetail;
 import com.nexus.dto.RiotApiDto.ProviderRegistrationRequest;
 import com.nexus.dto.RiotApiDto.TournamentCodeRequest;
 import com.nexus.dto.RiotApiDto.TournamentRegistrationRequest;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
+@Slf4j
 public class RiotApiService {
 
+    // 등록된 provider/tournament ID 재사용 기간 (실패는 캐시하지 않음)
+    private static final Duration TOURNAMENT_CACHE_TTL = Duration.ofDays(30);
+
     private final WebClient webClient;
     private final RiotApiProperties riotApiProperties;
+    private final Mono<Long> tournamentId;
 
-    public RiotApiService(WebClient.Builder webClientBuilder, @Value("${RIOT_API_KEY}") String riotApiKey, RiotApiProperties riotApiProperties) {
-        this.webClient = webClientBuilder
-                .baseUrl("https://americas.api.riotgames.com")
-                .defaultHeader("X-Riot-Token", riotApiKey)
-                .build();
+    // riotWebClient: 전용 커넥션 풀과 레이트 리미터가 적용된 클라이언트 (RiotWebClientConfig)
+    public RiotApiService(WebClient riotWebClient, RiotApiProperties riotApiProperties) {
+        this.webClient = riotWebClient;
         this.riotApiProperties = riotApiProperties;
+        this.tournamentId = resolveTournamentId()
+                .cache(id -> TOURNAMENT_CACHE_TTL, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 모든 방이 함께 쓰는 토너먼트 ID를 반환합니다.
+     * 설정값이 없으면 최초 호출 시 provider/tournament를 한 번 등록하고, 이후에는 캐시된 값을 재사용합니다.
+     */
+    public Mono<Long> getTournamentId() {
+        return tournamentId;
     }
 
     public Mono<Long> createProvider() {
-        ProviderRegistrationRequest request = new ProviderRegistrationRequest(riotApiProperties.getCallbackUrl());
+        // 콜백 인증용 secret이 붙은 URL로 등록해야 RiotCallbackController가 콜백을 받습니다.
+        ProviderRegistrationRequest request = new ProviderRegistrationRequest(riotApiProperties.callbackUrlWithSecret());
         // useStubApi 값에 따라 동적으로 경로를 결정합니다.
         String path = riotApiProperties.isUseStub() ? "/lol/tournament-stub/v5/providers" : "/lol/tournament/v5/providers";
         
@@ -57,19 +77,82 @@ public class RiotApiService {
     }
 
     /**
-     * 토너먼트 코드를 생성합니다.
-     * @param request DTO
-     * @param tournamentId 토너먼트 ID
-     * @return 생성된 토너먼트 코드 목록 (Mono<List<String>>)
+     * 토너먼트 코드를 count개 생성합니다.
+     * Riot API의 count 파라미터로 codesPerRequest개씩 묶어 요청하고, 동시 요청 수는 codeRequestConcurrency로 제한합니다.
+     * @param request DTO (모든 코드에 같은 설정이 적용됩니다)
+     * @param count 필요한 코드 수
+     * @return 생성된 토너먼트 코드 (Flux<String>)
+     */
+    public Flux<String> createTournamentCodes(TournamentCodeRequest request, int count) {
+        int perRequest = Math.max(1, Math.min(riotApiProperties.getCodesPerRequest(), 1000));
+        int batches = (count + perRequest - 1) / perRequest;
+        return tournamentId.flatMapMany(id -> Flux.range(0, batches)
+                .flatMap(batch -> requestCodes(request, id, Math.min(perRequest, count - batch * perRequest)),
+                        Math.max(1, riotApiProperties.getCodeRequestConcurrency()))
+                .flatMapIterable(codes -> codes));
+    }
+
+    /**
+     * Riot ID(게임 이름#태그)로 계정을 조회합니다 (account-v1, 리전 라우팅).
+     * 캐시를 거치지 않으므로 일반적으로는 RiotProfileCache를 사용합니다.
+     * @return 계정 정보, 존재하지 않는 Riot ID면 빈 Mono
+     */
+    public Mono<Account> getAccountByRiotId(String gameName, String tagLine) {
+        return this.webClient.get()
+                .uri("/riot/account/v1/accounts/by-riot-id/{gameName}/{tagLine}", gameName, tagLine)
+                .retrieve()
+                .bodyToMono(Account.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    /**
+     * PUUID의 큐별 랭크 정보를 조회합니다 (league-v4, 플랫폼 라우팅).
+     * 캐시를 거치지 않으므로 일반적으로는 RiotProfileCache를 사용합니다.
+     * @return 랭크 게임 기록이 없으면 빈 목록
      */
-    public Mono<List<String>> createTournamentCodes(TournamentCodeRequest request, long tournamentId) {
+    public Mono<List<LeagueEntry>> getLeagueEntries(String puuid) {
+        // league-v4는 리전이 아닌 플랫폼(kr 등) 호스트를 쓰므로 절대 URI로 baseUrl을 대신합니다.
+        return this.webClient.get()
+                .uri(riotApiProperties.getPlatformUrl() + "/lol/league/v4/entries/by-puuid/{puuid}", puuid)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<>() {
+                });
+    }
+
+    /**
+     * 매치 상세를 조회합니다 (match-v5, 리전 라우팅).
+     * 게임 종료 직후에는 아직 조회되지 않을 수 있으므로 호출 측에서 재시도해야 합니다.
+     * @param matchId 예: KR_1234567890
+     * @return 매치 상세, 아직 없으면 빈 Mono
+     */
+    public Mono<MatchDetail> getMatch(String matchId) {
+        return this.webClient.get()
+                .uri(riotApiProperties.getRegionalUrl() + "/lol/match/v5/matches/{matchId}", matchId)
+                .retrieve()
+                .bodyToMono(MatchDetail.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    private Mono<Long> resolveTournamentId() {
+        if (riotApiProperties.getTournamentId() != null) {
+            return Mono.just(riotApiProperties.getTournamentId());
+        }
+        Mono<Long> providerId = riotApiProperties.getProviderId() != null
+                ? Mono.just(riotApiProperties.getProviderId())
+                : Mono.defer(this::createProvider);
+        return providerId
+                .flatMap(id -> createTournament(id, riotApiProperties.getTournamentName()))
+                .doOnNext(id -> log.info("Registered Riot tournament {} (set riot.api.tournament-id to reuse it after restart)", id));
+    }
+
+    private Mono<List<String>> requestCodes(TournamentCodeRequest request, long tournamentId, int count) {
         // useStubApi 값에 따라 동적으로 경로를 결정합니다.
         String path = riotApiProperties.isUseStub() ? "/lol/tournament-stub/v5/codes" : "/lol/tournament/v5/codes";
 
         return this.webClient.post()
                 .uri(uriBuilder -> uriBuilder
                         .path(path)
-                        .queryParam("count", 1)
+                        .queryParam("count", count)
                         .queryParam("tournamentId", tournamentId)
                         .build())
                 .bodyValue(request)
@@ -77,4 +160,4 @@ public class RiotApiService {
                 .bodyToMono(new ParameterizedTypeReference<>() {
                 });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package com.nexus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nexus.config.RiotApiProperties;
+import com.nexus.dto.RiotApiDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Riot 계정/랭크 조회 결과를 노드별 메모리(Caffeine LRU)와 Redis 두 단계로 캐시합니다.
+ * - 같은 키를 동시에 조회하면 메모리 캐시가 로드 한 번으로 묶으므로 Riot API는 한 번만 호출됩니다.
+ * - 메모리에 없으면 Redis를 먼저 보고, 없거나 오래된 경우에만 Riot API를 호출한 뒤 Redis에도 저장합니다.
+ * - 랭크는 refresh 주기가 지난 뒤 다시 조회되면 이전 값을 바로 돌려주고 백그라운드에서 새로 받아 옵니다
+ *   (계속 조회되는 활성 사용자만 갱신되고, 조회가 끊긴 항목은 TTL이 지나면 사라집니다).
+ */
+@Service
+@Slf4j
+public class RiotProfileCache {
+
+    private static final String ACCOUNT_KEY_PREFIX = "riot:account:";
+    private static final String RANK_KEY_PREFIX = "riot:rank:";
+
+    private final RiotApiService riotApiService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration rankTtl;
+    private final Duration rankRefreshAfter;
+    private final AsyncLoadingCache<String, RiotApiDto.Account> accounts;
+    private final AsyncLoadingCache<String, RiotApiDto.RankProfile> ranks;
+
+    public RiotProfileCache(RiotApiService riotApiService,
+                            StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            RiotApiProperties riotApiProperties,
+                            MeterRegistry meterRegistry) {
+        this.riotApiService = riotApiService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+
+        RiotApiProperties.Cache properties = riotApiProperties.getCache();
+        Duration accountTtl = Duration.ofMillis(properties.getAccountTtlMs());
+        this.rankTtl = Duration.ofMillis(properties.getRankTtlMs());
+        this.rankRefreshAfter = Duration.ofMillis(properties.getRankRefreshAfterMs());
+
+        // Riot ID는 거의 바뀌지 않으므로 TTL만 두고, Redis에 있으면 그대로 사용합니다.
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(accountTtl)
+                .recordStats()
+                .buildAsync((riotId, executor) -> load(ACCOUNT_KEY_PREFIX + riotId, RiotApiDto.Account.class,
+                        accountTtl, cached -> true, () -> fetchAccount(riotId), executor));
+
+        this.ranks = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(rankTtl)
+                .refreshAfterWrite(rankRefreshAfter)
+                .recordStats()
+                .buildAsync((puuid, executor) -> load(RANK_KEY_PREFIX + puuid, RiotApiDto.RankProfile.class,
+                        rankTtl, this::isFresh, () -> fetchRank(puuid), executor));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts.synchronous(), "riot.account");
+        CaffeineCacheMetrics.monitor(meterRegistry, ranks.synchronous(), "riot.rank");
+    }
+
+    /**
+     * Riot ID(게임 이름#태그)로 계정을 조회합니다.
+     * @return 계정 정보, 존재하지 않는 Riot ID면 null로 완료
+     */
+    public CompletableFuture<RiotApiDto.Account> getAccount(String gameName, String tagLine) {
+        // Riot ID는 대소문자를 구분하지 않으므로 키를 소문자로 맞춥니다.
+        return accounts.get((gameName + "#" + tagLine).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * PUUID의 랭크 정보를 조회합니다. refresh 주기가 지난 값이면 그 값을 반환하면서 백그라운드 갱신을 시작합니다.
+     */
+    public CompletableFuture<RiotApiDto.RankProfile> getRank(String puuid) {
+        return ranks.get(puuid);
+    }
+
+    /**
+     * 메모리 캐시를 거치지 않고 랭크 정보를 받아 옵니다 (Redis에 refresh 주기 안의 값이 있으면 그 값을 사용).
+     * 전체 사용자를 훑는 동기화 작업이 활성 사용자 항목을 LRU에서 밀어내지 않도록, 메모리에는 이미 있는 항목만 갱신합니다.
+     */
+    public CompletableFuture<RiotApiDto.RankProfile> loadRank(String puuid, Executor executor) {
+        return load(RANK_KEY_PREFIX + puuid, RiotApiDto.RankProfile.class, rankTtl, this::isFresh,
+                () -> fetchRank(puuid), executor)
+                .thenApply(profile -> {
+                    if (profile != null && ranks.getIfPresent(puuid) != null) {
+                        ranks.put(puuid, CompletableFuture.completedFuture(profile));
+                    }
+                    return profile;
+                });
+    }
+
+    /**
+     * 다음 조회가 Riot API를 다시 호출하도록 메모리/Redis의 랭크 정보를 지웁니다.
+     */
+    public void evictRank(String puuid) {
+        ranks.synchronous().invalidate(puuid);
+        redisTemplate.delete(RANK_KEY_PREFIX + puuid);
+    }
+
+    private boolean isFresh(RiotApiDto.RankProfile profile) {
+        return System.currentTimeMillis() - profile.getFetchedAt() < rankRefreshAfter.toMillis();
+    }
+
+    // Redis 조회는 blocking이므로 캐시 executor에서 실행하고, Riot API 호출은 논블로킹으로 이어 붙입니다.
+    private <V> CompletableFuture<V> load(String redisKey, Class<V> type, Duration ttl, Predicate<V> fresh,
+                                          Supplier<Mono<V>> upstream, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> readRedis(redisKey, type), executor)
+                .thenCompose(cached -> {
+                    if (cached != null && fresh.test(cached)) {
+                        return CompletableFuture.completedFuture(cached);
+                    }
+                    return upstream.get()
+                            .doOnNext(value -> executor.execute(() -> writeRedis(redisKey, value, ttl)))
+                            .toFuture();
+                });
+    }
+
+    private Mono<RiotApiDto.Account> fetchAccount(String riotId) {
+        int separator = riotId.lastIndexOf('#');
+        return riotApiService.getAccountByRiotId(riotId.substring(0, separator), riotId.substring(separator + 1));
+    }
+
+    private Mono<RiotApiDto.RankProfile> fetchRank(String puuid) {
+        return riotApiService.getLeagueEntries(puuid)
+                .map(entries -> {
+                    RiotApiDto.RankProfile profile = new RiotApiDto.RankProfile();
+                    profile.setPuuid(puuid);
+                    profile.setEntries(entries);
+                    profile.setFetchedAt(System.currentTimeMillis());
+                    return profile;
+                });
+    }
+
+    // Redis 장애나 형식이 맞지 않는 값은 캐시 미스로 보고 Riot API 호출로 넘어갑니다.
+    private <V> V readRedis(String key, Class<V> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read Riot cache entry {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write Riot cache entry {}: {}", key, e.getMessage());
+        }
+    }
+}
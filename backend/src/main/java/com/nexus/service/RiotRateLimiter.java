@@ -0,0 +1,238 @@
+package com.nexus.service;
+
+import com.nexus.config.RiotApiProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모든 Riot API 요청이 함께 쓰는 클라이언트 측 레이트 리미터(WebClient 필터)입니다.
+ * - 앱 한도(X-App-Rate-Limit)는 호스트(리전)별로, 메서드 한도(X-Method-Rate-Limit)는 호스트+HTTP 메서드+경로별로 버킷을 둡니다.
+ * - 응답 헤더의 한도가 바뀌면 버킷 설정을 교체하고, 토큰이 없으면 실패하지 않고 토큰이 생길 때까지 요청을 늦춥니다.
+ * - 429 응답은 Retry-After(없으면 지수 백오프)에 지터를 더한 만큼 해당 버킷을 멈춘 뒤 재시도합니다.
+ */
+@Component
+@Slf4j
+public class RiotRateLimiter implements ExchangeFilterFunction {
+
+    private static final String APP_LIMIT_HEADER = "X-App-Rate-Limit";
+    private static final String METHOD_LIMIT_HEADER = "X-Method-Rate-Limit";
+    private static final String LIMIT_TYPE_HEADER = "X-Rate-Limit-Type";
+
+    private final RiotApiProperties.RateLimit properties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "riot-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ConcurrentMap<String, LimitedBucket> appBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LimitedBucket> methodBuckets = new ConcurrentHashMap<>();
+
+    public RiotRateLimiter(RiotApiProperties riotApiProperties) {
+        this.properties = riotApiProperties.getRateLimit();
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String host = request.url().getHost();
+        String methodKey = host + " " + request.method().name() + " " + route(request.url().getPath());
+        return exchange(request, next, host, methodKey, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next,
+                                          String host, String methodKey, int attempt) {
+        LimitedBucket appBucket = appBuckets.computeIfAbsent(host,
+                key -> new LimitedBucket(properties.getDefaultAppLimits()));
+        LimitedBucket methodBucket = methodBuckets.get(methodKey);
+
+        Mono<Void> acquire = methodBucket != null
+                ? appBucket.take().then(methodBucket.take())
+                : appBucket.take();
+
+        return acquire
+                .then(Mono.defer(() -> next.exchange(request)))
+                .flatMap(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    appBucket.update(headers.getFirst(APP_LIMIT_HEADER));
+                    String methodLimits = headers.getFirst(METHOD_LIMIT_HEADER);
+                    if (methodLimits != null) {
+                        methodBuckets.computeIfAbsent(methodKey, key -> new LimitedBucket(methodLimits)).update(methodLimits);
+                    }
+
+                    if (response.statusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()
+                            || attempt >= properties.getMaxRetries()) {
+                        return Mono.just(response);
+                    }
+
+                    // 앱 한도 초과면 같은 호스트의 모든 요청을, 그 외(메서드/서비스 한도)는 같은 메서드만 멈춥니다.
+                    Duration delay = retryDelay(headers, attempt);
+                    String limitType = headers.getFirst(LIMIT_TYPE_HEADER);
+                    LimitedBucket paused = "application".equalsIgnoreCase(limitType)
+                            ? appBucket
+                            : methodBuckets.computeIfAbsent(methodKey, key -> new LimitedBucket(null));
+                    paused.pause(delay);
+                    log.warn("Riot API rate limited ({}) on {}, retrying in {} ms (attempt {})",
+                            limitType, methodKey, delay.toMillis(), attempt + 1);
+                    return response.releaseBody()
+                            .then(Mono.defer(() -> exchange(request, next, host, methodKey, attempt + 1)));
+                });
+    }
+
+    private Duration retryDelay(HttpHeaders headers, int attempt) {
+        long baseMs = properties.getBackoffMs() << Math.min(attempt, 10);
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                baseMs = Long.parseLong(retryAfter.trim()) * 1_000;
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring non-numeric Retry-After: {}", retryAfter);
+            }
+        }
+        long jitterMs = properties.getMaxJitterMs() > 0
+                ? ThreadLocalRandom.current().nextLong(properties.getMaxJitterMs() + 1)
+                : 0;
+        return Duration.ofMillis(baseMs + jitterMs);
+    }
+
+    // 경로 변수(PUUID, Riot ID 등)가 메서드마다 별도 버킷을 만들지 않도록 경로를 라우트 단위로 줄입니다.
+    // 예: /lol/league/v4/entries/by-puuid/{puuid} → /lol/league/v4/entries/by-puuid
+    public static String route(String path) {
+        String[] segments = path.split("/");
+        StringBuilder route = new StringBuilder();
+        int kept = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (kept >= 4 && !segment.startsWith("by-")) {
+                break;
+            }
+            route.append('/').append(segment);
+            kept++;
+            if (segment.startsWith("by-")) {
+                break;
+            }
+        }
+        return route.toString();
+    }
+
+    // "20:1,100:120" → 1초 20회, 120초 100회
+    private static List<Bandwidth> parseLimits(String limits) {
+        List<Bandwidth> bandwidths = new ArrayList<>();
+        if (limits == null || limits.isBlank()) {
+            return bandwidths;
+        }
+        for (String pair : limits.split(",")) {
+            String[] parts = pair.trim().split(":");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                long count = Long.parseLong(parts[0].trim());
+                long seconds = Long.parseLong(parts[1].trim());
+                if (count > 0 && seconds > 0) {
+                    bandwidths.add(Bandwidth.classic(count, Refill.intervally(count, Duration.ofSeconds(seconds))));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed rate limit entry: {}", pair);
+            }
+        }
+        return bandwidths;
+    }
+
+    /**
+     * 한도 문자열과 Bucket4j 버킷을 묶어 둔 것입니다. 한도를 모르는 동안(null)은 제한 없이 통과시킵니다.
+     */
+    private final class LimitedBucket {
+        private volatile String limits;
+        private volatile Bucket bucket;
+        private volatile long pausedUntilMillis;
+
+        private LimitedBucket(String limits) {
+            this.limits = limits;
+            this.bucket = build(parseLimits(limits));
+        }
+
+        // 토큰을 예약하고, 예약한 토큰이 생기는 시점까지 지연합니다 (스레드를 막지 않음).
+        Mono<Void> take() {
+            return Mono.defer(() -> {
+                long pauseMs = pausedUntilMillis - System.currentTimeMillis();
+                Mono<Void> paused = pauseMs > 0 ? Mono.delay(Duration.ofMillis(pauseMs)).then() : Mono.empty();
+                Bucket current = bucket;
+                if (current == null) {
+                    return paused;
+                }
+                return paused.then(Mono.fromFuture(() -> current.asScheduler()
+                                .tryConsume(1, Duration.ofMillis(properties.getMaxWaitMs()), scheduler))
+                        .flatMap(acquired -> acquired
+                                ? Mono.<Void>empty()
+                                : Mono.error(new IllegalStateException("Riot API 요청 한도 대기 시간을 초과했습니다."))));
+            });
+        }
+
+        void update(String newLimits) {
+            if (newLimits == null || newLimits.equals(limits)) {
+                return;
+            }
+            synchronized (this) {
+                if (newLimits.equals(limits)) {
+                    return;
+                }
+                List<Bandwidth> bandwidths = parseLimits(newLimits);
+                if (bandwidths.isEmpty()) {
+                    return;
+                }
+                if (bucket == null) {
+                    bucket = build(bandwidths);
+                } else {
+                    ConfigurationBuilder configuration = BucketConfiguration.builder();
+                    bandwidths.forEach(configuration::addLimit);
+                    bucket.replaceConfiguration(configuration.build(), TokensInheritanceStrategy.AS_IS);
+                }
+                limits = newLimits;
+                log.info("Riot API rate limits updated: {}", newLimits);
+            }
+        }
+
+        void pause(Duration delay) {
+            pausedUntilMillis = Math.max(pausedUntilMillis, System.currentTimeMillis() + delay.toMillis());
+        }
+
+        private Bucket build(List<Bandwidth> bandwidths) {
+            if (bandwidths.isEmpty()) {
+                return null;
+            }
+            LocalBucketBuilder builder = Bucket.builder();
+            bandwidths.forEach(builder::addLimit);
+            return builder.build();
+        }
+    }
+}
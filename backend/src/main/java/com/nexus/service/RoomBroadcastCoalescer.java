@@ -0,0 +1,124 @@
+package com.nexus.service;
+
+import com.nexus.config.WebSocketTransportProperties;
+import com.nexus.dto.RoomEventDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 이벤트를 짧은 구간(기본 50ms) 동안 모아 하나의 BATCH 메시지로 전송합니다.
+ * 참가 폭주 시 방마다 수십 개의 메시지를 보내는 대신 구간당 한 번만 직렬화/전송하며,
+ * 상태 변경(STATUS_CHANGED)은 모아둔 이벤트와 함께 즉시 내보냅니다.
+ */
+@Component
+@Slf4j
+public class RoomBroadcastCoalescer {
+
+    private final RoomEventRelay roomEventRelay;
+    private final long windowMs;
+    private final ConcurrentMap<String, PendingBroadcast> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "room-broadcast-coalescer"));
+
+    public RoomBroadcastCoalescer(RoomEventRelay roomEventRelay, WebSocketTransportProperties transportProperties) {
+        this.roomEventRelay = roomEventRelay;
+        this.windowMs = transportProperties.getRoomEventCoalesceWindowMs();
+    }
+
+    public void submit(RoomEventDto.Event event) {
+        if (windowMs <= 0) {
+            send(event.getRoomCode(), List.of(event));
+            return;
+        }
+
+        while (true) {
+            PendingBroadcast buffer = pending.computeIfAbsent(event.getRoomCode(), PendingBroadcast::new);
+            synchronized (buffer) {
+                // 방금 비워져 맵에서 제거된 버퍼면 새 버퍼로 다시 시도
+                if (buffer.closed) {
+                    continue;
+                }
+                buffer.events.add(event);
+                if (event.getType() == RoomEventDto.Type.STATUS_CHANGED) {
+                    flush(buffer);
+                    // 예약된 전송이 없으면 이 버퍼를 더 쓸 일이 없으므로 닫고 맵에서 뺍니다 (예약돼 있으면 flushScheduled가 정리).
+                    if (!buffer.scheduled) {
+                        close(buffer);
+                    }
+                } else if (!buffer.scheduled) {
+                    buffer.scheduled = true;
+                    scheduler.schedule(() -> flushScheduled(buffer), windowMs, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pending.values().forEach(this::flushScheduled);
+    }
+
+    private void flushScheduled(PendingBroadcast buffer) {
+        synchronized (buffer) {
+            buffer.scheduled = false;
+            flush(buffer);
+            if (!buffer.scheduled) {
+                close(buffer);
+            }
+        }
+    }
+
+    // buffer 모니터를 잡은 상태에서 호출합니다.
+    private void close(PendingBroadcast buffer) {
+        buffer.closed = true;
+        pending.remove(buffer.roomCode, buffer);
+    }
+
+    // buffer 모니터를 잡은 상태에서 호출합니다.
+    private void flush(PendingBroadcast buffer) {
+        if (buffer.events.isEmpty()) {
+            return;
+        }
+        List<RoomEventDto.Event> events = new ArrayList<>(buffer.events);
+        buffer.events.clear();
+        try {
+            send(buffer.roomCode, events);
+        } catch (RuntimeException e) {
+            log.error("Failed to broadcast {} events for room {}", events.size(), buffer.roomCode, e);
+        }
+    }
+
+    private void send(String roomCode, List<RoomEventDto.Event> events) {
+        String destination = RoomEventPublisher.ROOM_TOPIC_PREFIX + roomCode;
+        if (events.size() == 1) {
+            roomEventRelay.send(destination, events.get(0));
+            return;
+        }
+        RoomEventDto.Event last = events.get(events.size() - 1);
+        RoomEventDto.Event batch = RoomEventDto.Event.of(roomCode, last.getSequence(), RoomEventDto.Type.BATCH,
+                new RoomEventDto.Batch(events.get(0).getSequence(), events));
+        roomEventRelay.send(destination, batch);
+    }
+
+    private static class PendingBroadcast {
+        private final String roomCode;
+        private final List<RoomEventDto.Event> events = new ArrayList<>();
+        private boolean scheduled;
+        private boolean closed;
+
+        private PendingBroadcast(String roomCode) {
+            this.roomCode = roomCode;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexus.service;
+
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.Lane;
+import com.nexus.entity.TeamCompositionMethod;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 방 상태(LiveRoom)에서 발생한 변경 사항입니다.
+ * RoomStateEngine이 발생 순서대로 큐에 쌓고, RoomStatePersister가 비동기로 DB에 반영합니다.
+ */
+public sealed interface RoomChange {
+
+    record ParticipantJoined(Long roomId, Long userId, LocalDateTime joinedAt) implements RoomChange {
+    }
+
+    record TeamAssigned(Long roomId, Long userId, Integer matchNumber, Integer teamNumber, Lane lane) implements RoomChange {
+    }
+
+    record LanesChanged(Long roomId, Long userId, Lane primaryLane, Lane secondaryLane) implements RoomChange {
+    }
+
+    record StatusChanged(Long roomId, GameRoomStatus status, TeamCompositionMethod method) implements RoomChange {
+    }
+}
@@ -0,0 +1,33 @@
+package com.nexus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 방 소유 노드에서 실행해야 하는 방 요청입니다.
+ * 소유하지 않은 노드는 이 요청을 JSON으로 소유 노드에 넘기고 Reply로 결과를 받습니다 (RoomCommandRouter).
+ * @param body 요청 DTO (없으면 null)
+ */
+public record RoomCommand(Type type, String roomCode, String userEmail, Long userId, JsonNode body) {
+
+    public enum Type {
+        SNAPSHOT, JOIN, START_TEAM_COMPOSITION, UPDATE_LANES, START_MATCHES, BID, AUCTION_STATE
+    }
+
+    /**
+     * 실행 결과. 실패하면 소유 노드에서 던진 예외의 종류와 메시지를 담아 요청 노드에서 같은 예외로 다시 던집니다.
+     */
+    public record Reply(JsonNode value, Error error, String message, Integer status) {
+
+        public enum Error {
+            ROOM_NOT_FOUND, USER_NOT_FOUND, UNAUTHORIZED, BUSINESS, ILLEGAL_STATE, INTERNAL
+        }
+
+        static Reply success(JsonNode value) {
+            return new Reply(value, null, null, null);
+        }
+
+        static Reply failure(Error error, String message, Integer status) {
+            return new Reply(null, error, message, status);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.nexus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexus.config.RoomOwnershipProperties;
+import com.nexus.dto.AuctionDto;
+import com.nexus.dto.GameRoomDto;
+import com.nexus.exception.BusinessException;
+import com.nexus.exception.RoomNotFoundException;
+import com.nexus.exception.UnauthorizedException;
+import com.nexus.exception.UserNotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 방 요청을 그 방을 소유한 노드에서 실행합니다.
+ * 이 노드가 소유자면(또는 소유자가 없으면) GameRoomService를 바로 호출하고, 다른 노드가 소유 중이면
+ * RoomOwnership으로 요청을 넘겨 결과나 예외를 그대로 돌려줍니다. 컨트롤러는 방 단위 요청을 이 클래스로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomCommandRouter {
+
+    private final GameRoomService gameRoomService;
+    private final RoomOwnership ownership;
+    private final RoomOwnershipProperties ownershipProperties;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void start() {
+        ownership.onRequest(this::handleForwarded);
+    }
+
+    public GameRoomDto.Response getGameRoomByCode(String roomCode) {
+        return route(command(RoomCommand.Type.SNAPSHOT, roomCode, null, null), GameRoomDto.Response.class);
+    }
+
+    public GameRoomDto.Response joinGameRoom(String roomCode, String userEmail) {
+        return route(command(RoomCommand.Type.JOIN, roomCode, userEmail, null), GameRoomDto.Response.class);
+    }
+
+    public void startTeamComposition(String roomCode, GameRoomDto.StartTeamCompositionRequest request, String userEmail) {
+        route(command(RoomCommand.Type.START_TEAM_COMPOSITION, roomCode, userEmail, request), Void.class);
+    }
+
+    public GameRoomDto.Response updateLanePreference(String roomCode, GameRoomDto.LanePreferenceRequest request, String userEmail) {
+        return route(command(RoomCommand.Type.UPDATE_LANES, roomCode, userEmail, request), GameRoomDto.Response.class);
+    }
+
+    public void placeBid(String roomCode, Long userId, AuctionDto.BidRequest request) {
+        route(new RoomCommand(RoomCommand.Type.BID, roomCode, null, userId, objectMapper.valueToTree(request)), Void.class);
+    }
+
+    public AuctionDto.State getAuctionState(String roomCode) {
+        return route(command(RoomCommand.Type.AUCTION_STATE, roomCode, null, null), AuctionDto.State.class);
+    }
+
+    public Mono<Void> startMatches(String roomCode, String userEmail) {
+        RoomCommand command = command(RoomCommand.Type.START_MATCHES, roomCode, userEmail, null);
+        return gameRoomService.startMatches(roomCode, userEmail)
+                .onErrorResume(RoomOwnedElsewhereException.class, e ->
+                        Mono.fromFuture(() -> forward(e.getOwnerNodeId(), command)).then());
+    }
+
+    private <T> T route(RoomCommand command, Class<T> resultType) {
+        try {
+            return resultType.cast(execute(command));
+        } catch (RoomOwnedElsewhereException e) {
+            try {
+                JsonNode value = forward(e.getOwnerNodeId(), command).join();
+                return value == null || value.isNull() ? null : objectMapper.treeToValue(value, resultType);
+            } catch (CompletionException failure) {
+                throw failure.getCause() instanceof RuntimeException cause ? cause : failure;
+            } catch (JsonProcessingException failure) {
+                throw new IllegalStateException("방 요청 결과를 읽지 못했습니다.", failure);
+            }
+        }
+    }
+
+    // 이 노드에서 실행합니다. GameRoomService 프록시를 거치므로 메서드별 트랜잭션 설정이 그대로 적용됩니다.
+    private Object execute(RoomCommand command) {
+        String roomCode = command.roomCode();
+        return switch (command.type()) {
+            case SNAPSHOT -> gameRoomService.getGameRoomByCode(roomCode);
+            case JOIN -> gameRoomService.joinGameRoom(roomCode, command.userEmail());
+            case START_TEAM_COMPOSITION -> {
+                gameRoomService.startTeamComposition(roomCode,
+                        body(command, GameRoomDto.StartTeamCompositionRequest.class), command.userEmail());
+                yield null;
+            }
+            case UPDATE_LANES -> gameRoomService.updateLanePreference(roomCode,
+                    body(command, GameRoomDto.LanePreferenceRequest.class), command.userEmail());
+            case START_MATCHES -> {
+                gameRoomService.startMatches(roomCode, command.userEmail()).block();
+                yield null;
+            }
+            case BID -> {
+                gameRoomService.placeBid(roomCode, command.userId(), body(command, AuctionDto.BidRequest.class));
+                yield null;
+            }
+            case AUCTION_STATE -> gameRoomService.getAuctionState(roomCode);
+        };
+    }
+
+    private CompletableFuture<JsonNode> forward(String ownerNodeId, RoomCommand command) {
+        String request;
+        try {
+            request = objectMapper.writeValueAsString(command);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("방 요청을 보내지 못했습니다.", e));
+        }
+        log.debug("Forwarding {} for room {} to node {}", command.type(), command.roomCode(), ownerNodeId);
+        // 게임 시작은 Riot 호출을 기다리므로 더 오래 기다립니다 (GameRoomService.startMatches의 Riot 제한 시간보다 김).
+        long timeoutMs = command.type() == RoomCommand.Type.START_MATCHES
+                ? ownershipProperties.getStartMatchesTimeoutMs()
+                : ownershipProperties.getRequestTimeoutMs();
+        return ownership.send(ownerNodeId, request, timeoutMs)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return unwrap(response);
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        throw new IllegalStateException("방을 관리하는 서버가 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+    }
+
+    // 다른 노드가 넘긴 요청을 실행하고 결과를 JSON으로 돌려줍니다. 여기서 다시 넘기지는 않습니다.
+    private String handleForwarded(String request) {
+        RoomCommand.Reply reply;
+        try {
+            RoomCommand command = objectMapper.readValue(request, RoomCommand.class);
+            reply = RoomCommand.Reply.success(objectMapper.valueToTree(execute(command)));
+        } catch (RoomOwnedElsewhereException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.ILLEGAL_STATE,
+                    "방을 관리하는 서버가 바뀌는 중입니다. 잠시 후 다시 시도해 주세요.", null);
+        } catch (RoomNotFoundException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.ROOM_NOT_FOUND, e.getMessage(), null);
+        } catch (UserNotFoundException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.USER_NOT_FOUND, e.getMessage(), null);
+        } catch (UnauthorizedException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.UNAUTHORIZED, e.getMessage(), null);
+        } catch (BusinessException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.BUSINESS, e.getMessage(), e.getStatus().value());
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.ILLEGAL_STATE, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("Forwarded room command failed", e);
+            reply = RoomCommand.Reply.failure(RoomCommand.Reply.Error.INTERNAL, "서버 내부 오류가 발생했습니다.", null);
+        }
+
+        try {
+            return objectMapper.writeValueAsString(reply);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize room command reply", e);
+            return "{\"error\":\"INTERNAL\",\"message\":\"서버 내부 오류가 발생했습니다.\"}";
+        }
+    }
+
+    private JsonNode unwrap(String response) {
+        RoomCommand.Reply reply;
+        try {
+            reply = objectMapper.readValue(response, RoomCommand.Reply.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 요청 결과를 읽지 못했습니다.", e);
+        }
+        if (reply.error() == null) {
+            return reply.value();
+        }
+        throw switch (reply.error()) {
+            case ROOM_NOT_FOUND -> new RoomNotFoundException(reply.message());
+            case USER_NOT_FOUND -> new UserNotFoundException(reply.message());
+            case UNAUTHORIZED -> new UnauthorizedException(reply.message());
+            case BUSINESS -> new BusinessException(reply.message(), HttpStatus.valueOf(reply.status()));
+            case ILLEGAL_STATE -> new IllegalStateException(reply.message());
+            case INTERNAL -> new IllegalStateException(reply.message());
+        };
+    }
+
+    private RoomCommand command(RoomCommand.Type type, String roomCode, String userEmail, Object body) {
+        return new RoomCommand(type, roomCode, userEmail, null, body != null ? objectMapper.valueToTree(body) : null);
+    }
+
+    private <T> T body(RoomCommand command, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(command.body(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 읽지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexus.service;
+
+import com.nexus.dto.RoomEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 방 변경 이벤트를 해당 방의 토픽(/topic/rooms/{roomCode})으로만 전송합니다.
+ * 방 전체 DTO 대신 변경분(delta)만 보내므로 전송량이 방 크기와 무관하게 변경 크기에 비례합니다.
+ * 실제 전송은 RoomBroadcastCoalescer가 짧은 구간 단위로 묶어서 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomEventPublisher {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+    private final RoomBroadcastCoalescer broadcastCoalescer;
+
+    public void publish(List<RoomEventDto.Event> events) {
+        for (RoomEventDto.Event event : events) {
+            broadcastCoalescer.submit(event);
+        }
+    }
+}
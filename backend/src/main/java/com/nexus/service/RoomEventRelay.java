@@ -0,0 +1,10 @@
+package com.nexus.service;
+
+/**
+ * 방 이벤트를 WebSocket 구독자에게 전달하는 경로입니다.
+ * 구현은 websocket.broker.mode 설정에 따라 WebSocketBrokerConfig에서 선택됩니다.
+ */
+public interface RoomEventRelay {
+
+    void send(String destination, Object payload);
+}
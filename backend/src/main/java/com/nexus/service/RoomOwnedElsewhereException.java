@@ -0,0 +1,20 @@
+package com.nexus.service;
+
+import lombok.Getter;
+
+/**
+ * 다른 노드가 소유한 방에 접근했을 때 RoomStateEngine이 던집니다.
+ * RoomCommandRouter가 받아 요청을 소유 노드로 넘기므로 클라이언트에게는 보이지 않습니다.
+ */
+@Getter
+public class RoomOwnedElsewhereException extends RuntimeException {
+
+    private final String roomCode;
+    private final String ownerNodeId;
+
+    public RoomOwnedElsewhereException(String roomCode, String ownerNodeId) {
+        super("방 " + roomCode + "은(는) 다른 노드(" + ownerNodeId + ")가 관리합니다.");
+        this.roomCode = roomCode;
+        this.ownerNodeId = ownerNodeId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.nexus.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 모집/팀 구성 중인 방의 메모리 상태(RoomStateEngine)를 한 노드만 갖도록 방마다 소유 노드를 정합니다.
+ * 소유하지 않은 노드는 방 요청을 소유 노드로 넘겨 처리합니다 (RoomCommandRouter).
+ * 구현은 websocket.broker.mode 설정에 따라 WebSocketBrokerConfig에서 선택됩니다.
+ */
+public interface RoomOwnership {
+
+    /**
+     * 방의 소유권을 확보합니다. 이미 이 노드가 소유 중이거나 비어 있으면 owned=true,
+     * 다른 노드가 소유 중이면 owned=false와 그 노드의 ID를 반환합니다.
+     * epoch는 방의 소유권을 새로 확보할 때마다 커지는 번호로, 방 이벤트 sequence의 시작값을 정하는 데 씁니다.
+     */
+    Claim claim(String roomCode);
+
+    /**
+     * 지금도 이 노드가 소유자인지 저장소에서 다시 확인합니다.
+     * 임대가 만료돼 다른 노드가 가져간 뒤에 오래된 변경을 DB에 쓰지 않도록 반영 직전에 호출합니다.
+     */
+    boolean confirm(String roomCode);
+
+    void release(String roomCode);
+
+    // 임대를 갱신하지 못해 소유권을 잃은 방 코드를 받습니다.
+    void onLost(Consumer<String> listener);
+
+    // nodeId 노드에 요청을 보내고 응답을 받습니다. timeoutMs 안에 응답이 없으면 TimeoutException으로 끝납니다.
+    CompletableFuture<String> send(String nodeId, String request, long timeoutMs);
+
+    // 다른 노드가 보낸 요청을 처리해 응답을 돌려줄 핸들러를 등록합니다.
+    void onRequest(Function<String, String> handler);
+
+    record Claim(boolean owned, String ownerNodeId, long epoch) {
+    }
+}
@@ -0,0 +1,483 @@
+package com.nexus.service;
+
+import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.User;
+import com.nexus.repository.GameRoomRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 모집/팀 구성 단계의 방 상태를 메모리에서 권위 있게 관리하는 엔진입니다.
+ * - 방마다 락 하나로 단일 writer를 보장하므로 참가/팀 변경이 DB 락 경합 없이 처리됩니다.
+ * - 변경 사항은 발생 순서대로 write-behind 큐에 쌓이고 전용 스레드가 묶어서 방마다 한 트랜잭션으로 DB에 반영합니다.
+ *   한 방의 반영이 끝내 실패하면 그 방만 메모리에서 내리고 DB 상태로 다시 올리므로, 메모리와 DB가 어긋난 채 남지 않습니다.
+ * - 메모리에 없는 방은 첫 접근 시 DB에서 한 번 로딩하며, 모집/팀 구성 단계를 벗어난 방은 마지막 변경이 DB에 반영된 뒤 내보냅니다.
+ * - 여러 노드로 띄우면 방마다 한 노드만 소유해 메모리에 올리므로(RoomOwnership), 정원/단일 writer 보장이 노드 수와 관계없이 유지됩니다.
+ *   소유권을 잃은 노드의 늦은 변경은 DB에 반영하기 직전에 소유권을 다시 확인해 버립니다.
+ * - 방을 메모리에서 내리면 onEvicted 리스너(경매 등)에 알리고, 팀 구성 도중 내려갔다 다시 올라온 방은 모집 단계로 되돌립니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStateEngine {
+
+    // 메모리에서 관리하는 방 상태
+    private static final Set<GameRoomStatus> LIVE_STATUSES = EnumSet.of(
+            GameRoomStatus.WAITING,
+            GameRoomStatus.AUTO_TEAM_COMPOSITION,
+            GameRoomStatus.AUCTION_IN_PROGRESS);
+    // 경매/자동 팀 구성이 이 노드의 메모리에서 진행되는 상태
+    private static final Set<GameRoomStatus> COMPOSING_STATUSES = EnumSet.of(
+            GameRoomStatus.AUTO_TEAM_COMPOSITION,
+            GameRoomStatus.AUCTION_IN_PROGRESS);
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_PERSIST_ATTEMPTS = 3;
+    private static final int LOAD_STRIPES = 64;
+    // 소유 epoch 하나에 배정하는 sequence 구간. 새로 올린 방은 epoch * 이 값부터 이어가므로
+    // 재시작이나 다른 노드로 옮겨 간 뒤에도 sequence가 이전보다 작아지거나 겹치지 않습니다 (JS 안전 정수 범위 안).
+    private static final long SEQUENCE_EPOCH_STRIDE = 1_000_000L;
+
+    private final GameRoomRepository gameRoomRepository;
+    private final RoomStatePersister persister;
+    private final RoomEventPublisher eventPublisher;
+    private final RoomOwnership ownership;
+
+    private final ConcurrentMap<String, LiveRoom> rooms = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> evictionListeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock[] loadStripes = createStripes();
+    private final BlockingQueue<QueueItem> writeBehindQueue = new LinkedBlockingQueue<>();
+    private final ExecutorService writeBehindExecutor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "room-write-behind"));
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        ownership.onLost(this::drop);
+        writeBehindExecutor.submit(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writeBehindExecutor.shutdown();
+        if (!writeBehindExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Room write-behind queue not drained on shutdown, {} changes pending", writeBehindQueue.size());
+        }
+        // 다른 노드가 임대 만료를 기다리지 않고 바로 가져갈 수 있게 합니다.
+        rooms.keySet().forEach(ownership::release);
+    }
+
+    /**
+     * 방이 메모리에서 내려갈 때(소유권 상실, DB 반영 실패) 호출할 리스너를 등록합니다.
+     * 그 방을 두고 진행 중이던 작업(경매 등)을 멈추는 데 씁니다. 방 코드를 넘기며 락을 잡은 채 호출하므로 오래 막으면 안 됩니다.
+     */
+    public void onEvicted(Consumer<String> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * 메모리의 방을 찾고, 없으면 DB에서 로딩합니다.
+     * 존재하지 않거나 모집/팀 구성 단계가 아닌 방이면 비어 있는 Optional을 반환합니다.
+     * 방금 모집/팀 구성 단계를 벗어나 마지막 변경을 DB에 반영하는 중인 방은 메모리 상태를 그대로 반환합니다.
+     * 같은 방을 동시에 로딩하지 않도록 방 코드별 스트라이프 락을 사용하며, 다른 방의 조회는 막지 않습니다.
+     * @throws RoomOwnedElsewhereException 다른 노드가 소유한 방인 경우
+     */
+    public Optional<LiveRoom> find(String roomCode) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room != null) {
+            return Optional.of(room);
+        }
+
+        ReentrantLock stripe = stripeOf(roomCode);
+        stripe.lock();
+        try {
+            room = rooms.get(roomCode);
+            if (room != null) {
+                return Optional.of(room);
+            }
+
+            RoomOwnership.Claim claim = ownership.claim(roomCode);
+            if (!claim.owned()) {
+                throw new RoomOwnedElsewhereException(roomCode, claim.ownerNodeId());
+            }
+            try {
+                room = load(roomCode, claim.epoch() * SEQUENCE_EPOCH_STRIDE);
+            } catch (RuntimeException e) {
+                ownership.release(roomCode);
+                throw e;
+            }
+            if (room == null) {
+                ownership.release(roomCode);
+                return Optional.empty();
+            }
+            rooms.put(roomCode, room);
+            abandonInterruptedComposition(room);
+            return Optional.of(room);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * 방 상세 조회용입니다. 모집/팀 구성 단계의 방은 메모리 상태에 live를, 그 밖의 방은 DB에서 한 번 읽은 엔티티에 persisted를 적용합니다.
+     * 진행 중이거나 끝난 방은 상태만 먼저 확인하므로 소유권을 잡거나 메모리에 올리지 않고, 상세 조회도 한 번만 합니다.
+     * @throws RoomOwnedElsewhereException 다른 노드가 소유한 방인 경우
+     */
+    public <T> Optional<T> view(String roomCode, Function<LiveRoom, T> live, Function<GameRoom, T> persisted) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room == null) {
+            Optional<GameRoomStatus> status = gameRoomRepository.findStatusByRoomCode(roomCode);
+            if (status.isEmpty()) {
+                return Optional.empty();
+            }
+            if (LIVE_STATUSES.contains(status.get())) {
+                room = find(roomCode).orElse(null);
+            }
+            if (room == null) {
+                return gameRoomRepository.findDetailByRoomCode(roomCode).map(persisted);
+            }
+        }
+        return Optional.of(read(room, live));
+    }
+
+    /**
+     * 참가 요청을 처리합니다.
+     * 좌석을 CAS로 먼저 확보한 뒤에만 방 락을 잡으므로 정원을 넘는 참가는 있을 수 없고,
+     * 참가가 실패하면 확보한 좌석을 반납합니다. 방은 소유 노드 한 곳에만 있으므로 이 카운터가 방 전체의 정원입니다.
+     */
+    public <T> T admit(LiveRoom room, User user, Function<LiveRoom, T> onAdmitted) {
+        if (!room.tryReserveSeat()) {
+            throw new IllegalStateException("방이 가득 찼습니다.");
+        }
+
+        boolean[] admitted = {false};
+        try {
+            return update(room, r -> {
+                r.addParticipant(user);
+                admitted[0] = true;
+                return onAdmitted.apply(r);
+            });
+        } finally {
+            if (!admitted[0]) {
+                room.releaseSeat();
+            }
+        }
+    }
+
+    /**
+     * 방 락을 잡은 상태에서 상태를 변경하고, 발생한 변경 사항을 순서대로 write-behind 큐에 넘긴 뒤
+     * 방 이벤트를 발행합니다. 락 안에서 발행하므로 같은 방의 이벤트는 sequence 순서대로 나갑니다.
+     * DB 반영에 실패해 내려간 방이면 변경하지 않고 IllegalStateException을 던집니다 (다시 조회하면 DB 상태로 올라옴).
+     */
+    public <T> T update(LiveRoom room, Function<LiveRoom, T> mutation) {
+        room.getLock().lock();
+        try {
+            if (room.isEvicted()) {
+                throw new IllegalStateException("방 상태를 다시 불러오는 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            T result = mutation.apply(room);
+            List<RoomChange> changes = room.drainChanges();
+            if (!changes.isEmpty()) {
+                writeBehindQueue.add(new Write(room, changes));
+            }
+            eventPublisher.publish(room.drainEvents());
+            return result;
+        } finally {
+            room.getLock().unlock();
+        }
+    }
+
+    /**
+     * 방 락을 잡은 상태에서 일관된 스냅샷을 읽습니다.
+     */
+    public <T> T read(LiveRoom room, Function<LiveRoom, T> reader) {
+        room.getLock().lock();
+        try {
+            return reader.apply(room);
+        } finally {
+            room.getLock().unlock();
+        }
+    }
+
+    /**
+     * 이 방에서 지금까지 발생한 변경 사항이 모두 DB에 반영될 때까지 기다립니다.
+     * DB를 직접 읽는 경로(게임 시작 등) 전에 호출하며, 반영하지 못하고 버린 변경이 있으면 IllegalStateException을 던집니다.
+     */
+    public void flush(LiveRoom room) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        writeBehindQueue.add(new Barrier(room, done));
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 경매/자동 팀 구성이 팀 배정 없이 끝난 방을 모집 단계로 되돌립니다 (STATUS_CHANGED 이벤트로 알림).
+     * 팀이 이미 모두 배정됐거나 다른 단계로 넘어간 방은 그대로 둡니다.
+     */
+    public void abandonComposition(String roomCode) {
+        find(roomCode).ifPresent(this::abandonInterruptedComposition);
+    }
+
+    /**
+     * 모집/팀 구성 단계를 벗어나 내보낸 방을 이전 단계로 되돌립니다 (게임 시작 후속 처리에 실패한 경우).
+     * 상태를 DB에 바로 반영한 뒤 방을 다시 올리고 현재 상태를 알리므로, 클라이언트는 스냅샷을 다시 받습니다.
+     */
+    public void reopen(LiveRoom room, GameRoomStatus status) {
+        persister.apply(room.getRoomId(), room.getPersistedVersion(),
+                List.of(new RoomChange.StatusChanged(room.getRoomId(), status, room.getTeamCompositionMethod())));
+        find(room.getRoomCode()).ifPresent(reopened -> update(reopened, r -> {
+            r.announceReload();
+            return null;
+        }));
+    }
+
+    private static ReentrantLock[] createStripes() {
+        ReentrantLock[] stripes = new ReentrantLock[LOAD_STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        return stripes;
+    }
+
+    private ReentrantLock stripeOf(String roomCode) {
+        return loadStripes[Math.floorMod(roomCode.hashCode(), LOAD_STRIPES)];
+    }
+
+    // sequenceBase: 로딩한 방의 첫 이벤트 sequence 직전 값
+    private LiveRoom load(String roomCode, long sequenceBase) {
+        return gameRoomRepository.findDetailByRoomCode(roomCode)
+                .filter(gameRoom -> LIVE_STATUSES.contains(gameRoom.getStatus()))
+                .map(gameRoom -> LiveRoom.from(gameRoom, sequenceBase))
+                .orElse(null);
+    }
+
+    private void drainLoop() {
+        List<QueueItem> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !writeBehindQueue.isEmpty()) {
+            try {
+                QueueItem first = writeBehindQueue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                writeBehindQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Room write-behind loop failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 방마다 변경을 모아 각자의 트랜잭션으로 반영하므로, 한 방의 실패가 같은 묶음의 다른 방에 영향을 주지 않습니다.
+    private void persist(List<QueueItem> batch) throws InterruptedException {
+        Map<LiveRoom, List<RoomChange>> changesByRoom = new LinkedHashMap<>();
+        List<Barrier> barriers = new ArrayList<>();
+        for (QueueItem item : batch) {
+            if (item instanceof Write write) {
+                changesByRoom.computeIfAbsent(write.room(), room -> new ArrayList<>()).addAll(write.changes());
+            } else if (item instanceof Barrier barrier) {
+                barriers.add(barrier);
+            }
+        }
+
+        try {
+            for (Map.Entry<LiveRoom, List<RoomChange>> entry : changesByRoom.entrySet()) {
+                persistRoom(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            // 내려간 방은 변경 일부를 버렸으므로 그 방의 flush는 실패로 끝냅니다.
+            for (Barrier barrier : barriers) {
+                if (barrier.room().isEvicted()) {
+                    barrier.done().completeExceptionally(new IllegalStateException(
+                            "방 상태를 저장하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+                } else {
+                    barrier.done().complete(null);
+                }
+            }
+        }
+    }
+
+    private void persistRoom(LiveRoom room, List<RoomChange> changes) throws InterruptedException {
+        if (room.isEvicted()) {
+            log.warn("Discarding {} state changes for evicted room {}", changes.size(), room.getRoomCode());
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (!ownership.confirm(room.getRoomCode())) {
+                    log.warn("Discarding {} state changes for room {}: this node no longer owns it",
+                            changes.size(), room.getRoomCode());
+                    drop(room);
+                    return;
+                }
+                room.setPersistedVersion(persister.apply(room.getRoomId(), room.getPersistedVersion(), changes));
+                retireIfFinished(room);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                // 다른 곳(임대 만료 직전의 이전 소유 노드 등)이 먼저 방 행을 바꿨습니다. 이 노드가 아직 소유자이고
+                // 방이 모집/팀 구성 단계로 남아 있으면 현재 버전으로 다시 시도하고, 아니면 DB 상태로 다시 올립니다.
+                Optional<GameRoomRepository.VersionView> current = gameRoomRepository.findVersionById(room.getRoomId());
+                if (attempt >= MAX_PERSIST_ATTEMPTS || current.isEmpty()
+                        || !LIVE_STATUSES.contains(current.get().getStatus())) {
+                    log.warn("Room {} was changed elsewhere, reloading it and discarding {} state changes",
+                            room.getRoomCode(), changes.size(), e);
+                    reload(room);
+                    return;
+                }
+                log.warn("Version conflict persisting room {} (attempt {}), retrying at version {}",
+                        room.getRoomCode(), attempt, current.get().getVersion());
+                room.setPersistedVersion(current.get().getVersion());
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_PERSIST_ATTEMPTS) {
+                    log.error("Failed to persist {} state changes for room {} after {} attempts, reloading it",
+                            changes.size(), room.getRoomCode(), attempt, e);
+                    reload(room);
+                    return;
+                }
+                log.warn("Failed to persist state changes for room {} (attempt {}), retrying",
+                        room.getRoomCode(), attempt, e);
+                Thread.sleep(100L * attempt);
+            }
+        }
+    }
+
+    // 모집/팀 구성 단계를 벗어난 방은 마지막 변경이 DB에 반영된 뒤에 내보냅니다.
+    // 그 전에 내보내면 다음 조회가 아직 반영되지 않은 이전 상태를 DB에서 다시 올릴 수 있습니다.
+    private void retireIfFinished(LiveRoom room) {
+        if (LIVE_STATUSES.contains(read(room, LiveRoom::getStatus))) {
+            return;
+        }
+        ReentrantLock stripe = stripeOf(room.getRoomCode());
+        stripe.lock();
+        try {
+            rooms.remove(room.getRoomCode(), room);
+            ownership.release(room.getRoomCode());
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    // 소유권을 잃은 방을 메모리에서 내립니다. 다음 접근은 새 소유 노드로 넘어갑니다.
+    private void drop(String roomCode) {
+        LiveRoom room = rooms.get(roomCode);
+        if (room != null) {
+            drop(room);
+        }
+    }
+
+    private void drop(LiveRoom room) {
+        ReentrantLock stripe = stripeOf(room.getRoomCode());
+        stripe.lock();
+        try {
+            read(room, r -> {
+                r.evict();
+                return null;
+            });
+            rooms.remove(room.getRoomCode(), room);
+            ownership.release(room.getRoomCode());
+            notifyEvicted(room.getRoomCode());
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private void notifyEvicted(String roomCode) {
+        for (Consumer<String> listener : evictionListeners) {
+            try {
+                listener.accept(roomCode);
+            } catch (RuntimeException e) {
+                log.error("Room eviction listener failed for {}", roomCode, e);
+            }
+        }
+    }
+
+    // 이 노드에 없던 경매/자동 팀 구성 중인 방은 진행하던 노드가 사라졌거나 멈췄으므로 결과가 오지 않습니다.
+    private void abandonInterruptedComposition(LiveRoom room) {
+        update(room, r -> {
+            if (COMPOSING_STATUSES.contains(r.getStatus()) && !r.isTeamsAssigned()) {
+                log.warn("Room {} was left in {} without team assignments, reopening it", r.getRoomCode(), r.getStatus());
+                r.changeStatus(GameRoomStatus.WAITING, null);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 반영하지 못한 변경을 버리고 방을 메모리에서 내린 뒤 DB 상태로 다시 올립니다.
+     * 다시 올린 방은 이전 sequence를 하나 건너뛰고 현재 상태를 알리므로, 클라이언트는 누락으로 보고 스냅샷을 다시 받습니다.
+     */
+    private void reload(LiveRoom room) {
+        String roomCode = room.getRoomCode();
+        ReentrantLock stripe = stripeOf(roomCode);
+        stripe.lock();
+        try {
+            read(room, r -> {
+                r.evict();
+                return null;
+            });
+            rooms.remove(roomCode, room);
+            notifyEvicted(roomCode);
+            LiveRoom reloaded = load(roomCode, room.getSequence() + 1);
+            if (reloaded == null) {
+                ownership.release(roomCode);
+                return;
+            }
+            rooms.put(roomCode, reloaded);
+            update(reloaded, r -> {
+                r.announceReload();
+                return null;
+            });
+            abandonInterruptedComposition(reloaded);
+        } catch (RuntimeException e) {
+            // DB를 읽지 못하면 메모리에서 내린 상태로 두고, 다음 조회 때 (어느 노드든) 다시 로딩합니다.
+            log.error("Failed to reload room {} after a persist failure", roomCode, e);
+            ownership.release(roomCode);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    // write-behind 큐 항목: 방 하나에서 한 번의 update로 발생한 변경, 또는 그 방의 flush 표식
+    private sealed interface QueueItem {
+    }
+
+    private record Write(LiveRoom room, List<RoomChange> changes) implements QueueItem {
+    }
+
+    private record Barrier(LiveRoom room, CompletableFuture<Void> done) implements QueueItem {
+    }
+}
@@ -0,0 +1,57 @@
+package com.nexus.service;
+
+import com.nexus.entity.GameRoomParticipant;
+import com.nexus.repository.GameRoomParticipantRepository;
+import com.nexus.repository.GameRoomRepository;
+import com.nexus.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * RoomStateEngine의 write-behind 큐에서 꺼낸 한 방의 변경 사항을 한 트랜잭션으로 DB에 반영합니다.
+ * 엔티티 그래프를 다시 로딩하지 않도록 참조(getReference)와 벌크 UPDATE만 사용합니다.
+ * 먼저 방 버전을 expectedVersion에서 하나 올리고, 그 사이 다른 곳에서 방을 바꿔 버전이 다르면
+ * 아무것도 반영하지 않고 OptimisticLockingFailureException을 던집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStatePersister {
+
+    private final GameRoomRepository gameRoomRepository;
+    private final GameRoomParticipantRepository participantRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * @return 반영 후 방 버전
+     */
+    @Transactional
+    public long apply(Long roomId, long expectedVersion, List<RoomChange> changes) {
+        if (gameRoomRepository.incrementVersion(roomId, expectedVersion) == 0) {
+            throw new OptimisticLockingFailureException("방 " + roomId + "이(가) 버전 " + expectedVersion + " 이후 다른 곳에서 변경되었습니다.");
+        }
+        for (RoomChange change : changes) {
+            if (change instanceof RoomChange.ParticipantJoined joined) {
+                GameRoomParticipant participant = new GameRoomParticipant();
+                participant.setGameRoom(gameRoomRepository.getReferenceById(joined.roomId()));
+                participant.setUser(userRepository.getReferenceById(joined.userId()));
+                participant.setJoinedAt(joined.joinedAt());
+                participantRepository.save(participant);
+            } else if (change instanceof RoomChange.TeamAssigned assigned) {
+                participantRepository.updateAssignment(assigned.roomId(), assigned.userId(),
+                        assigned.matchNumber(), assigned.teamNumber(), assigned.lane());
+            } else if (change instanceof RoomChange.LanesChanged lanes) {
+                participantRepository.updateLanes(lanes.roomId(), lanes.userId(), lanes.primaryLane(), lanes.secondaryLane());
+            } else if (change instanceof RoomChange.StatusChanged statusChanged) {
+                gameRoomRepository.updateStatus(statusChanged.roomId(), statusChanged.status(), statusChanged.method());
+            }
+        }
+        log.debug("Persisted {} state changes for room {}", changes.size(), roomId);
+        return expectedVersion + 1;
+    }
+}
@@ -0,0 +1,207 @@
+package com.nexus.service;
+
+import com.nexus.entity.Lane;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 참가자 점수(RankRating)를 기준으로 두 팀의 점수 합 차이가 최소가 되도록 나눕니다.
+ * - 20명 이하(10명 매치 포함)는 가능한 분할을 모두 확인해 최적 해를 고릅니다 (20명도 약 9만 가지).
+ * - 그보다 많으면 1) 인원 제약이 있는 Karmarkar–Karp(balanced largest differencing)로 초기 해를 만들고
+ *   2) 시간 예산 안에서 팀 간 1:1 교환으로 차이를 더 줄입니다. 이 경우 최적 해는 보장하지 않습니다.
+ * 50명 로비도 수 ms 안에 끝납니다.
+ */
+@Component
+public class TeamBalancer {
+
+    // 모든 분할을 확인하는 최대 인원 (C(19, 9) = 92,378가지)
+    static final int EXACT_MAX_PLAYERS = 20;
+
+    private final long timeBudgetNanos;
+
+    public TeamBalancer(@Value("${team-balance.time-budget-ms:20}") long timeBudgetMs) {
+        this.timeBudgetNanos = timeBudgetMs * 1_000_000L;
+    }
+
+    // 선호 라인은 LaneAssignmentSolver에서만 사용합니다 (null이면 상관없음).
+    public record Player(Long userId, int rating, Lane primaryLane, Lane secondaryLane) {
+    }
+
+    /**
+     * @param players 짝수 명의 참가자
+     * @return userId → 팀 번호(1 또는 2)
+     */
+    public Map<Long, Integer> balance(List<Player> players) {
+        return balance(players, System.nanoTime() + timeBudgetNanos);
+    }
+
+    // 여러 그룹을 나눌 때처럼 호출자가 전체 시간 예산을 관리하는 경우 사용합니다.
+    Map<Long, Integer> balance(List<Player> players, long deadline) {
+        if (players.size() % 2 != 0) {
+            throw new IllegalStateException("팀을  나누기 위한 참가자 수가 홀수입니다.");
+        }
+
+        Split split;
+        if (players.size() <= EXACT_MAX_PLAYERS) {
+            split = exhaustive(players);
+        } else {
+            split = largestDifferencing(players);
+            improveBySwaps(split, deadline);
+        }
+
+        Map<Long, Integer> teamNumbers = new LinkedHashMap<>();
+        split.teamA.forEach(player -> teamNumbers.put(player.userId(), 1));
+        split.teamB.forEach(player -> teamNumbers.put(player.userId(), 2));
+        return teamNumbers;
+    }
+
+    // 0번 참가자를 항상 A팀에 두어 팀만 뒤바뀐 분할은 한 번만 봅니다.
+    // A팀의 나머지 n/2 - 1명을 비트마스크로 고르며, 같은 비트 수의 다음 마스크는 Gosper's hack으로 구합니다.
+    private Split exhaustive(List<Player> players) {
+        Split split = new Split();
+        int size = players.size();
+        if (size == 0) {
+            return split;
+        }
+        long total = 0;
+        for (Player player : players) {
+            total += player.rating();
+        }
+
+        int others = size - 1;
+        int limit = 1 << others;
+        int mask = (1 << (size / 2 - 1)) - 1;
+        int bestMask = mask;
+        long bestDiff = Long.MAX_VALUE;
+        while (mask < limit) {
+            long sumA = players.get(0).rating();
+            for (int bits = mask; bits != 0; bits &= bits - 1) {
+                sumA += players.get(Integer.numberOfTrailingZeros(bits) + 1).rating();
+            }
+            long diff = Math.abs(2 * sumA - total);
+            if (diff < bestDiff) {
+                bestDiff = diff;
+                bestMask = mask;
+                if (diff <= 1) {
+                    break;
+                }
+            }
+            if (mask == 0) {
+                break;
+            }
+            int lowest = mask & -mask;
+            int carried = mask + lowest;
+            mask = (((carried ^ mask) >>> 2) / lowest) | carried;
+        }
+
+        split.add(players.get(0), true);
+        for (int i = 1; i < size; i++) {
+            split.add(players.get(i), (bestMask & (1 << (i - 1))) != 0);
+        }
+        if (split.diff < 0) {
+            split.flip();
+        }
+        return split;
+    }
+
+    // 점수순으로 인접한 두 명을 서로 다른 팀에 넣은 부분 해들을, 차이가 큰 것끼리 반대로 합쳐 나갑니다.
+    // 매 단계 양쪽 인원이 같게 유지되므로 결과는 항상 n/2 : n/2 입니다.
+    private Split largestDifferencing(List<Player> players) {
+        List<Player> sorted = new ArrayList<>(players);
+        sorted.sort(Comparator.comparingInt(Player::rating).reversed());
+
+        PriorityQueue<Split> queue = new PriorityQueue<>(Comparator.comparingLong((Split split) -> split.diff).reversed());
+        for (int i = 0; i + 1 < sorted.size(); i += 2) {
+            Split split = new Split();
+            split.add(sorted.get(i), true);
+            split.add(sorted.get(i + 1), false);
+            queue.add(split);
+        }
+        if (queue.isEmpty()) {
+            return new Split();
+        }
+
+        while (queue.size() > 1) {
+            Split larger = queue.poll();
+            Split smaller = queue.poll();
+            // 큰 쪽끼리 반대편에 두어 차이를 상쇄
+            larger.teamA.addAll(smaller.teamB);
+            larger.teamB.addAll(smaller.teamA);
+            larger.sumA += smaller.sumB;
+            larger.sumB += smaller.sumA;
+            larger.diff = larger.sumA - larger.sumB;
+            if (larger.diff < 0) {
+                larger.flip();
+            }
+            queue.add(larger);
+        }
+        return queue.poll();
+    }
+
+    // 차이를 가장 많이 줄이는 교환을 반복합니다. 개선이 없거나 시간 예산을 넘으면 종료합니다.
+    private void improveBySwaps(Split split, long deadline) {
+        while (split.diff != 0 && System.nanoTime() < deadline) {
+            long bestDiff = Math.abs(split.diff);
+            int bestA = -1;
+            int bestB = -1;
+            for (int i = 0; i < split.teamA.size(); i++) {
+                int ratingA = split.teamA.get(i).rating();
+                for (int j = 0; j < split.teamB.size(); j++) {
+                    long delta = 2L * (ratingA - split.teamB.get(j).rating());
+                    long newDiff = Math.abs(split.diff - delta);
+                    if (newDiff < bestDiff) {
+                        bestDiff = newDiff;
+                        bestA = i;
+                        bestB = j;
+                    }
+                }
+            }
+            if (bestA < 0) {
+                return;
+            }
+            Player fromA = split.teamA.get(bestA);
+            Player fromB = split.teamB.get(bestB);
+            split.teamA.set(bestA, fromB);
+            split.teamB.set(bestB, fromA);
+            split.sumA += fromB.rating() - fromA.rating();
+            split.sumB += fromA.rating() - fromB.rating();
+            split.diff = split.sumA - split.sumB;
+        }
+    }
+
+    private static class Split {
+        private List<Player> teamA = new ArrayList<>();
+        private List<Player> teamB = new ArrayList<>();
+        private long sumA;
+        private long sumB;
+        private long diff;
+
+        private void add(Player player, boolean toA) {
+            if (toA) {
+                teamA.add(player);
+                sumA += player.rating();
+            } else {
+                teamB.add(player);
+                sumB += player.rating();
+            }
+            diff = sumA - sumB;
+        }
+
+        private void flip() {
+            List<Player> team = teamA;
+            teamA = teamB;
+            teamB = team;
+            long sum = sumA;
+            sumA = sumB;
+            sumB = sum;
+            diff = -diff;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexus.service;
 
+import com.nexus.dto.RiotApiDto;
 import com.nexus.entity.Role;
 import com.nexus.entity.User;
 import com.nexus.repository.UserRepository;
@@ -9,11 +10,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserService {
 
+    private static final String SOLO_QUEUE = "RANKED_SOLO_5x5";
+    private static final String FLEX_QUEUE = "RANKED_FLEX_SR";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -29,6 +35,52 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    /**
+     * Riot 계정(PUUID/Riot ID)을 사용자에 연결합니다. 이미 다른 사용자에 연결된 PUUID면 건너뜁니다.
+     */
+    @Transactional
+    public void linkRiotAccount(Long userId, RiotApiDto.Account account) {
+        if (userRepository.findByPuuid(account.getPuuid()).isPresent()) {
+            log.info("Riot account {} is already linked to another user, skipping user {}", account.getPuuid(), userId);
+            return;
+        }
+        userRepository.findById(userId).ifPresent(user -> {
+            user.setPuuid(account.getPuuid());
+            user.setRiotId(account.getGameName() + "#" + account.getTagLine());
+        });
+    }
+
+    /**
+     * Riot API에서 받은 솔로/자유 랭크 정보를 사용자에 반영합니다. 바뀐 값이 없으면 저장하지 않습니다.
+     */
+    @Transactional
+    public void applyRank(Long userId, RiotApiDto.RankProfile profile) {
+        userRepository.findById(userId).ifPresent(user -> {
+            RiotApiDto.LeagueEntry solo = profile.entry(SOLO_QUEUE);
+            RiotApiDto.LeagueEntry flex = profile.entry(FLEX_QUEUE);
+            String soloTier = solo != null ? solo.getTier() : null;
+            String soloRank = solo != null ? solo.getRank() : null;
+            int soloPoints = solo != null ? solo.getLeaguePoints() : 0;
+            String flexTier = flex != null ? flex.getTier() : null;
+            String flexRank = flex != null ? flex.getRank() : null;
+            int flexPoints = flex != null ? flex.getLeaguePoints() : 0;
+
+            if (Objects.equals(soloTier, user.getSoloTier()) && Objects.equals(soloRank, user.getSoloRank())
+                    && soloPoints == user.getSoloLeaguePoints()
+                    && Objects.equals(flexTier, user.getFlexTier()) && Objects.equals(flexRank, user.getFlexRank())
+                    && flexPoints == user.getFlexLeaguePoints()) {
+                return;
+            }
+            user.setSoloTier(soloTier);
+            user.setSoloRank(soloRank);
+            user.setSoloLeaguePoints(soloPoints);
+            user.setFlexTier(flexTier);
+            user.setFlexRank(flexRank);
+            user.setFlexLeaguePoints(flexPoints);
+            log.debug("Rank updated for user {}: {} {} {}LP", userId, soloTier, soloRank, soloPoints);
+        });
+    }
+
     public boolean verifyPassword(User user, String rawPassword) {
         return passwordEncoder.matches(rawPassword, user.getPasswordHash());
     }
@@ -47,7 +99,7 @@ public class UserService {
         user.setEmail(email);
         user.setNickname(nickname);
         user.setRole(Role.USER);
-        user.setProfileImageUrl(profileImageUrl);
+        user.setAvatarUrl(profileImageUrl);
         // OAuth2 사용자는 패스워드가 없으므로 랜덤 해시 설정
         user.setPasswordHash(passwordEncoder.encode("oauth2-" + providerId + "-" + System.currentTimeMillis()));
 
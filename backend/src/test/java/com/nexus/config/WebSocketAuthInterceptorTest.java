@@ -0,0 +1,88 @@
+package com.nexus.config;
+
+import com.nexus.security.JwtTokenManager;
+import com.nexus.service.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class WebSocketAuthInterceptorTest {
+
+    private JwtEncoder jwtEncoder;
+    private WebSocketAuthInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", "test-secret-that-is-long-enough-for-hs256!!");
+        SecretKey key = jwtConfig.jwtSecretKey();
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        jwtEncoder = jwtConfig.jwtEncoder(key);
+        interceptor = new WebSocketAuthInterceptor(new JwtTokenManager(redisTemplate, mock(AuditService.class),
+                jwtEncoder, jwtConfig.jwtDecoder(key)));
+    }
+
+    @Test
+    @DisplayName("CONNECT의 Bearer 토큰이 유효하면 JWT subject(userId)를 세션 사용자로 설정한다")
+    void validTokenAuthenticatesTheSession() {
+        Message<?> result = interceptor.preSend(connect("Bearer " + token("access")), mock(MessageChannel.class));
+
+        assertThat(StompHeaderAccessor.wrap(result).getUser().getName()).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 유효하지 않은 CONNECT는 거절한다")
+    void missingOrInvalidTokenIsRejected() {
+        assertThatThrownBy(() -> interceptor.preSend(connect(null), mock(MessageChannel.class)))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect("Bearer not-a-jwt"), mock(MessageChannel.class)))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect("Bearer " + token("refresh")), mock(MessageChannel.class)))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    private String token(String type) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject("42")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(60))
+                .id(UUID.randomUUID().toString())
+                .claim("type", type)
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+    }
+
+    private static Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,85 @@
+package com.nexus.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WebSocketSlowConsumerInterceptorTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final WebSocketSlowConsumerInterceptor interceptor = interceptor(2);
+
+    private static WebSocketSlowConsumerInterceptor interceptor(int threshold) {
+        WebSocketTransportProperties properties = new WebSocketTransportProperties();
+        properties.setSlowConsumerThreshold(threshold);
+        return new WebSocketSlowConsumerInterceptor(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("전송되지 못한 메시지는 대기 수에서 빠지므로 세션이 계속 느린 상태로 남지 않는다")
+    void unsentMessagesAreReleased() {
+        connect();
+
+        // 출력 실행기가 대기열이 가득 차 작업을 거절한 경우
+        for (int i = 0; i < 5; i++) {
+            Message<?> event = roomEvent();
+            assertThat(interceptor.preSend(event, channel)).isNotNull();
+            interceptor.afterSendCompletion(event, channel, false, new IllegalStateException("rejected"));
+        }
+
+        assertThat(interceptor.preSend(roomEvent(), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대기 메시지가 임계치를 넘으면 방 이벤트를 버리고, 처리되면 다시 보낸다")
+    void roomEventsAreDroppedWhileOverThreshold() {
+        connect();
+        Message<?> first = roomEvent();
+        interceptor.preSend(first, channel);
+        interceptor.preSend(roomEvent(), channel);
+
+        assertThat(interceptor.preSend(roomEvent(), channel)).isNull();
+
+        interceptor.afterMessageHandled(first, channel, null, null);
+        assertThat(interceptor.preSend(roomEvent(), channel)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("연결이 끊긴 세션에 늦게 도착한 메시지는 세션 항목을 다시 만들지 않는다")
+    void disconnectedSessionIsNotTrackedAgain() {
+        connect();
+        interceptor.onDisconnect(new SessionDisconnectEvent(this, roomEvent(), SESSION_ID, CloseStatus.NORMAL));
+
+        // 추적하지 않는 세션이므로 몇 번을 보내도 버리지 않습니다.
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(roomEvent(), channel)).isNotNull();
+        }
+    }
+
+    private void connect() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(SESSION_ID);
+        interceptor.onConnect(new SessionConnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private static Message<byte[]> roomEvent() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination("/topic/rooms/ROOM");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
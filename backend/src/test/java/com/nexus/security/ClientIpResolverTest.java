@@ -0,0 +1,44 @@
+package com.nexus.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver clientIpResolver = new ClientIpResolver();
+
+    @Test
+    @DisplayName("X-Forwarded-For의 첫 번째 주소, X-Real-IP, 연결 주소 순으로 클라이언트 IP를 정한다")
+    void resolvesInHeaderOrder() {
+        MockHttpServletRequest forwarded = new MockHttpServletRequest();
+        forwarded.addHeader("X-Forwarded-For", " 203.0.113.7 , 10.0.0.1, 10.0.0.2");
+        forwarded.addHeader("X-Real-IP", "198.51.100.1");
+        assertThat(clientIpResolver.resolve(forwarded)).isEqualTo("203.0.113.7");
+
+        MockHttpServletRequest realIp = new MockHttpServletRequest();
+        realIp.addHeader("X-Forwarded-For", "unknown");
+        realIp.addHeader("X-Real-IP", "198.51.100.1");
+        assertThat(clientIpResolver.resolve(realIp)).isEqualTo("198.51.100.1");
+
+        MockHttpServletRequest direct = new MockHttpServletRequest();
+        direct.setRemoteAddr("192.0.2.10");
+        assertThat(clientIpResolver.resolve(direct)).isEqualTo("192.0.2.10");
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 처음 구한 IP를 요청 속성에서 다시 사용한다")
+    void resultIsCachedPerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        String first = clientIpResolver.resolve(request);
+        request.removeHeader("X-Forwarded-For");
+        request.addHeader("X-Forwarded-For", "203.0.113.99");
+
+        assertThat(clientIpResolver.resolve(request)).isSameAs(first);
+        assertThat(request.getAttribute(ClientIpResolver.ATTRIBUTE)).isEqualTo("203.0.113.7");
+    }
+}
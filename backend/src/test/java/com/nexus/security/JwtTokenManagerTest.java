@@ -0,0 +1,113 @@
+package com.nexus.security;
+
+import com.nexus.config.JwtConfig;
+import com.nexus.service.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtTokenManagerTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private JwtDecoder jwtDecoder;
+    private final AtomicInteger decodes = new AtomicInteger();
+    private JwtTokenManager jwtTokenManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", "test-secret-that-is-long-enough-for-hs256!!");
+        SecretKey key = jwtConfig.jwtSecretKey();
+        jwtDecoder = jwtConfig.jwtDecoder(key);
+
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        // 디코딩 횟수를 세는 디코더
+        JwtDecoder countingDecoder = token -> {
+            decodes.incrementAndGet();
+            return jwtDecoder.decode(token);
+        };
+        jwtTokenManager = new JwtTokenManager(redisTemplate, mock(AuditService.class),
+                jwtConfig.jwtEncoder(key), countingDecoder);
+        ReflectionTestUtils.setField(jwtTokenManager, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenManager, "refreshTokenExpiration", 604800L);
+    }
+
+    @Test
+    @DisplayName("발급한 액세스 토큰은 같은 키의 디코더로 읽히고 클레임과 고유 ID(jti)를 담는다")
+    void accessTokenRoundTrip() {
+        String token = jwtTokenManager.generateAccessToken("42", "user@nexus.gg", "nick", "USER");
+
+        Jwt jwt = jwtTokenManager.decodeAccessToken(token);
+
+        assertThat(jwt.getSubject()).isEqualTo("42");
+        assertThat(jwt.getClaimAsString("email")).isEqualTo("user@nexus.gg");
+        assertThat(jwt.getClaimAsString("preferred_username")).isEqualTo("nick");
+        assertThat(jwt.getClaimAsString("role")).isEqualTo("USER");
+        assertThat(jwt.getHeaders()).containsEntry("alg", "HS256");
+        assertThat(jwt.getId()).isNotBlank()
+                .isNotEqualTo(jwtDecoder.decode(jwtTokenManager.generateAccessToken("42", "", "", "USER")).getId());
+    }
+
+    @Test
+    @DisplayName("저장된 리프레시 토큰으로 새 액세스 토큰을 받고, 토큰 종류가 다르면 거절한다")
+    void refreshTokenRoundTrip() {
+        String refreshToken = jwtTokenManager.generateRefreshToken("42");
+        verify(valueOperations).set("jwt:refresh:42", refreshToken, 604800L, TimeUnit.SECONDS);
+        when(valueOperations.get("jwt:refresh:42")).thenReturn(refreshToken);
+
+        String accessToken = jwtTokenManager.refreshAccessToken(refreshToken);
+
+        assertThat(jwtTokenManager.decodeAccessToken(accessToken).getSubject()).isEqualTo("42");
+        assertThatThrownBy(() -> jwtTokenManager.decodeAccessToken(refreshToken)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenManager.refreshAccessToken(accessToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 확인과 등록은 토큰을 한 번만 파싱하고 jti로 키를 만든다")
+    void blacklistDecodesOnce() {
+        String token = jwtTokenManager.generateAccessToken("42", "user@nexus.gg", "nick", "USER");
+        String key = "jwt:blacklist:" + jwtDecoder.decode(token).getId();
+        when(redisTemplate.hasKey(key)).thenReturn(false, true);
+
+        decodes.set(0);
+        assertThat(jwtTokenManager.isTokenBlacklisted(token)).isFalse();
+        assertThat(decodes.get()).isEqualTo(1);
+
+        decodes.set(0);
+        jwtTokenManager.blacklistToken(token, "42", "logout");
+        assertThat(decodes.get()).isEqualTo(1);
+        verify(valueOperations).set(eq(key), eq("logout"), anyLong(), eq(TimeUnit.SECONDS));
+
+        decodes.set(0);
+        assertThatThrownBy(() -> jwtTokenManager.decodeAccessToken(token)).isInstanceOf(JwtException.class);
+        assertThat(decodes.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 토큰은 차단된 것으로 본다")
+    void malformedTokenIsTreatedAsBlacklisted() {
+        assertThat(jwtTokenManager.isTokenBlacklisted("not-a-jwt")).isTrue();
+    }
+}
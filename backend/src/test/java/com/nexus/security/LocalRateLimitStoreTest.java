@@ -0,0 +1,72 @@
+package com.nexus.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRateLimitStoreTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private static RateLimitRule rule(long capacity, Duration period) {
+        return new RateLimitRule("test", List.of(new RateLimitRule.Limit(capacity, period)));
+    }
+
+    @Test
+    @DisplayName("서로 다른 키가 계속 들어와도 버킷 수는 최대 개수를 넘지 않는다")
+    void bucketCountIsBounded() throws InterruptedException {
+        LocalRateLimitStore store = new LocalRateLimitStore(registry, 1_000, 120_000);
+        RateLimitRule rule = rule(60, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 20_000; i++) {
+            store.tryConsume("10.0.0." + i + ":/api/games/{roomCode}", rule);
+        }
+
+        // 제거는 Caffeine 유지 작업에서 비동기로 일어나므로 반영될 때까지 기다립니다.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (bucketCount() > 1_000 && System.currentTimeMillis() < deadline) {
+            store.tryConsume("10.0.0.0:/api/games/{roomCode}", rule);
+            Thread.sleep(10);
+        }
+        assertThat(bucketCount()).isLessThanOrEqualTo(1_000);
+        assertThat(registry.get("cache.evictions").tag("cache", "rate-limit.buckets").functionCounter().count())
+                .isGreaterThanOrEqualTo(19_000);
+    }
+
+    @Test
+    @DisplayName("요청이 없던 버킷은 유휴 시간이 지나면 제거되고 가득 찬 새 버킷으로 시작한다")
+    void idleBucketIsExpired() throws InterruptedException {
+        LocalRateLimitStore store = new LocalRateLimitStore(registry, 1_000, 100);
+        RateLimitRule rule = rule(1, Duration.ofHours(1));
+        String key = "10.0.0.1:/api/games/{roomCode}";
+
+        assertThat(store.tryConsume(key, rule)).isTrue();
+        assertThat(store.tryConsume(key, rule)).isFalse();
+
+        Thread.sleep(200);
+        assertThat(store.tryConsume(key, rule)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한도가 바뀌어도 버킷을 새로 만들지 않으므로 이미 쓴 토큰 수는 그대로 이어진다")
+    void policyChangeKeepsConsumedTokens() {
+        LocalRateLimitStore store = new LocalRateLimitStore(registry, 1_000, 120_000);
+        String key = "10.0.0.1:/api/games/{roomCode}";
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryConsume(key, rule(5, Duration.ofMinutes(1)))).isTrue();
+        }
+
+        // 한도를 10으로 늘려도 남은 토큰 0개가 유지됩니다.
+        assertThat(store.tryConsume(key, rule(10, Duration.ofMinutes(1)))).isFalse();
+    }
+
+    private double bucketCount() {
+        return registry.get("cache.size").tag("cache", "rate-limit.buckets").gauge().value();
+    }
+}
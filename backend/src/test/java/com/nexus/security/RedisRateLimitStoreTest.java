@@ -0,0 +1,172 @@
+package com.nexus.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisRateLimitStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private RedisRateLimitStore store(long leaseTtlMs) {
+        return store(10, 0.1, leaseTtlMs);
+    }
+
+    private RedisRateLimitStore store(int maxBatch, double batchRatio, long leaseTtlMs) {
+        return new RedisRateLimitStore(redisTemplate, new LocalRateLimitStore(registry, 1_000, 120_000), registry,
+                maxBatch, batchRatio, leaseTtlMs, "local", 5_000, 1_000);
+    }
+
+    private double redisCalls() {
+        return registry.get("nexus.rate_limit.redis.calls").counter().count();
+    }
+
+    private static RateLimitRule rule(long capacity, Duration period) {
+        return new RateLimitRule("test", List.of(new RateLimitRule.Limit(capacity, period)));
+    }
+
+    @Test
+    @DisplayName("한도보다 느리게 꾸준히 요청하는 사용자는 lease에서 버려지는 토큰이 있어도 거절되지 않는다")
+    void steadyClientUnderTheLimitIsNeverRejected() throws InterruptedException {
+        // 분당 60회 한도에 1.1초 간격 요청을 10배 빠르게 줄인 것: 6초에 60회(100ms마다 1개 충전), 110ms 간격, lease 100ms.
+        RedisRateLimitStore store = store(100);
+        RateLimitRule rule = rule(60, Duration.ofSeconds(6));
+        String key = "steady:" + UUID.randomUUID();
+
+        for (int i = 0; i < 40; i++) {
+            assertThat(store.tryConsume(key, rule)).as("request %d", i + 1).isTrue();
+            Thread.sleep(110);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드에 번갈아 들어오는 꾸준한 요청도 다른 노드의 lease에 토큰이 묶여 거절되지 않는다")
+    void steadyClientAcrossNodesIsNeverRejected() throws InterruptedException {
+        // 6초에 120회(50ms마다 1개 충전), 두 노드에 번갈아 55ms 간격, lease 200ms (노드마다 최대 4개까지 받아 둠).
+        List<RedisRateLimitStore> nodes = List.of(store(200), store(200));
+        RateLimitRule rule = rule(120, Duration.ofSeconds(6));
+        String key = "nodes:" + UUID.randomUUID();
+
+        for (int i = 0; i < 150; i++) {
+            assertThat(nodes.get(i % 2).tryConsume(key, rule)).as("request %d", i + 1).isTrue();
+            Thread.sleep(55);
+        }
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 요청은 노드의 lease와 관계없이 거절된다")
+    void burstOverTheLimitIsRejected() {
+        RedisRateLimitStore store = store(1_000);
+        RateLimitRule rule = rule(20, Duration.ofMinutes(1));
+        String key = "burst:" + UUID.randomUUID();
+
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (store.tryConsume(key, rule)) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("lease 크기는 보관 시간 동안 채워지는 토큰 수, 한도 비율, max-batch 중 가장 작은 값이다")
+    void batchSizeIsBoundedByRefillDuringLease() {
+        RedisRateLimitStore store = store(1_000);
+
+        // 분당 60회: 1초에 1개 충전 → 1
+        assertThat(store.batchSize(rule(60, Duration.ofMinutes(1)).limits())).isEqualTo(1);
+        // 분당 600회: 1초에 10개 충전, 한도 비율 60, max-batch 10 → 10
+        assertThat(store.batchSize(rule(600, Duration.ofMinutes(1)).limits())).isEqualTo(10);
+        // 분당 300회: 1초에 5개 충전 → 5
+        assertThat(store.batchSize(rule(300, Duration.ofMinutes(1)).limits())).isEqualTo(5);
+        // 여러 한도 중 가장 작은 값 (분당 600회 + 1초 20회 버스트 → 비율 기준 2)
+        assertThat(store.batchSize(List.of(
+                new RateLimitRule.Limit(600, Duration.ofMinutes(1)),
+                new RateLimitRule.Limit(20, Duration.ofSeconds(1))))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 토큰을 묶어 받으므로 요청 수보다 Redis 호출이 적다")
+    void defaultConfigurationLeasesTokens() throws IOException {
+        Properties defaults = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        RedisRateLimitStore store = store(
+                Integer.parseInt(defaults.getProperty("rate-limit.redis.max-batch")),
+                Double.parseDouble(defaults.getProperty("rate-limit.redis.batch-ratio")),
+                Long.parseLong(defaults.getProperty("rate-limit.redis.lease-ttl-ms")));
+        RateLimitRule general = rule(Long.parseLong(defaults.getProperty("rate-limit.general-requests-per-minute")),
+                Duration.ofMinutes(1));
+        String key = "default:" + UUID.randomUUID();
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(store.tryConsume(key, general)).as("request %d", i + 1).isTrue();
+        }
+
+        // 분당 60회, 보관 5초 → 5개씩
+        assertThat(redisCalls()).isLessThan(30).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("거절된 키는 다음 토큰이 찰 때까지 Redis를 부르지 않고 바로 거절한다")
+    void deniedKeyIsRejectedLocallyUntilRefill() throws InterruptedException {
+        RedisRateLimitStore store = store(1_000);
+        // 1초에 1개씩 충전
+        RateLimitRule rule = rule(3, Duration.ofSeconds(3));
+        String key = "denied:" + UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryConsume(key, rule)).isTrue();
+        }
+        for (int i = 0; i < 50; i++) {
+            assertThat(store.tryConsume(key, rule)).isFalse();
+        }
+        assertThat(redisCalls()).isEqualTo(4);
+        assertThat(registry.get("nexus.rate_limit.redis.local_denials").counter().count()).isEqualTo(49);
+
+        Thread.sleep(1_100);
+        assertThat(store.tryConsume(key, rule)).isTrue();
+        assertThat(redisCalls()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,106 @@
+package com.nexus.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestClassifierTest {
+
+    // 컨트롤러에 등록된 경로와, 트라이의 변수/나머지 전체 처리를 확인하기 위한 패턴
+    private static final List<String> TEMPLATES = List.of(
+            "/api/auth/login",
+            "/api/auth/register",
+            "/api/auth/email/code",
+            "/api/auth/email/verify",
+            "/api/games",
+            "/api/games/{roomCode}",
+            "/api/games/{roomCode}/join",
+            "/api/games/{roomCode}/lanes",
+            "/api/games/my",
+            "/api/stats/users/{userId}",
+            "/api/stats/users/{userId}/head-to-head/{opponentId}",
+            "/api/users/me",
+            "/api/users/password",
+            "/api/admin/match-callbacks/replay",
+            "/api/public/riot/callback",
+            "/api/files/{name}.json",
+            "/api/files/{*path}",
+            "/static/**",
+            "/");
+
+    private final RequestClassifier requestClassifier = new RequestClassifier();
+
+    @BeforeEach
+    void setUp() {
+        requestClassifier.load(TEMPLATES);
+    }
+
+    @Test
+    @DisplayName("트라이 매칭 결과는 Spring PathPattern을 구체성 순으로 검사한 결과와 같다")
+    void matchesLikeSpringPathPatterns() {
+        List<PathPattern> reference = TEMPLATES.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .sorted(PathPattern.SPECIFICITY_COMPARATOR)
+                .toList();
+        List<String> uris = List.of(
+                "/", "/api/games", "/api/games/", "/api/games/my", "/api/games/AB12CD", "/api/games/AB12CD/join",
+                "/api/games/my/join", "/api/games/AB12CD/lanes/extra", "/api/auth/login", "/api/auth/email/code",
+                "/api/stats/users/7", "/api/stats/users/7/head-to-head/9", "/api/stats/users/7/head-to-head",
+                "/api/users/me", "/api/users/password", "/api/admin/match-callbacks/replay",
+                "/api/files/report.json", "/api/files/a/b/c", "/static/js/app.js", "/unknown", "/api/unknown/x");
+
+        for (String uri : uris) {
+            String expected = reference.stream()
+                    .filter(pattern -> pattern.matches(PathContainer.parsePath(uri)))
+                    .map(PathPattern::getPatternString)
+                    .findFirst()
+                    .orElse(null);
+            RequestClassifier.Route route = requestClassifier.classify(uri);
+
+            if (expected == null) {
+                assertThat(route.template()).as(uri).startsWith("(unmatched)");
+            } else {
+                assertThat(route.template()).as(uri).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("템플릿마다 한도 종류와 버킷 키 접미사가 미리 정해져 있고, 같은 템플릿은 같은 분류 객체를 돌려준다")
+    void routesArePrecomputed() {
+        RequestClassifier.Route join = requestClassifier.classify("/api/games/AB12CD/join");
+
+        assertThat(join.tier()).isEqualTo(RateLimitTier.GENERAL);
+        assertThat(join.keySuffix()).isEqualTo(":/api/games/{roomCode}/join");
+        assertThat(requestClassifier.classify("/api/games/ZZ99XX/join")).isSameAs(join);
+        assertThat(requestClassifier.classify("/api/auth/login").tier()).isEqualTo(RateLimitTier.AUTH);
+        assertThat(requestClassifier.classify("/api/users/password").tier()).isEqualTo(RateLimitTier.SENSITIVE);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 경로는 원래 URI의 한도 종류별로 한 분류를 같이 쓴다")
+    void unmatchedPathsShareOneRoutePerTier() {
+        RequestClassifier.Route general = requestClassifier.classify("/api/unknown/" + System.nanoTime());
+        RequestClassifier.Route auth = requestClassifier.classify("/api/auth/unknown");
+
+        assertThat(general.template()).isEqualTo("(unmatched)general");
+        assertThat(requestClassifier.classify("/api/other/path")).isSameAs(general);
+        assertThat(auth.template()).isEqualTo("(unmatched)auth");
+        assertThat(auth.tier()).isEqualTo(RateLimitTier.AUTH);
+    }
+
+    @Test
+    @DisplayName("모양이 같은 템플릿은 먼저 등록된 것 하나로 묶는다")
+    void sameShapeKeepsFirstTemplate() {
+        requestClassifier.load(List.of("/api/games/{roomCode}", "/api/games/{code}"));
+
+        assertThat(requestClassifier.classify("/api/games/AB12CD").template()).isEqualTo("/api/games/{roomCode}");
+    }
+}
@@ -0,0 +1,163 @@
+package com.nexus.service;
+
+import com.nexus.config.AuctionProperties;
+import com.nexus.dto.ApiResponse;
+import com.nexus.dto.AuctionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuctionEngineTest {
+
+    private static final String ROOM_CODE = "AUCTION";
+
+    private final List<Sent> sent = new ArrayList<>();
+    private final RoomEventRelay relay = (destination, payload) -> {
+        synchronized (sent) {
+            sent.add(new Sent(destination, payload));
+        }
+    };
+    private final RoomStateEngine roomStateEngine = mock(RoomStateEngine.class);
+    private AuctionEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    private void startAuction(long lotDurationMs, long bidExtensionMs) throws InterruptedException {
+        AuctionProperties properties = new AuctionProperties();
+        properties.setLotDurationMs(lotDurationMs);
+        properties.setBidExtensionMs(bidExtensionMs);
+        properties.setLotIntervalMs(50);
+        properties.setEventLoopThreads(1);
+        engine = new AuctionEngine(properties, relay, roomStateEngine, new SimpleMeterRegistry());
+
+        // 점수가 높은 10번, 9번이 팀장이 되고 나머지는 점수순으로 매물에 오릅니다.
+        List<AuctionRoom.Bidder> bidders = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            bidders.add(new AuctionRoom.Bidder(id, "user" + id, "summoner" + id, (int) id * 100));
+        }
+        engine.start(ROOM_CODE, bidders);
+        await(event(AuctionDto.Type.LOT_OPENED));
+    }
+
+    @Test
+    @DisplayName("팀장이 아니거나 최소 금액/예산/매물 번호가 맞지 않는 입찰은 입찰자에게만 사유를 보내고 거절한다")
+    void invalidBidsAreRejectedToTheBidderOnly() throws InterruptedException {
+        startAuction(10_000, 1_000);
+
+        engine.bid(ROOM_CODE, 1L, bid(1, 50));
+        engine.bid(ROOM_CODE, 10L, bid(1, 5));
+        engine.bid(ROOM_CODE, 10L, bid(1, 50));
+        engine.bid(ROOM_CODE, 10L, bid(1, 60));
+        engine.bid(ROOM_CODE, 9L, bid(1, 55));
+        engine.bid(ROOM_CODE, 9L, bid(1, 2_000));
+        engine.bid(ROOM_CODE, 9L, bid(2, 100));
+        // 스냅샷은 같은 이벤트 루프에서 읽으므로 앞의 입찰이 모두 처리된 뒤에 반환됩니다.
+        AuctionDto.State state = engine.snapshot(ROOM_CODE).orElseThrow();
+
+        assertThat(state.getCurrentLot().getHighestBid()).isEqualTo(50);
+        assertThat(state.getCurrentLot().getHighestBidder()).isEqualTo("user10");
+        assertThat(rejections("/user/1/queue/errors")).containsExactly("팀장만 입찰할 수 있습니다.");
+        assertThat(rejections("/user/10/queue/errors"))
+                .containsExactly("최소 입찰 금액은 10입니다.", "이미 최고 입찰자입니다.");
+        assertThat(rejections("/user/9/queue/errors"))
+                .containsExactly("최소 입찰 금액은 60입니다.", "보유 포인트가 부족합니다.", "입찰이 마감된 매물입니다.");
+        assertThat(events(AuctionDto.Type.BID_ACCEPTED)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마감 직전 입찰은 마감 시간을 늘리고, 늘어난 시간이 지나야 낙찰된다")
+    void lastSecondBidExtendsTheLot() throws InterruptedException {
+        startAuction(300, 1_000);
+        AuctionDto.Lot lot = (AuctionDto.Lot) events(AuctionDto.Type.LOT_OPENED).get(0).getPayload();
+
+        long bidAt = System.currentTimeMillis();
+        engine.bid(ROOM_CODE, 10L, bid(1, 50));
+        AuctionDto.Event accepted = await(event(AuctionDto.Type.BID_ACCEPTED));
+        long extendedEndsAt = ((AuctionDto.BidAccepted) accepted.getPayload()).getEndsAt();
+        assertThat(extendedEndsAt).isGreaterThanOrEqualTo(bidAt + 1_000).isGreaterThan(lot.getEndsAt());
+
+        // 원래 마감 시간이 지나도 아직 낙찰되지 않습니다.
+        Thread.sleep(Math.max(0, lot.getEndsAt() + 200 - System.currentTimeMillis()));
+        assertThat(events(AuctionDto.Type.LOT_SOLD)).isEmpty();
+
+        AuctionDto.Event sold = await(event(AuctionDto.Type.LOT_SOLD));
+        assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(extendedEndsAt);
+        assertThat(((AuctionDto.LotSold) sold.getPayload()).getCaptain()).isEqualTo("user10");
+        assertThat(((AuctionDto.LotSold) sold.getPayload()).getPrice()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("방이 메모리에서 내려가면 경매를 중단으로 알리고 더 이상 입찰을 받지 않는다")
+    void evictedRoomCancelsTheAuction() throws InterruptedException {
+        startAuction(10_000, 1_000);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(roomStateEngine).onEvicted(listener.capture());
+
+        listener.getValue().accept(ROOM_CODE);
+
+        await(event(AuctionDto.Type.AUCTION_CANCELLED));
+        assertThatThrownBy(() -> engine.bid(ROOM_CODE, 10L, bid(1, 50)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(engine.snapshot(ROOM_CODE)).isEmpty();
+    }
+
+    private static AuctionDto.BidRequest bid(int lotNumber, int amount) {
+        AuctionDto.BidRequest request = new AuctionDto.BidRequest();
+        request.setLotNumber(lotNumber);
+        request.setAmount(amount);
+        return request;
+    }
+
+    private static Predicate<Sent> event(AuctionDto.Type type) {
+        return sent -> sent.payload() instanceof AuctionDto.Event event && event.getType() == type;
+    }
+
+    private List<AuctionDto.Event> events(AuctionDto.Type type) {
+        synchronized (sent) {
+            return sent.stream().filter(event(type)).map(s -> (AuctionDto.Event) s.payload()).toList();
+        }
+    }
+
+    private List<String> rejections(String destination) {
+        synchronized (sent) {
+            return sent.stream()
+                    .filter(s -> s.destination().equals(destination))
+                    .map(s -> ((ApiResponse<?>) s.payload()).getError())
+                    .toList();
+        }
+    }
+
+    private AuctionDto.Event await(Predicate<Sent> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            synchronized (sent) {
+                for (Sent s : sent) {
+                    if (condition.test(s)) {
+                        return (AuctionDto.Event) s.payload();
+                    }
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("expected auction event was not published");
+    }
+
+    private record Sent(String destination, Object payload) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.nexus.service;
+
+import com.nexus.config.RankSyncProperties;
+import com.nexus.dto.RiotApiDto;
+import com.nexus.repository.UserRankBatchRepository.RankSyncTarget;
+import com.nexus.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RankSyncJobTest {
+
+    private static final String LOCK_KEY = "rank-sync:active:lock";
+    private static final String CURSOR_KEY = "rank-sync:active:cursor";
+    private static final int CHUNK_SIZE = 2;
+    private static final int LAST_USER_ID = 8;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private UserRepository userRepository;
+    private RiotProfileCache riotProfileCache;
+    private final RankSyncProperties properties = new RankSyncProperties();
+    private RankSyncJob job;
+    // 청크를 읽을 때마다 본 잠금 키의 값
+    private final List<String> locksSeen = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of(LOCK_KEY, CURSOR_KEY, "rank-sync:active:cycle-started"));
+
+        // 청크마다 id가 이어지는 사용자 두 명씩, LAST_USER_ID 이후로는 비어 있음
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findRankSyncTargets(anyLong(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            locksSeen.add(String.valueOf(redisTemplate.opsForValue().get(LOCK_KEY)));
+            if (afterId >= LAST_USER_ID) {
+                return List.of();
+            }
+            return List.of(new RankSyncTarget(afterId + 1, "puuid-" + (afterId + 1)),
+                    new RankSyncTarget(afterId + 2, "puuid-" + (afterId + 2)));
+        });
+
+        // Riot 조회 한 건에 250ms가 걸려 청크 하나가 약 500ms
+        riotProfileCache = mock(RiotProfileCache.class);
+        when(riotProfileCache.loadRank(anyString(), any())).thenAnswer(invocation -> CompletableFuture.supplyAsync(
+                RiotApiDto.RankProfile::new, CompletableFuture.delayedExecutor(250, TimeUnit.MILLISECONDS)));
+
+        properties.setChunkSize(CHUNK_SIZE);
+        properties.setChunksPerRun(LAST_USER_ID / CHUNK_SIZE);
+        properties.setConcurrency(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("청크마다 잠금 TTL을 연장하므로 TTL보다 오래 걸리는 실행도 끝날 때까지 잠금을 쥐고 있다")
+    void renewsLockAfterEachChunk() {
+        properties.setLockTtlMs(1_500);
+        job().run(RankSyncJob.Pass.ACTIVE);
+
+        // 청크 4개 x 약 500ms로 TTL(1.5초)을 넘기지만 마지막 청크를 읽을 때도 잠금이 남아 있다.
+        assertThat(locksSeen).hasSize(LAST_USER_ID / CHUNK_SIZE).doesNotContain("null");
+        assertThat(locksSeen).containsOnly(locksSeen.get(0));
+        assertThat(redisTemplate.opsForValue().get(CURSOR_KEY)).isEqualTo(String.valueOf(LAST_USER_ID));
+        assertThat(redisTemplate.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행 중 잠금을 잃으면 다른 노드의 잠금과 커서를 건드리지 않고 멈춘다")
+    void stopsWhenLockIsLost() {
+        when(userRepository.findRankSyncTargets(anyLong(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            if (afterId == CHUNK_SIZE) {
+                // 두 번째 청크를 읽는 사이 TTL이 지나 다른 노드가 잠금을 잡았다고 가정
+                redisTemplate.opsForValue().set(LOCK_KEY, "other-node");
+            }
+            return List.of(new RankSyncTarget(afterId + 1, "puuid-" + (afterId + 1)),
+                    new RankSyncTarget(afterId + 2, "puuid-" + (afterId + 2)));
+        });
+
+        properties.setLockTtlMs(60_000);
+        job().run(RankSyncJob.Pass.ACTIVE);
+
+        verify(userRepository, times(2)).findRankSyncTargets(anyLong(), any(), any(), anyInt());
+        verify(userRepository, times(2)).updateRanks(anyList(), any());
+        assertThat(redisTemplate.opsForValue().get(CURSOR_KEY)).isEqualTo(String.valueOf(CHUNK_SIZE));
+        assertThat(redisTemplate.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+    }
+
+    private RankSyncJob job() {
+        job = new RankSyncJob(userRepository, riotProfileCache, redisTemplate, properties, new SimpleMeterRegistry());
+        return job;
+    }
+}
@@ -0,0 +1,222 @@
+package com.nexus.service;
+
+import com.nexus.config.RoomOwnershipProperties;
+import com.nexus.entity.User;
+import com.nexus.repository.GameRoomRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisRoomOwnershipTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<RedisRoomOwnership> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void stopNodes() throws Exception {
+        for (RedisRoomOwnership node : nodes) {
+            node.destroy();
+        }
+    }
+
+    private RedisRoomOwnership node(long leaseTtlMs, long renewIntervalMs) {
+        RoomOwnershipProperties properties = new RoomOwnershipProperties();
+        properties.setLeaseTtlMs(leaseTtlMs);
+        properties.setRenewIntervalMs(renewIntervalMs);
+        properties.setRequestTimeoutMs(2_000);
+        RedisRoomOwnership node = new RedisRoomOwnership(redisTemplate, connectionFactory, properties);
+        node.afterPropertiesSet();
+        nodes.add(node);
+        return node;
+    }
+
+    @Test
+    @DisplayName("방은 한 노드만 소유하고, 소유 노드가 내려놓으면 다른 노드가 가져간다")
+    void onlyOneNodeOwnsARoom() {
+        RedisRoomOwnership first = node(10_000, 1_000);
+        RedisRoomOwnership second = node(10_000, 1_000);
+        String roomCode = "R" + UUID.randomUUID();
+
+        RoomOwnership.Claim claimed = first.claim(roomCode);
+        assertThat(claimed.owned()).isTrue();
+        assertThat(claimed.ownerNodeId()).isEqualTo(first.getNodeId());
+        assertThat(first.claim(roomCode)).isEqualTo(claimed);
+        assertThat(second.claim(roomCode)).isEqualTo(new RoomOwnership.Claim(false, first.getNodeId(), claimed.epoch()));
+        assertThat(first.confirm(roomCode)).isTrue();
+        assertThat(second.confirm(roomCode)).isFalse();
+
+        first.release(roomCode);
+        assertThat(first.confirm(roomCode)).isFalse();
+        assertThat(second.claim(roomCode))
+                .isEqualTo(new RoomOwnership.Claim(true, second.getNodeId(), claimed.epoch() + 1));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 다시 올린 방은 이전 소유 때보다 큰 sequence에서 이벤트를 이어간다")
+    void sequenceKeepsIncreasingAcrossOwners() throws InterruptedException {
+        String roomCode = "R" + UUID.randomUUID();
+        GameRoomRepository gameRoomRepository = mock(GameRoomRepository.class);
+        when(gameRoomRepository.findDetailByRoomCode(roomCode))
+                .thenAnswer(invocation -> Optional.of(RoomStateEngineTest.gameRoom(1L, roomCode, 10)));
+
+        RoomStateEngine first = engine(gameRoomRepository, node(10_000, 1_000));
+        LiveRoom before = first.find(roomCode).orElseThrow();
+        first.admit(before, RoomStateEngineTest.user(1), r -> null);
+        first.stop();
+
+        RoomStateEngine second = engine(gameRoomRepository, node(10_000, 1_000));
+        try {
+            LiveRoom after = second.find(roomCode).orElseThrow();
+            assertThat(after.getSequence()).isGreaterThan(before.getSequence());
+        } finally {
+            second.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("임대를 갱신하지 못하면 소유권을 잃었다고 알린다")
+    void lostLeaseIsReported() throws InterruptedException {
+        RedisRoomOwnership node = node(10_000, 50);
+        String roomCode = "R" + UUID.randomUUID();
+        CountDownLatch lost = new CountDownLatch(1);
+        node.onLost(code -> {
+            if (code.equals(roomCode)) {
+                lost.countDown();
+            }
+        });
+
+        node.claim(roomCode);
+        // 다른 노드가 만료 후 가져간 상황
+        redisTemplate.opsForValue().set("room:{" + roomCode + "}:owner", "other-node");
+
+        assertThat(lost.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(node.confirm(roomCode)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드로 보낸 요청은 그 노드의 핸들러가 처리해 응답한다")
+    void requestIsAnsweredByTheTargetNode() throws Exception {
+        RedisRoomOwnership caller = node(10_000, 1_000);
+        RedisRoomOwnership owner = node(10_000, 1_000);
+        owner.onRequest(request -> "handled:" + request);
+
+        CompletableFuture<String> reply = caller.send(owner.getNodeId(), "{\"type\":\"SNAPSHOT\"}", 2_000);
+
+        assertThat(reply.get(2, TimeUnit.SECONDS)).isEqualTo("handled:{\"type\":\"SNAPSHOT\"}");
+    }
+
+    @Test
+    @DisplayName("두 노드로 동시에 참가해도 소유 노드 한 곳에서만 좌석을 배정하므로 정원을 넘지 않는다")
+    void concurrentJoinsAcrossNodesNeverExceedCapacity() throws Exception {
+        String roomCode = "R" + UUID.randomUUID();
+        GameRoomRepository gameRoomRepository = mock(GameRoomRepository.class);
+        when(gameRoomRepository.findDetailByRoomCode(roomCode))
+                .thenAnswer(invocation -> Optional.of(RoomStateEngineTest.gameRoom(1L, roomCode, 20)));
+
+        RedisRoomOwnership firstNode = node(10_000, 1_000);
+        RedisRoomOwnership secondNode = node(10_000, 1_000);
+        RoomStateEngine first = engine(gameRoomRepository, firstNode);
+        RoomStateEngine second = engine(gameRoomRepository, secondNode);
+        // RoomCommandRouter가 하는 일: 소유 노드가 아니면 소유 노드의 엔진에서 처리
+        Map<String, RoomStateEngine> enginesByNode = Map.of(
+                firstNode.getNodeId(), first, secondNode.getNodeId(), second);
+
+        int joiners = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger forwarded = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 1; i <= joiners; i++) {
+                User user = RoomStateEngineTest.user(i);
+                RoomStateEngine entry = i % 2 == 0 ? first : second;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    RoomStateEngine owner = entry;
+                    LiveRoom room;
+                    try {
+                        room = entry.find(roomCode).orElseThrow();
+                    } catch (RoomOwnedElsewhereException e) {
+                        forwarded.incrementAndGet();
+                        owner = enginesByNode.get(e.getOwnerNodeId());
+                        room = owner.find(roomCode).orElseThrow();
+                    }
+                    try {
+                        owner.admit(room, user, r -> null);
+                        admitted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // 정원 초과
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdown();
+            first.stop();
+            second.stop();
+        }
+
+        assertThat(admitted.get()).isEqualTo(19);
+        assertThat(forwarded.get()).isGreaterThan(0);
+    }
+
+    private static RoomStateEngine engine(GameRoomRepository gameRoomRepository, RoomOwnership ownership) {
+        RoomStateEngine engine = new RoomStateEngine(gameRoomRepository, mock(RoomStatePersister.class),
+                mock(RoomEventPublisher.class), ownership);
+        engine.start();
+        return engine;
+    }
+}
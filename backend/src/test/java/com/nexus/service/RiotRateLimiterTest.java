@@ -0,0 +1,136 @@
+package com.nexus.service;
+
+import com.nexus.config.RiotApiProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 서버가 Riot API처럼 한도 헤더와 429를 돌려주게 하고, RiotRateLimiter를 건 WebClient로 호출합니다.
+ */
+class RiotRateLimiterTest {
+
+    private HttpServer server;
+    private RiotRateLimiter limiter;
+    private final RiotApiProperties properties = new RiotApiProperties();
+    // 순서대로 돌려줄 응답 (비면 헤더 없는 200)
+    private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    // 서버가 요청을 받은 시각 (ns)
+    private final List<Long> arrivals = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            arrivals.add(System.nanoTime());
+            StubResponse response = responses.poll();
+            if (response == null) {
+                response = new StubResponse(200, Map.of());
+            }
+            response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            exchange.sendResponseHeaders(response.status(), -1);
+            exchange.close();
+        });
+        server.start();
+
+        properties.getRateLimit().setMaxJitterMs(0);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        if (limiter != null) {
+            limiter.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("응답의 X-App-Rate-Limit으로 버킷 한도를 바꾸고, 토큰이 없으면 실패하지 않고 다음 충전까지 기다린다")
+    void reconfiguresBucketFromResponseHeaders() {
+        properties.getRateLimit().setDefaultAppLimits("100:1");
+        properties.getRateLimit().setMaxWaitMs(5_000);
+        responses.add(new StubResponse(200, Map.of("X-App-Rate-Limit", "2:1")));
+        WebClient client = client();
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(call(client)).isEqualTo(200);
+        }
+
+        // 기본 한도(초당 100회)였다면 바로 끝났을 6번째 요청이, 초당 2회로 바뀐 뒤에는 충전을 두 번 기다린다.
+        assertThat(arrivals).hasSize(6);
+        assertThat(millisBetween(0, 5)).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("429 응답은 Retry-After만큼 멈춘 뒤 다시 요청해 성공 응답을 돌려준다")
+    void retriesAfterRetryAfterOnTooManyRequests() {
+        responses.add(new StubResponse(429, Map.of(
+                "Retry-After", "1",
+                "X-Rate-Limit-Type", "method",
+                "X-Method-Rate-Limit", "100:1")));
+        WebClient client = client();
+
+        assertThat(call(client)).isEqualTo(200);
+
+        assertThat(arrivals).hasSize(2);
+        assertThat(millisBetween(0, 1)).isGreaterThanOrEqualTo(950);
+    }
+
+    @Test
+    @DisplayName("토큰을 기다려야 하는 시간이 maxWaitMs를 넘으면 요청을 보내지 않고 바로 실패한다")
+    void rejectsWhenWaitExceedsMaxWait() {
+        properties.getRateLimit().setDefaultAppLimits("1:10");
+        properties.getRateLimit().setMaxWaitMs(100);
+        WebClient client = client();
+
+        assertThat(call(client)).isEqualTo(200);
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> call(client))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간을 초과");
+
+        assertThat(arrivals).hasSize(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+    }
+
+    private WebClient client() {
+        limiter = new RiotRateLimiter(properties);
+        return WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .filter(limiter)
+                .build();
+    }
+
+    private int call(WebClient client) {
+        return client.get()
+                .uri("/lol/league/v4/entries/by-puuid/{puuid}", "puuid-1")
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofSeconds(10))
+                .getStatusCode()
+                .value();
+    }
+
+    private long millisBetween(int from, int to) {
+        return TimeUnit.NANOSECONDS.toMillis(arrivals.get(to) - arrivals.get(from));
+    }
+
+    private record StubResponse(int status, Map<String, String> headers) {
+    }
+}
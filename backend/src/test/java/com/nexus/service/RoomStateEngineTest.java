@@ -0,0 +1,322 @@
+package com.nexus.service;
+
+import com.nexus.entity.GameRoom;
+import com.nexus.entity.GameRoomParticipant;
+import com.nexus.entity.GameRoomStatus;
+import com.nexus.entity.User;
+import com.nexus.repository.GameRoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomStateEngineTest {
+
+    private GameRoomRepository gameRoomRepository;
+    private RoomStatePersister persister;
+    private RoomStateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        gameRoomRepository = mock(GameRoomRepository.class);
+        persister = mock(RoomStatePersister.class);
+        engine = new RoomStateEngine(gameRoomRepository, persister, mock(RoomEventPublisher.class), new LocalRoomOwnership());
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("한 방의 DB 반영이 끝내 실패하면 그 방만 내려 DB 상태로 다시 올리고, 같은 묶음의 다른 방은 반영된다")
+    void persistFailureReloadsOnlyThatRoom() {
+        stubRoom(1L, "FAILING", 10);
+        stubRoom(2L, "HEALTHY", 10);
+        doAnswer(invocation -> {
+            List<RoomChange> changes = invocation.getArgument(2);
+            if (changes.get(0) instanceof RoomChange.ParticipantJoined joined && joined.roomId() == 1L) {
+                throw new IllegalStateException("db down");
+            }
+            return null;
+        }).when(persister).apply(anyLong(), anyLong(), anyList());
+
+        LiveRoom failing = engine.find("FAILING").orElseThrow();
+        LiveRoom healthy = engine.find("HEALTHY").orElseThrow();
+        engine.admit(failing, user(1), r -> null);
+        engine.admit(healthy, user(2), r -> null);
+
+        assertThatThrownBy(() -> engine.flush(failing)).isInstanceOf(IllegalStateException.class);
+        engine.flush(healthy);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RoomChange>> persisted = ArgumentCaptor.forClass(List.class);
+        verify(persister, atLeastOnce()).apply(anyLong(), anyLong(), persisted.capture());
+        assertThat(persisted.getAllValues()).anySatisfy(changes -> assertThat(changes.get(0))
+                .isInstanceOfSatisfying(RoomChange.ParticipantJoined.class,
+                        joined -> assertThat(joined.roomId()).isEqualTo(2L)));
+
+        // 내려간 방은 더 이상 바꿀 수 없고, 다시 조회하면 DB 상태(방장 한 명)로 올라오며 sequence를 하나 건너뜁니다.
+        assertThat(failing.isEvicted()).isTrue();
+        assertThatThrownBy(() -> engine.update(failing, r -> null)).isInstanceOf(IllegalStateException.class);
+        LiveRoom reloaded = engine.find("FAILING").orElseThrow();
+        assertThat(reloaded).isNotSameAs(failing);
+        assertThat(reloaded.getParticipantCount()).isEqualTo(1);
+        assertThat(reloaded.getSequence()).isEqualTo(failing.getSequence() + 2);
+    }
+
+    @Test
+    @DisplayName("모집/팀 구성 단계를 벗어난 방은 마지막 변경이 반영될 때까지 메모리에 남는다")
+    void finishedRoomIsRetiredAfterItsLastWrite() throws InterruptedException {
+        stubRoom(1L, "ROOM", 10);
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch dbAvailable = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            persisting.countDown();
+            dbAvailable.await();
+            return null;
+        }).when(persister).apply(anyLong(), anyLong(), anyList());
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+
+        engine.update(room, r -> {
+            r.changeStatus(GameRoomStatus.IN_PROGRESS, null);
+            return null;
+        });
+        persisting.await();
+        assertThat(engine.find("ROOM")).containsSame(room);
+
+        dbAvailable.countDown();
+        engine.flush(room);
+        verify(persister).apply(eq(1L), anyLong(), eq(List.of(new RoomChange.StatusChanged(1L, GameRoomStatus.IN_PROGRESS, null))));
+        when(gameRoomRepository.findDetailByRoomCode("ROOM")).thenReturn(Optional.empty());
+        assertThat(engine.find("ROOM")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게임 시작 후속 처리에 실패한 방은 이전 단계로 DB에 되돌린 뒤 다시 올린다")
+    void reopenRestoresTheEarlierStatus() {
+        GameRoom persisted = gameRoom(1L, "ROOM", 10);
+        persisted.setStatus(GameRoomStatus.AUTO_TEAM_COMPOSITION);
+        persisted.getParticipants().forEach(participant -> {
+            participant.setMatchNumber(1);
+            participant.setTeamNumber(1);
+        });
+        when(gameRoomRepository.findDetailByRoomCode("ROOM")).thenReturn(Optional.of(persisted));
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+        engine.update(room, r -> {
+            r.changeStatus(GameRoomStatus.IN_PROGRESS, null);
+            return null;
+        });
+        engine.flush(room);
+        persisted.setStatus(GameRoomStatus.IN_PROGRESS);
+        assertThat(engine.find("ROOM")).isEmpty();
+
+        doAnswer(invocation -> {
+            persisted.setStatus(GameRoomStatus.AUTO_TEAM_COMPOSITION);
+            return null;
+        }).when(persister).apply(eq(1L), anyLong(),
+                eq(List.of(new RoomChange.StatusChanged(1L, GameRoomStatus.AUTO_TEAM_COMPOSITION, null))));
+        engine.reopen(room, GameRoomStatus.AUTO_TEAM_COMPOSITION);
+
+        LiveRoom reopened = engine.find("ROOM").orElseThrow();
+        assertThat(reopened.getStatus()).isEqualTo(GameRoomStatus.AUTO_TEAM_COMPOSITION);
+        assertThat(reopened.getSequence()).isGreaterThan(room.getSequence());
+    }
+
+    @Test
+    @DisplayName("팀 배정 없이 경매/자동 팀 구성 상태로 남은 방은 다시 올릴 때 모집 단계로 되돌린다")
+    void interruptedCompositionIsReopenedOnLoad() {
+        GameRoom persisted = gameRoom(1L, "ROOM", 10);
+        persisted.setStatus(GameRoomStatus.AUCTION_IN_PROGRESS);
+        when(gameRoomRepository.findDetailByRoomCode("ROOM")).thenReturn(Optional.of(persisted));
+
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+
+        assertThat(room.getStatus()).isEqualTo(GameRoomStatus.WAITING);
+        engine.flush(room);
+        verify(persister).apply(eq(1L), anyLong(), eq(List.of(new RoomChange.StatusChanged(1L, GameRoomStatus.WAITING, null))));
+    }
+
+    @Test
+    @DisplayName("메모리에서 내려간 방을 다시 올리면 이전보다 큰 sequence에서 이벤트를 이어간다")
+    void reloadedRoomContinuesAboveEarlierSequence() {
+        stubRoom(1L, "ROOM", 10);
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+        engine.admit(room, user(1), r -> null);
+        engine.update(room, r -> {
+            r.changeStatus(GameRoomStatus.IN_PROGRESS, null);
+            return null;
+        });
+        engine.flush(room);
+
+        LiveRoom reloaded = engine.find("ROOM").orElseThrow();
+        assertThat(reloaded).isNotSameAs(room);
+        assertThat(reloaded.getSequence()).isGreaterThan(room.getSequence());
+    }
+
+    @Test
+    @DisplayName("정원보다 많은 사용자가 동시에 참가해도 정원까지만 받아들이고 그만큼만 DB에 반영한다")
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        stubRoom(1L, "FULL", 20);
+        LiveRoom room = engine.find("FULL").orElseThrow();
+        int joiners = 200;
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 1; i <= joiners; i++) {
+            User user = user(i);
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    engine.admit(room, user, r -> null);
+                    admitted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(admitted.get()).isEqualTo(19);
+        assertThat(rejected.get()).isEqualTo(joiners - 19);
+        assertThat(room.getParticipantCount()).isEqualTo(20);
+
+        engine.flush(room);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RoomChange>> persisted = ArgumentCaptor.forClass(List.class);
+        verify(persister, atLeastOnce()).apply(anyLong(), anyLong(), persisted.capture());
+        assertThat(persisted.getAllValues().stream().mapToLong(List::size).sum()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 방 행을 먼저 바꿨어도 방이 아직 모집 단계면 현재 버전으로 다시 반영한다")
+    void versionConflictRetriesAtTheCurrentVersion() {
+        stubRoom(1L, "ROOM", 10);
+        when(persister.apply(eq(1L), eq(0L), anyList()))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+        when(persister.apply(eq(1L), eq(3L), anyList())).thenReturn(4L);
+        stubVersion(1L, 3L, GameRoomStatus.WAITING);
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+
+        engine.admit(room, user(1), r -> null);
+        engine.flush(room);
+
+        assertThat(room.isEvicted()).isFalse();
+        assertThat(room.getPersistedVersion()).isEqualTo(4L);
+        assertThat(engine.find("ROOM")).containsSame(room);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 방을 모집/팀 구성 단계 밖으로 옮겼으면 변경을 버리고 DB 상태로 다시 올린다")
+    void versionConflictOnFinishedRoomReloadsIt() {
+        stubRoom(1L, "ROOM", 10);
+        when(persister.apply(eq(1L), anyLong(), anyList()))
+                .thenThrow(new OptimisticLockingFailureException("stale"));
+        stubVersion(1L, 5L, GameRoomStatus.COMPLETED);
+        LiveRoom room = engine.find("ROOM").orElseThrow();
+
+        engine.admit(room, user(1), r -> null);
+        assertThatThrownBy(() -> engine.flush(room)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(room.isEvicted()).isTrue();
+        verify(persister).apply(eq(1L), anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("진행 중이거나 끝난 방의 상세 조회는 메모리에 올리지 않고 DB에서 한 번만 읽는다")
+    void viewOfFinishedRoomLoadsItOnce() {
+        GameRoom persisted = gameRoom(1L, "ROOM", 10);
+        persisted.setStatus(GameRoomStatus.COMPLETED);
+        when(gameRoomRepository.findStatusByRoomCode("ROOM")).thenReturn(Optional.of(GameRoomStatus.COMPLETED));
+        when(gameRoomRepository.findDetailByRoomCode("ROOM")).thenReturn(Optional.of(persisted));
+
+        Optional<String> viewed = engine.view("ROOM", live -> "live", gameRoom -> gameRoom.getStatus().name());
+
+        assertThat(viewed).contains("COMPLETED");
+        verify(gameRoomRepository, times(1)).findDetailByRoomCode("ROOM");
+        assertThat(engine.view("MISSING", live -> "live", gameRoom -> "persisted")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모집 중인 방의 상세 조회는 방을 메모리에 올려 메모리 상태로 답한다")
+    void viewOfWaitingRoomUsesLiveState() {
+        stubRoom(1L, "ROOM", 10);
+        when(gameRoomRepository.findStatusByRoomCode("ROOM")).thenReturn(Optional.of(GameRoomStatus.WAITING));
+
+        Optional<Integer> viewed = engine.view("ROOM", LiveRoom::getParticipantCount, gameRoom -> -1);
+
+        assertThat(viewed).contains(1);
+        assertThat(engine.view("ROOM", LiveRoom::getParticipantCount, gameRoom -> -1)).contains(1);
+        verify(gameRoomRepository, times(1)).findDetailByRoomCode("ROOM");
+        verify(gameRoomRepository, times(1)).findStatusByRoomCode("ROOM");
+    }
+
+    private void stubVersion(long id, long version, GameRoomStatus status) {
+        GameRoomRepository.VersionView current = mock(GameRoomRepository.VersionView.class);
+        when(current.getVersion()).thenReturn(version);
+        when(current.getStatus()).thenReturn(status);
+        when(gameRoomRepository.findVersionById(id)).thenReturn(Optional.of(current));
+    }
+
+    private void stubRoom(long id, String roomCode, int maxParticipants) {
+        when(gameRoomRepository.findDetailByRoomCode(roomCode))
+                .thenAnswer(invocation -> Optional.of(gameRoom(id, roomCode, maxParticipants)));
+    }
+
+    static GameRoom gameRoom(long id, String roomCode, int maxParticipants) {
+        User host = user(1_000 + id);
+        GameRoom gameRoom = new GameRoom();
+        gameRoom.setId(id);
+        gameRoom.setRoomCode(roomCode);
+        gameRoom.setTitle("내전 " + roomCode);
+        gameRoom.setMaxParticipants(maxParticipants);
+        gameRoom.setHost(host);
+        gameRoom.setStatus(GameRoomStatus.WAITING);
+        GameRoomParticipant participant = new GameRoomParticipant();
+        participant.setUser(host);
+        participant.setGameRoom(gameRoom);
+        gameRoom.getParticipants().add(participant);
+        return gameRoom;
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@nexus.gg");
+        user.setNickname("user" + id);
+        return user;
+    }
+}
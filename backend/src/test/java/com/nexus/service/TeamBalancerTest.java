@@ -0,0 +1,88 @@
+package com.nexus.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeamBalancerTest {
+
+    private final TeamBalancer teamBalancer = new TeamBalancer(20);
+
+    @Test
+    @DisplayName("20명 이하는 모든 분할을 확인한 최소 점수 차이와 같은 결과를 낸다")
+    void smallLobbiesAreBalancedOptimally() {
+        Random random = new Random(42);
+        for (int size = 2; size <= 12; size += 2) {
+            for (int lobby = 0; lobby < 200; lobby++) {
+                List<TeamBalancer.Player> players = players(random, size);
+
+                Map<Long, Integer> teams = teamBalancer.balance(players);
+
+                assertThat(teams.values()).filteredOn(team -> team == 1).hasSize(size / 2);
+                assertThat(difference(players, teams)).as("%d players, lobby %d", size, lobby)
+                        .isEqualTo(bruteForceDifference(players));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("50명 로비도 같은 인원의 두 팀으로 나눈다")
+    void largeLobbyIsSplitEvenly() {
+        List<TeamBalancer.Player> players = players(new Random(7), 50);
+
+        Map<Long, Integer> teams = teamBalancer.balance(players);
+
+        assertThat(teams).hasSize(50);
+        assertThat(teams.values()).filteredOn(team -> team == 1).hasSize(25);
+        // 점수는 0~2999이므로 한 명 차이보다 훨씬 작아야 합니다.
+        assertThat(difference(players, teams)).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("참가자 수가 홀수면 팀을 나누지 않는다")
+    void oddLobbyIsRejected() {
+        assertThatThrownBy(() -> teamBalancer.balance(players(new Random(1), 9)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<TeamBalancer.Player> players(Random random, int size) {
+        List<TeamBalancer.Player> players = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            players.add(new TeamBalancer.Player(id, random.nextInt(3_000), null, null));
+        }
+        return players;
+    }
+
+    private static long difference(List<TeamBalancer.Player> players, Map<Long, Integer> teams) {
+        long difference = 0;
+        for (TeamBalancer.Player player : players) {
+            difference += teams.get(player.userId()) == 1 ? player.rating() : -player.rating();
+        }
+        return Math.abs(difference);
+    }
+
+    // 같은 인원으로 나누는 모든 경우를 확인합니다.
+    private static long bruteForceDifference(List<TeamBalancer.Player> players) {
+        int size = players.size();
+        long best = Long.MAX_VALUE;
+        for (int mask = 0; mask < 1 << size; mask++) {
+            if (Integer.bitCount(mask) != size / 2) {
+                continue;
+            }
+            long difference = 0;
+            for (int i = 0; i < size; i++) {
+                int rating = players.get(i).rating();
+                difference += (mask & (1 << i)) != 0 ? rating : -rating;
+            }
+            best = Math.min(best, Math.abs(difference));
+        }
+        return best;
+    }
+}